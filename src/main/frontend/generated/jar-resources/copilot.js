@@ -0,0 +1 @@
+import "./copilot/copilot-Y7NsXdwP.js";
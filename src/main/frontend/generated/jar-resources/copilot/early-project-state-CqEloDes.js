@@ -0,0 +1,6 @@
+const e = window.Vaadin.copilot._earlyProjectState;
+if (!e)
+  throw new Error("Tried to access early project state before it was initialized.");
+export {
+  e
+};
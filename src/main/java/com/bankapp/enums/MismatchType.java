@@ -0,0 +1,22 @@
+package com.bankapp.enums;
+
+public enum MismatchType {
+    // Остаток счета не равен остатку на конец последнего дня в дневных оборотах
+    ACCOUNT_BALANCE("Остаток счета не совпадает с дневными оборотами"),
+    // Остаток перед первым днем счета не равен нулю, хотя счета открываются с нулевым остатком
+    OPENING_BALANCE("Остаток на начало первого дня не равен нулю"),
+    // Остаток на конец дня не равен остатку предыдущего дня с оборотами дня
+    CLOSING_BALANCE("Остаток на конец дня не следует из оборотов"),
+    CREDIT_TURNOVER("Приход за день не совпадает с журналом"),
+    DEBIT_TURNOVER("Расход за день не совпадает с журналом");
+
+    private final String description;
+
+    MismatchType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
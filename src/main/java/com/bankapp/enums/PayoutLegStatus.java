@@ -0,0 +1,16 @@
+package com.bankapp.enums;
+
+public enum PayoutLegStatus {
+    PAID("Выплачено"),
+    REJECTED("Отклонено");
+
+    private final String description;
+
+    PayoutLegStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
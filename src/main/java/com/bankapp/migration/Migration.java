@@ -0,0 +1,67 @@
+package com.bankapp.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+// Шаг миграции схемы. Транзакционный шаг применяется целиком или не применяется вовсе;
+// нетранзакционный выполняет команды по одной (CREATE INDEX CONCURRENTLY нельзя выполнять в транзакции),
+// поэтому его команды должны быть идемпотентными.
+public class Migration {
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final boolean transactional;
+    private final String checksum;
+
+    private Migration(int version, String description, List<String> statements, boolean transactional) {
+        this.version = version;
+        this.description = description;
+        this.statements = statements;
+        this.transactional = transactional;
+        this.checksum = computeChecksum(statements);
+    }
+
+    public static Migration transactional(int version, String description, String... statements) {
+        return new Migration(version, description, List.of(statements), true);
+    }
+
+    public static Migration nonTransactional(int version, String description, String... statements) {
+        return new Migration(version, description, List.of(statements), false);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    private static String computeChecksum(List<String> statements) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String statement : statements) {
+                digest.update(statement.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Алгоритм SHA-256 недоступен", e);
+        }
+    }
+}
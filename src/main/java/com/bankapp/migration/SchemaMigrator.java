@@ -0,0 +1,217 @@
+package com.bankapp.migration;
+
+import com.bankapp.utils.ConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Применяет недостающие миграции и сверяет контрольные суммы уже примененных.
+// Несколько экземпляров приложения, стартующих одновременно, выполняют миграции по очереди.
+// На секционированной таблице CREATE INDEX CONCURRENTLY не поддерживается, поэтому команда
+// нетранзакционной миграции CREATE INDEX IF NOT EXISTS ... ON ONLY создает пустой индекс родителя,
+// а индексы секций строятся по одному CONCURRENTLY и присоединяются к нему; запись в таблицу не блокируется.
+public class SchemaMigrator {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    // Произвольный ключ advisory-блокировки, общий для всех экземпляров приложения
+    private static final long MIGRATION_LOCK_KEY = 0x62616e6b617070L;
+
+    private static final Pattern CONCURRENT_INDEX = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+CONCURRENTLY\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern PARTITIONED_INDEX = Pattern.compile(
+            "CREATE\\s+(UNIQUE\\s+)?INDEX\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)\\s+ON\\s+ONLY\\s+(\\w+)\\s+(.+)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final ConnectionPool connectionPool;
+
+    public SchemaMigrator(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public void migrate(List<Migration> migrations) throws SQLException {
+        try (Connection connection = connectionPool.getConnection()) {
+            lock(connection);
+            try {
+                createVersionTable(connection);
+                Map<Integer, String> applied = loadApplied(connection);
+
+                int appliedCount = 0;
+                for (Migration migration : migrations) {
+                    String checksum = applied.get(migration.getVersion());
+                    if (checksum != null) {
+                        if (!checksum.equals(migration.getChecksum())) {
+                            throw new SQLException("Контрольная сумма примененной миграции V" + migration.getVersion()
+                                    + " не совпадает: миграцию изменили после применения");
+                        }
+                        continue;
+                    }
+                    apply(connection, migration);
+                    appliedCount++;
+                }
+                logger.info("Схема БД актуальна, применено миграций: {}", appliedCount);
+            } finally {
+                unlock(connection);
+            }
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        logger.info("Применение миграции V{}: {}", migration.getVersion(), migration.getDescription());
+        long startedAt = System.currentTimeMillis();
+
+        if (migration.isTransactional()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : migration.getStatements()) {
+                    statement.execute(sql);
+                }
+                recordApplied(connection, migration, System.currentTimeMillis() - startedAt);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new SQLException("Ошибка при применении миграции V" + migration.getVersion(), e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : migration.getStatements()) {
+                dropInvalidIndex(connection, sql);
+                statement.execute(sql);
+                buildPartitionIndexes(connection, sql);
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Ошибка при применении миграции V" + migration.getVersion(), e);
+        }
+        recordApplied(connection, migration, System.currentTimeMillis() - startedAt);
+    }
+
+    // Индексы секций, еще не присоединенные к индексу родителя; после присоединения всех секций
+    // индекс родителя становится валидным. Новые секции получают индекс при создании
+    private void buildPartitionIndexes(Connection connection, String sql) throws SQLException {
+        Matcher matcher = PARTITIONED_INDEX.matcher(sql);
+        if (!matcher.matches()) {
+            return;
+        }
+        String unique = matcher.group(1) != null ? "UNIQUE " : "";
+        String indexName = matcher.group(2);
+        String table = matcher.group(3);
+        String definition = matcher.group(4);
+
+        String query = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass(?) AND NOT EXISTS ("
+                + "SELECT 1 FROM pg_inherits ii JOIN pg_index x ON x.indexrelid = ii.inhrelid "
+                + "WHERE ii.inhparent = to_regclass(?) AND x.indrelid = c.oid) "
+                + "ORDER BY c.relname";
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, table);
+            statement.setString(2, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitions.add(resultSet.getString(1));
+                }
+            }
+        }
+
+        for (String partition : partitions) {
+            String suffix = partition.startsWith(table + "_") ? partition.substring(table.length() + 1) : partition;
+            String partitionIndex = indexName + "_" + suffix;
+            String partitionSql = "CREATE " + unique + "INDEX CONCURRENTLY IF NOT EXISTS " + partitionIndex
+                    + " ON " + partition + " " + definition;
+            dropInvalidIndex(connection, partitionSql);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(partitionSql);
+                statement.execute("ALTER INDEX " + indexName + " ATTACH PARTITION " + partitionIndex);
+            }
+            logger.info("Индекс {} построен на секции {}", partitionIndex, partition);
+        }
+    }
+
+    // Прерванный CREATE INDEX CONCURRENTLY оставляет невалидный индекс, который IF NOT EXISTS
+    // посчитал бы готовым. Перед повторной попыткой такой индекс удаляется.
+    private void dropInvalidIndex(Connection connection, String sql) throws SQLException {
+        Matcher matcher = CONCURRENT_INDEX.matcher(sql);
+        if (!matcher.find()) {
+            return;
+        }
+        String indexName = matcher.group(1);
+        String query = "SELECT NOT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)";
+        boolean invalid;
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                invalid = resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+        if (invalid) {
+            logger.warn("Удаление невалидного индекса {} перед повторным построением", indexName);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+            }
+        }
+    }
+
+    private void createVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                    + "version INT PRIMARY KEY, "
+                    + "description VARCHAR(255) NOT NULL, "
+                    + "checksum VARCHAR(64) NOT NULL, "
+                    + "execution_time_ms BIGINT NOT NULL, "
+                    + "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP "
+                    + ")");
+        }
+    }
+
+    private Map<Integer, String> loadApplied(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt("version"), resultSet.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private void recordApplied(Connection connection, Migration migration, long executionTimeMs) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description, checksum, execution_time_ms) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, migration.getVersion());
+            statement.setString(2, migration.getDescription());
+            statement.setString(3, migration.getChecksum());
+            statement.setLong(4, executionTimeMs);
+            statement.executeUpdate();
+        }
+    }
+
+    private void lock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_lock(?)")) {
+            statement.setLong(1, MIGRATION_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, MIGRATION_LOCK_KEY);
+            statement.execute();
+        }
+    }
+}
@@ -3,14 +3,13 @@ package com.bankapp.model;
 import com.bankapp.enums.AccountStatus;
 import com.bankapp.enums.Currency;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class Account {
     private Long id;
     private String accountNumber;
-    private BigDecimal balance;
+    private Money balance;
     private AccountStatus status;
     // Не стал выносить в отдельную сущность Bank, чтобы не усложнять проект
     private String bik;
@@ -22,7 +21,7 @@ public class Account {
     public Account() {
     }
 
-    public Account(Long id, String accountNumber, BigDecimal  balance, AccountStatus status, String bik, Currency currency, Long clientId) {
+    public Account(Long id, String accountNumber, Money balance, AccountStatus status, String bik, Currency currency, Long clientId) {
         this.id = id;
         this.accountNumber = accountNumber;
         this.balance = balance;
@@ -49,11 +48,11 @@ public class Account {
         this.accountNumber = accountNumber;
     }
 
-    public BigDecimal  getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(BigDecimal  balance) {
+    public void setBalance(Money balance) {
         this.balance = balance;
     }
 
@@ -112,7 +111,7 @@ public class Account {
         if (o == null || getClass() != o.getClass()) return false;
         Account account = (Account) o;
         return id == account.id &&
-                balance.compareTo(account.balance) == 0 &&
+                Objects.equals(balance, account.balance) &&
                 clientId == account.clientId &&
                 Objects.equals(accountNumber, account.accountNumber) &&
                 Objects.equals(status, account.status) &&
@@ -0,0 +1,98 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
+
+import java.math.BigDecimal;
+
+// Условия отбора счетов в списке; незаполненное поле (null или пустая строка) не ограничивает выборку
+public class AccountFilter {
+    private AccountStatus status;
+    private Currency currency;
+    private Long clientId;
+    private String bik;
+    private BigDecimal minBalance;
+    private BigDecimal maxBalance;
+    private String accountNumberPrefix;
+
+    public AccountFilter() {
+    }
+
+    public AccountStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AccountStatus status) {
+        this.status = status;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(Currency currency) {
+        this.currency = currency;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public String getBik() {
+        return bik;
+    }
+
+    public void setBik(String bik) {
+        this.bik = bik;
+    }
+
+    public BigDecimal getMinBalance() {
+        return minBalance;
+    }
+
+    public void setMinBalance(BigDecimal minBalance) {
+        this.minBalance = minBalance;
+    }
+
+    public BigDecimal getMaxBalance() {
+        return maxBalance;
+    }
+
+    public void setMaxBalance(BigDecimal maxBalance) {
+        this.maxBalance = maxBalance;
+    }
+
+    public String getAccountNumberPrefix() {
+        return accountNumberPrefix;
+    }
+
+    public void setAccountNumberPrefix(String accountNumberPrefix) {
+        this.accountNumberPrefix = accountNumberPrefix;
+    }
+
+    public boolean isEmpty() {
+        return status == null && currency == null && clientId == null && isBlank(bik)
+                && minBalance == null && maxBalance == null && isBlank(accountNumberPrefix);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "AccountFilter{" +
+                "status=" + status +
+                ", currency=" + currency +
+                ", clientId=" + clientId +
+                ", bik='" + bik + '\'' +
+                ", minBalance=" + minBalance +
+                ", maxBalance=" + maxBalance +
+                ", accountNumberPrefix='" + accountNumberPrefix + '\'' +
+                '}';
+    }
+}
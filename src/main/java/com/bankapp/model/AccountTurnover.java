@@ -0,0 +1,87 @@
+package com.bankapp.model;
+
+import java.time.LocalDate;
+
+// Оборотная ведомость счета за период [dateFrom, dateTo] включительно:
+// остаток на начало dateFrom, приход, расход и остаток на конец dateTo
+public class AccountTurnover {
+    private Long accountId;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private Money openingBalance;
+    private Money creditTurnover;
+    private Money debitTurnover;
+    private Money closingBalance;
+
+    public AccountTurnover() {
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public void setDateFrom(LocalDate dateFrom) {
+        this.dateFrom = dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public void setDateTo(LocalDate dateTo) {
+        this.dateTo = dateTo;
+    }
+
+    public Money getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public void setOpeningBalance(Money openingBalance) {
+        this.openingBalance = openingBalance;
+    }
+
+    public Money getCreditTurnover() {
+        return creditTurnover;
+    }
+
+    public void setCreditTurnover(Money creditTurnover) {
+        this.creditTurnover = creditTurnover;
+    }
+
+    public Money getDebitTurnover() {
+        return debitTurnover;
+    }
+
+    public void setDebitTurnover(Money debitTurnover) {
+        this.debitTurnover = debitTurnover;
+    }
+
+    public Money getClosingBalance() {
+        return closingBalance;
+    }
+
+    public void setClosingBalance(Money closingBalance) {
+        this.closingBalance = closingBalance;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountTurnover{" +
+                "accountId=" + accountId +
+                ", dateFrom=" + dateFrom +
+                ", dateTo=" + dateTo +
+                ", openingBalance=" + openingBalance +
+                ", creditTurnover=" + creditTurnover +
+                ", debitTurnover=" + debitTurnover +
+                ", closingBalance=" + closingBalance +
+                '}';
+    }
+}
@@ -10,7 +10,13 @@ public class Client {
     private String inn;
     private String address;
     // Не стал создавать отдельную сущности Документы, чтобы не усложнять проект, так как требование было 1 фотография
+    // Новый скан для сохранения; при чтении не заполняется, содержимое читается потоком по запросу
     private byte[] passportScanCopy;
+    // Ссылка на скан в хранилище документов; null - скана нет или он еще не перенесен из БД
+    private String passportScanRef;
+    // Миниатюра скана для просмотра; null у сканов, загруженных до появления миниатюр
+    private String passportThumbnailRef;
+    private boolean passportScanPresent;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -74,6 +80,30 @@ public class Client {
         this.passportScanCopy = passportScanCopy;
     }
 
+    public String getPassportScanRef() {
+        return passportScanRef;
+    }
+
+    public void setPassportScanRef(String passportScanRef) {
+        this.passportScanRef = passportScanRef;
+    }
+
+    public String getPassportThumbnailRef() {
+        return passportThumbnailRef;
+    }
+
+    public void setPassportThumbnailRef(String passportThumbnailRef) {
+        this.passportThumbnailRef = passportThumbnailRef;
+    }
+
+    public boolean isPassportScanPresent() {
+        return passportScanPresent;
+    }
+
+    public void setPassportScanPresent(boolean passportScanPresent) {
+        this.passportScanPresent = passportScanPresent;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,73 @@
+package com.bankapp.model;
+
+import java.util.Objects;
+
+// Клиент без скана паспорта и служебных полей: для списков и выпадающих списков
+public class ClientSummary {
+    private final Long id;
+    private final String fullName;
+    private final String phoneNumber;
+    private final String inn;
+    private final String address;
+
+    public ClientSummary(Long id, String fullName, String phoneNumber, String inn, String address) {
+        this.id = id;
+        this.fullName = fullName;
+        this.phoneNumber = phoneNumber;
+        this.inn = inn;
+        this.address = address;
+    }
+
+    public static ClientSummary of(Client client) {
+        return new ClientSummary(client.getId(), client.getFullName(), client.getPhoneNumber(), client.getInn(),
+                client.getAddress());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getInn() {
+        return inn;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientSummary that = (ClientSummary) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(fullName, that.fullName) &&
+                Objects.equals(phoneNumber, that.phoneNumber) &&
+                Objects.equals(inn, that.inn) &&
+                Objects.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, fullName, phoneNumber, inn, address);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSummary{" +
+                "id=" + id +
+                ", fullName='" + fullName + '\'' +
+                ", phoneNumber='" + phoneNumber + '\'' +
+                ", inn='" + inn + '\'' +
+                ", address='" + address + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package com.bankapp.model;
+
+import java.time.LocalDate;
+
+// Обороты счета за день и остаток на конец дня. Строки есть только за дни с движением по счету:
+// остаток в день без строки равен остатку последней строки перед ним
+public class DailyBalance {
+    private Long accountId;
+    private LocalDate day;
+    private Money creditTurnover;
+    private Money debitTurnover;
+    private Money closingBalance;
+
+    public DailyBalance() {
+    }
+
+    public DailyBalance(Long accountId, LocalDate day, Money creditTurnover, Money debitTurnover, Money closingBalance) {
+        this.accountId = accountId;
+        this.day = day;
+        this.creditTurnover = creditTurnover;
+        this.debitTurnover = debitTurnover;
+        this.closingBalance = closingBalance;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Money getCreditTurnover() {
+        return creditTurnover;
+    }
+
+    public void setCreditTurnover(Money creditTurnover) {
+        this.creditTurnover = creditTurnover;
+    }
+
+    public Money getDebitTurnover() {
+        return debitTurnover;
+    }
+
+    public void setDebitTurnover(Money debitTurnover) {
+        this.debitTurnover = debitTurnover;
+    }
+
+    public Money getClosingBalance() {
+        return closingBalance;
+    }
+
+    public void setClosingBalance(Money closingBalance) {
+        this.closingBalance = closingBalance;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyBalance{" +
+                "accountId=" + accountId +
+                ", day=" + day +
+                ", creditTurnover=" + creditTurnover +
+                ", debitTurnover=" + debitTurnover +
+                ", closingBalance=" + closingBalance +
+                '}';
+    }
+}
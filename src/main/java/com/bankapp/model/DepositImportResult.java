@@ -0,0 +1,41 @@
+package com.bankapp.model;
+
+public class DepositImportResult {
+    private final long totalRows;
+    private final long creditedRows;
+    private final long rejectedRows;
+    private final long elapsedMs;
+
+    public DepositImportResult(long totalRows, long creditedRows, long rejectedRows, long elapsedMs) {
+        this.totalRows = totalRows;
+        this.creditedRows = creditedRows;
+        this.rejectedRows = rejectedRows;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getCreditedRows() {
+        return creditedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return "DepositImportResult{" +
+                "totalRows=" + totalRows +
+                ", creditedRows=" + creditedRows +
+                ", rejectedRows=" + rejectedRows +
+                ", elapsedMs=" + elapsedMs +
+                '}';
+    }
+}
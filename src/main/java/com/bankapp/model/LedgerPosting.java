@@ -0,0 +1,63 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+
+// Проводка для записи через групповую фиксацию: перевод (fromAccountId задан) или зачисление.
+// Сумма в копейках. У зачисления валюта берется из счета получателя, currency может быть null
+public class LedgerPosting {
+    private final Long fromAccountId;
+    private final Long toAccountId;
+    private final long amountMinorUnits;
+    private final Currency currency;
+    private final TransactionType type;
+
+    private LedgerPosting(Long fromAccountId, Long toAccountId, long amountMinorUnits, Currency currency,
+                          TransactionType type) {
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amountMinorUnits = amountMinorUnits;
+        this.currency = currency;
+        this.type = type;
+    }
+
+    public static LedgerPosting transfer(Long fromAccountId, Long toAccountId, Money amount) {
+        return new LedgerPosting(fromAccountId, toAccountId, amount.getMinorUnits(), amount.getCurrency(),
+                TransactionType.TRANSFER);
+    }
+
+    public static LedgerPosting deposit(Long toAccountId, long amountMinorUnits) {
+        return new LedgerPosting(null, toAccountId, amountMinorUnits, null, TransactionType.CREDIT);
+    }
+
+    public Long getFromAccountId() {
+        return fromAccountId;
+    }
+
+    public Long getToAccountId() {
+        return toAccountId;
+    }
+
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerPosting{" +
+                "fromAccountId=" + fromAccountId +
+                ", toAccountId=" + toAccountId +
+                ", amountMinorUnits=" + amountMinorUnits +
+                ", currency=" + currency +
+                ", type=" + type +
+                '}';
+    }
+}
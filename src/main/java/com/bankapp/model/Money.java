@@ -0,0 +1,170 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.Currency;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Денежная сумма в копейках (центах) с валютой. В БД суммы хранятся как DECIMAL(15, 2),
+// в приложении вся арифметика идет над long: без BigDecimal и с проверкой переполнения.
+public final class Money implements Comparable<Money> {
+    // Число знаков после запятой в столбцах DECIMAL(15, 2)
+    public static final int SCALE = 2;
+    private static final long MINOR_PER_UNIT = 100;
+
+    private static final Map<Currency, Money> ZEROS = new EnumMap<>(Currency.class);
+
+    static {
+        for (Currency currency : Currency.values()) {
+            ZEROS.put(currency, new Money(0, currency));
+        }
+    }
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Не указана валюта суммы");
+        }
+        return minorUnits == 0 ? ZEROS.get(currency) : new Money(minorUnits, currency);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        return ofMinor(toMinorUnits(amount), currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return ofMinor(0, currency);
+    }
+
+    // Сумма, введенная пользователем или пришедшая из внешней системы; дробная часть не длиннее копеек
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount.scale() > SCALE && amount.stripTrailingZeros().scale() > SCALE) {
+            throw new IllegalArgumentException("Сумма " + amount.toPlainString()
+                    + " содержит больше " + SCALE + " знаков после запятой");
+        }
+        try {
+            return amount.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Сумма " + amount.toPlainString() + " вне допустимого диапазона");
+        }
+    }
+
+    // Разбор текстового значения DECIMAL из драйвера ("-1234.5", "10.00") без создания BigDecimal
+    public static Money parse(String value, Currency currency) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        if (index == length) {
+            throw new NumberFormatException("Некорректная сумма: " + value);
+        }
+
+        long minorUnits = 0;
+        int fractionDigits = -1;
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || fractionDigits == SCALE) {
+                throw new NumberFormatException("Некорректная сумма: " + value);
+            }
+            minorUnits = Math.addExact(Math.multiplyExact(minorUnits, 10), c - '0');
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        for (int i = Math.max(fractionDigits, 0); i < SCALE; i++) {
+            minorUnits = Math.multiplyExact(minorUnits, 10);
+        }
+        return ofMinor(negative ? -minorUnits : minorUnits, currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void checkCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Нельзя сравнивать и складывать суммы в разных валютах: "
+                    + currency + " и " + other.currency);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Money money = (Money) o;
+        return minorUnits == money.minorUnits && currency == money.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    // Сумма без валюты, как в столбце DECIMAL: "1234.50", "-0.05"
+    @Override
+    public String toString() {
+        long absolute = Math.abs(minorUnits);
+        long fraction = absolute % MINOR_PER_UNIT;
+        return (minorUnits < 0 ? "-" : "") + absolute / MINOR_PER_UNIT + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
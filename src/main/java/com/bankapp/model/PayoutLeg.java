@@ -0,0 +1,30 @@
+package com.bankapp.model;
+
+import java.math.BigDecimal;
+
+// Одна строка массовой выплаты: счет получателя и сумма
+public class PayoutLeg {
+    private final Long targetAccountId;
+    private final BigDecimal amount;
+
+    public PayoutLeg(Long targetAccountId, BigDecimal amount) {
+        this.targetAccountId = targetAccountId;
+        this.amount = amount;
+    }
+
+    public Long getTargetAccountId() {
+        return targetAccountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutLeg{" +
+                "targetAccountId=" + targetAccountId +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.PayoutLegStatus;
+
+public class PayoutLegResult {
+    private final PayoutLeg leg;
+    private final PayoutLegStatus status;
+    // Причина отказа; null для выплаченной строки
+    private final String reason;
+
+    public PayoutLegResult(PayoutLeg leg, PayoutLegStatus status, String reason) {
+        this.leg = leg;
+        this.status = status;
+        this.reason = reason;
+    }
+
+    public PayoutLeg getLeg() {
+        return leg;
+    }
+
+    public PayoutLegStatus getStatus() {
+        return status;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public boolean isPaid() {
+        return status == PayoutLegStatus.PAID;
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutLegResult{" +
+                "leg=" + leg +
+                ", status=" + status +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.MismatchType;
+
+import java.time.LocalDate;
+
+// Расхождение, найденное сверкой: expected - значение по журналу или по предыдущему дню,
+// actual - сохраненное значение. day пуст для расхождения остатка счета
+public class ReconciliationMismatch {
+    private Long accountId;
+    private LocalDate day;
+    private MismatchType type;
+    private Money expected;
+    private Money actual;
+
+    public ReconciliationMismatch() {
+    }
+
+    public ReconciliationMismatch(Long accountId, LocalDate day, MismatchType type, Money expected, Money actual) {
+        this.accountId = accountId;
+        this.day = day;
+        this.type = type;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public MismatchType getType() {
+        return type;
+    }
+
+    public void setType(MismatchType type) {
+        this.type = type;
+    }
+
+    public Money getExpected() {
+        return expected;
+    }
+
+    public void setExpected(Money expected) {
+        this.expected = expected;
+    }
+
+    public Money getActual() {
+        return actual;
+    }
+
+    public void setActual(Money actual) {
+        this.actual = actual;
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationMismatch{" +
+                "accountId=" + accountId +
+                ", day=" + day +
+                ", type=" + type +
+                ", expected=" + expected +
+                ", actual=" + actual +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.bankapp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Итог сверки. Список расхождений ограничен, mismatchCount - полное число.
+// rootHash - корень дерева контрольных сумм всех диапазонов в шестнадцатеричном виде
+public class ReconciliationReport {
+    private int rangeCount;
+    private int skippedRanges;
+    private int verifiedDays;
+    private long mismatchCount;
+    private List<ReconciliationMismatch> mismatches = new ArrayList<>();
+    private String rootHash;
+    private long elapsedMs;
+
+    public ReconciliationReport() {
+    }
+
+    public int getRangeCount() {
+        return rangeCount;
+    }
+
+    public void setRangeCount(int rangeCount) {
+        this.rangeCount = rangeCount;
+    }
+
+    public int getSkippedRanges() {
+        return skippedRanges;
+    }
+
+    public void setSkippedRanges(int skippedRanges) {
+        this.skippedRanges = skippedRanges;
+    }
+
+    public int getVerifiedDays() {
+        return verifiedDays;
+    }
+
+    public void setVerifiedDays(int verifiedDays) {
+        this.verifiedDays = verifiedDays;
+    }
+
+    public long getMismatchCount() {
+        return mismatchCount;
+    }
+
+    public void setMismatchCount(long mismatchCount) {
+        this.mismatchCount = mismatchCount;
+    }
+
+    public List<ReconciliationMismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(List<ReconciliationMismatch> mismatches) {
+        this.mismatches = mismatches;
+    }
+
+    public String getRootHash() {
+        return rootHash;
+    }
+
+    public void setRootHash(String rootHash) {
+        this.rootHash = rootHash;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationReport{" +
+                "rangeCount=" + rangeCount +
+                ", skippedRanges=" + skippedRanges +
+                ", verifiedDays=" + verifiedDays +
+                ", mismatchCount=" + mismatchCount +
+                ", rootHash='" + rootHash + '\'' +
+                ", elapsedMs=" + elapsedMs +
+                '}';
+    }
+}
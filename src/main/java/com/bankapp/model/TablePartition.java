@@ -0,0 +1,45 @@
+package com.bankapp.model;
+
+import java.time.LocalDateTime;
+
+// Секция таблицы, секционированной по диапазону дат. Границы: from включительно, to исключительно;
+// null означает MINVALUE/MAXVALUE, у секции по умолчанию границ нет.
+public class TablePartition {
+    private final String name;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final boolean defaultPartition;
+
+    public TablePartition(String name, LocalDateTime from, LocalDateTime to, boolean defaultPartition) {
+        this.name = name;
+        this.from = from;
+        this.to = to;
+        this.defaultPartition = defaultPartition;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public boolean isDefaultPartition() {
+        return defaultPartition;
+    }
+
+    @Override
+    public String toString() {
+        return "TablePartition{" +
+                "name='" + name + '\'' +
+                ", from=" + from +
+                ", to=" + to +
+                ", defaultPartition=" + defaultPartition +
+                '}';
+    }
+}
@@ -3,7 +3,6 @@ package com.bankapp.model;
 import com.bankapp.enums.Currency;
 import com.bankapp.enums.TransactionType;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -12,7 +11,7 @@ public class Transaction {
     private Long id;
     private Long fromAccount;
     private Long toAccount;
-    private BigDecimal amount;
+    private Money amount;
     private Currency currency;
     private LocalDateTime transactionDate;
     private TransactionType type;
@@ -20,11 +19,11 @@ public class Transaction {
     public Transaction() {
     }
 
-    public Transaction(Long fromAccount, Long toAccount, BigDecimal amount, Currency currency, LocalDateTime transactionDate, TransactionType type) {
+    public Transaction(Long fromAccount, Long toAccount, Money amount, LocalDateTime transactionDate, TransactionType type) {
         this.fromAccount = fromAccount;
         this.toAccount = toAccount;
         this.amount = amount;
-        this.currency = currency;
+        this.currency = amount.getCurrency();
         this.transactionDate = transactionDate;
         this.type = type;
     }
@@ -53,12 +52,14 @@ public class Transaction {
         this.toAccount = toAccount;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(BigDecimal amount) {
+    // Валюта проводки всегда совпадает с валютой суммы
+    public void setAmount(Money amount) {
         this.amount = amount;
+        this.currency = amount.getCurrency();
     }
 
     public Currency getCurrency() {
@@ -0,0 +1,103 @@
+package com.bankapp.model;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Условия отбора операций журнала; незаполненное поле (null) не ограничивает выборку.
+// Счет ищется с обеих сторон операции - и среди списаний, и среди зачислений.
+// Даты включительные: dateTo = 10.03 отбирает операции до конца 10 марта
+public class TransactionFilter {
+    private Long accountId;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Currency currency;
+    private TransactionType type;
+
+    public TransactionFilter() {
+    }
+
+    public static TransactionFilter forAccount(Long accountId) {
+        TransactionFilter filter = new TransactionFilter();
+        filter.setAccountId(accountId);
+        return filter;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public void setDateFrom(LocalDate dateFrom) {
+        this.dateFrom = dateFrom;
+    }
+
+    public LocalDate getDateTo() {
+        return dateTo;
+    }
+
+    public void setDateTo(LocalDate dateTo) {
+        this.dateTo = dateTo;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(Currency currency) {
+        this.currency = currency;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public boolean isEmpty() {
+        return accountId == null && dateFrom == null && dateTo == null
+                && minAmount == null && maxAmount == null && currency == null && type == null;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionFilter{" +
+                "accountId=" + accountId +
+                ", dateFrom=" + dateFrom +
+                ", dateTo=" + dateTo +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                ", currency=" + currency +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -2,9 +2,13 @@ package com.bankapp.repository;
 
 import com.bankapp.utils.TransactionManager;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public abstract class AbstractRepository<T, ID> implements Repository<T, ID> {
 
@@ -32,8 +36,35 @@ public abstract class AbstractRepository<T, ID> implements Repository<T, ID> {
         return List.of();
     }
 
+    @Override
+    public Stream<T> streamAll() throws SQLException {
+        return Stream.empty();
+    }
+
     @Override
     public int count() throws SQLException {
         return 0;
     }
-}
\ No newline at end of file
+
+    // Результат запроса потоком через курсор на стороне сервера, см. CursorStream
+    protected <R> Stream<R> stream(String sql, RowMapper<R> mapper, Object... parameters) throws SQLException {
+        return CursorStream.open(transactionManager, sql, mapper, parameters);
+    }
+
+    // Оценка числа строк из статистики планировщика без чтения таблицы; -1, если ANALYZE еще не выполнялся
+    protected long estimateRowCount(String table) throws SQLException {
+        // У секционированной таблицы собственной статистики нет, оценка складывается из ее секций.
+        String sql = "SELECT CASE WHEN c.relkind = 'p' THEN "
+                + "(SELECT COALESCE(SUM(GREATEST(p.reltuples, 0)), 0) FROM pg_inherits i "
+                + "JOIN pg_class p ON p.oid = i.inhrelid WHERE i.inhparent = c.oid) "
+                + "ELSE c.reltuples END::bigint "
+                + "FROM pg_class c WHERE c.oid = to_regclass(?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : -1;
+            }
+        }
+    }
+}
@@ -5,16 +5,30 @@ import com.bankapp.enums.Currency;
 import com.bankapp.exception.AccountExistException;
 import com.bankapp.utils.TransactionManager;
 import com.vaadin.flow.data.provider.QuerySortOrder;
-import com.vaadin.flow.data.provider.SortDirection;
 import com.bankapp.model.Account;
+import com.bankapp.model.AccountFilter;
+import com.bankapp.model.Money;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Stream;
 
 public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
 
+    private static final EnumDecoder<AccountStatus> STATUSES = EnumDecoder.of(AccountStatus.class);
+    private static final EnumDecoder<Currency> CURRENCIES = EnumDecoder.of(Currency.class);
+    public static final RowMapper<Account> ROW_MAPPER = new RowMapper<>(AccountRepositoryImpl::mapAccount,
+            "id", "account_number", "status", "bik", "currency", "balance", "client_id", "created_at", "updated_at");
+
+    private final SqlTemplateCache<KeysetQuery> sortedQueries = new SqlTemplateCache<>(256);
+
     public AccountRepositoryImpl(TransactionManager transactionManager) {
         super(transactionManager);
     }
@@ -25,46 +39,49 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
             throw new AccountExistException("Номер счета уже существует");
         }
 
-        String sql = "INSERT INTO accounts (account_number, balance, status, bik, currency, client_id) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        // Вместе со счетом записывается его начальный снимок баланса с нулевым горизонтом:
+        // все проводки нового счета идут после снимка
+        String sql = "WITH account AS (INSERT INTO accounts (account_number, balance, status, bik, currency, client_id) "
+                + "VALUES (?, ? * 0.01, ?, ?, ?, ?) RETURNING id, balance) "
+                + "INSERT INTO balance_snapshots (account_id, horizon, balance) "
+                + "SELECT id, '0'::xid8, balance FROM account RETURNING account_id";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, account.getAccountNumber());
-            statement.setBigDecimal(2, account.getBalance());
+            statement.setLong(2, account.getBalance().getMinorUnits());
             statement.setString(3, account.getStatus().toString());
             statement.setString(4, account.getBik());
             statement.setString(5, account.getCurrency().toString());
             statement.setLong(6, account.getClientId());
-            statement.executeUpdate();
 
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    account.setId(generatedKeys.getLong(1));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    account.setId(resultSet.getLong(1));
                 }
             }
         }
     }
 
+    // Баланс здесь не меняется: он изменяется только через debit и credit
     @Override
     public void update(Account account) throws SQLException {
-        if (isAccountNumberExists(account.getAccountNumber(), account.getId())) {
-            throw new AccountExistException("Номер счета уже существует");
-        }
-
-        String sql = "UPDATE accounts SET account_number = ?, balance = ?, status = ?, bik = ?, currency = ?, client_id = ? WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        String sql = "UPDATE accounts SET account_number = ?, status = ?, bik = ?, currency = ?, client_id = ? WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, account.getAccountNumber());
-            statement.setBigDecimal(2, account.getBalance());
-            statement.setString(3, account.getStatus().toString());
-            statement.setString(4, account.getBik());
-            statement.setString(5, account.getCurrency().toString());
-            statement.setLong(6, account.getClientId());
-            statement.setLong(7, account.getId());
+            statement.setString(2, account.getStatus().toString());
+            statement.setString(3, account.getBik());
+            statement.setString(4, account.getCurrency().toString());
+            statement.setLong(5, account.getClientId());
+            statement.setLong(6, account.getId());
             statement.executeUpdate();
         }
     }
 
     public void delete(Long id) throws SQLException {
         String sql = "DELETE FROM accounts WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, id);
             statement.executeUpdate();
         }
@@ -72,79 +89,126 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
 
     @Override
     public Optional<Account> findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM accounts WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, id);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    return Optional.of(mapAccount(resultSet));
+                    return Optional.of(ROW_MAPPER.map(resultSet, ROW_MAPPER.columns(sql, resultSet)));
                 }
             }
         }
         return Optional.empty();
     }
 
+    // Счета по фильтру в порядке номера - для выгрузки списка
+    public Stream<Account> streamAccounts(AccountFilter filter) throws SQLException {
+        FilterClause where = filterClause(filter);
+        return stream("SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts" + where.where()
+                + " ORDER BY account_number, id", ROW_MAPPER, where.getParameters());
+    }
 
     public List<Account> findAccounts(int offset, int limit, List<QuerySortOrder> sortOrders) throws SQLException {
-        StringBuilder sql = new StringBuilder("SELECT * FROM accounts");
+        return findAccounts(new AccountFilter(), offset, limit, sortOrders);
+    }
 
-        if (!sortOrders.isEmpty()) {
-            sql.append(" ORDER BY ");
-            for (QuerySortOrder sortOrder : sortOrders) {
-                sql.append(mapSortColumn(sortOrder.getSorted()))
-                        .append(sortOrder.getDirection().equals(SortDirection.ASCENDING) ? " ASC" : " DESC")
-                        .append(", ");
-            }
-            sql.setLength(sql.length() - 2);
-        } else {
-            sql.append(" ORDER BY account_number ASC");
-        }
+    public List<Account> findAccounts(AccountFilter filter, int offset, int limit,
+                                      List<QuerySortOrder> sortOrders) throws SQLException {
+        return findAccountsPage(filter, null, offset, limit, sortOrders).getItems();
+    }
 
-        sql.append(" LIMIT ? OFFSET ?");
+    public KeysetPage<Account> findAccountsPage(KeysetCursor after, int offset, int limit,
+                                                List<QuerySortOrder> sortOrders) throws SQLException {
+        return findAccountsPage(new AccountFilter(), after, offset, limit, sortOrders);
+    }
 
-        try (PreparedStatement stmt = transactionManager.getConnection().prepareStatement(sql.toString())) {
-            stmt.setInt(1, limit);
-            stmt.setInt(2, offset);
+    // Страница после курсора after; offset отсчитывается от курсора, а не от начала выборки
+    public KeysetPage<Account> findAccountsPage(AccountFilter filter, KeysetCursor after, int offset, int limit,
+                                                List<QuerySortOrder> sortOrders) throws SQLException {
+        SortSpec sort = SortSpec.of(sortOrders, this::mapSortColumn, "account_number", true);
+        KeysetCursor cursor = KeysetQuery.usableCursor(after, sort);
+        FilterClause where = filterClause(filter);
+        KeysetQuery query = sortedQueries.get(where.getKey() + "|" + KeysetQuery.key(sort, cursor),
+                key -> KeysetQuery.build("SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts", where.getSql(),
+                        sort, cursor, Set.of()));
+
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query.getSql())) {
+            int index = where.bind(stmt, 1);
+            index = cursor == null ? index : query.bind(stmt, cursor, index);
+            stmt.setInt(index++, limit);
+            stmt.setInt(index, offset);
             ResultSet rs = stmt.executeQuery();
 
             List<Account> accounts = new ArrayList<>();
+            int[] columns = ROW_MAPPER.columns(query.getSql(), rs);
             while (rs.next()) {
-                accounts.add(mapAccount(rs));
+                accounts.add(ROW_MAPPER.map(rs, columns));
             }
-            return accounts;
+            return KeysetPage.of(accounts, sort, account -> sortValues(account, sort));
         }
     }
 
     @Override
     public int count() throws SQLException {
         String sql = "SELECT COUNT(*) FROM accounts";
-        try (PreparedStatement stmt = transactionManager.getConnection().prepareStatement(sql);
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             return rs.next() ? rs.getInt(1) : 0;
         }
     }
 
+    // Число счетов по фильтру, но не больше limit: подсчет останавливается, не дочитав большую выборку
+    public int count(AccountFilter filter, int limit) throws SQLException {
+        FilterClause where = filterClause(filter);
+        String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM accounts" + where.where() + " LIMIT ?) AS matched";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = where.bind(stmt, 1);
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    public long estimateCount() throws SQLException {
+        return estimateRowCount("accounts");
+    }
+
     @Override
     public List<Account> findAll() throws SQLException {
         List<Account> accounts = new ArrayList<>();
-        String sql = "SELECT * FROM accounts WHERE status = 'OPEN'";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql);
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE status = 'OPEN'";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
+            int[] columns = ROW_MAPPER.columns(sql, resultSet);
             while (resultSet.next()) {
-                accounts.add(mapAccount(resultSet));
+                accounts.add(ROW_MAPPER.map(resultSet, columns));
             }
         }
         return accounts;
     }
 
+    // Те же открытые счета, что findAll, без загрузки всего списка в память
+    @Override
+    public Stream<Account> streamAll() throws SQLException {
+        return stream("SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE status = 'OPEN'", ROW_MAPPER);
+    }
+
     public List<Account> findByClientId(Long clientId) throws SQLException {
         List<Account> accounts = new ArrayList<>();
-        String sql = "SELECT * FROM accounts WHERE client_id = ? AND status = 'OPEN'";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE client_id = ? AND status = 'OPEN'";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, clientId);
             try (ResultSet resultSet = statement.executeQuery()) {
+                int[] columns = ROW_MAPPER.columns(sql, resultSet);
                 while (resultSet.next()) {
-                    accounts.add(mapAccount(resultSet));
+                    accounts.add(ROW_MAPPER.map(resultSet, columns));
                 }
             }
         }
@@ -153,7 +217,8 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
 
     public boolean hasOpenAccounts() throws SQLException {
         String sql = "SELECT EXISTS(SELECT 1 FROM accounts WHERE status = 'OPEN')";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql);
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             if (resultSet.next()) {
                 return resultSet.getBoolean(1);
@@ -162,42 +227,204 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
         return false;
     }
 
+    // Суммы передаются в копейках и переводятся в DECIMAL на стороне БД (? * 0.01 - точное умножение numeric)
+
+    // Списание одной командой: строка блокируется, проверяется и меняется без чтения в приложение.
+    // false - счет не найден, закрыт, в другой валюте или на нем недостаточно средств
+    public boolean debit(Long accountId, Money amount) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance - ? * 0.01 "
+                + "WHERE id = ? AND status = 'OPEN' AND currency = ? AND balance >= ? * 0.01";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, amount.getMinorUnits());
+            statement.setLong(2, accountId);
+            statement.setString(3, amount.getCurrency().name());
+            statement.setLong(4, amount.getMinorUnits());
+            return statement.executeUpdate() == 1;
+        }
+    }
+
+    // false - счет не найден, закрыт или в другой валюте
+    public boolean credit(Long accountId, Money amount) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance + ? * 0.01 WHERE id = ? AND status = 'OPEN' AND currency = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, amount.getMinorUnits());
+            statement.setLong(2, accountId);
+            statement.setString(3, amount.getCurrency().name());
+            return statement.executeUpdate() == 1;
+        }
+    }
+
+    // Зачисление в валюте счета. Возвращает валюту счета, пустой результат - счет не найден или закрыт
+    public Optional<Currency> deposit(Long accountId, long amountMinorUnits) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance + ? * 0.01 WHERE id = ? AND status = 'OPEN' RETURNING currency";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, amountMinorUnits);
+            statement.setLong(2, accountId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(CURRENCIES.decode(resultSet.getString(1)));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Пакетное зачисление на открытые счета в одной валюте. Строки обновляются в порядке ключей,
+    // то есть по возрастанию id. Возвращает id счетов, на которые зачислить не удалось
+    public List<Long> creditAll(SortedMap<Long, Long> creditsMinorUnits, Currency currency) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance + ? * 0.01 WHERE id = ? AND status = 'OPEN' AND currency = ?";
+        List<Long> rejected = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            List<Long> ids = new ArrayList<>(creditsMinorUnits.keySet());
+            for (Long id : ids) {
+                statement.setLong(1, creditsMinorUnits.get(id));
+                statement.setLong(2, id);
+                statement.setString(3, currency.name());
+                statement.addBatch();
+            }
+            int[] updated = statement.executeBatch();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    rejected.add(ids.get(i));
+                }
+            }
+        }
+        return rejected;
+    }
+
+    public List<Account> findByIds(Collection<Long> ids) throws SQLException {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE id = ANY(?)";
+        List<Account> accounts = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int[] columns = ROW_MAPPER.columns(sql, resultSet);
+                while (resultSet.next()) {
+                    accounts.add(ROW_MAPPER.map(resultSet, columns));
+                }
+            }
+        }
+        return accounts;
+    }
+
+    // Блокирует счета по возрастанию id, в том же порядке, что и остальные операции с балансами
+    public List<Account> findByIdsForUpdate(Collection<Long> ids) throws SQLException {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+        List<Account> accounts = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int[] columns = ROW_MAPPER.columns(sql, resultSet);
+                while (resultSet.next()) {
+                    accounts.add(ROW_MAPPER.map(resultSet, columns));
+                }
+            }
+        }
+        return accounts;
+    }
+
+    // Пакетное изменение балансов заблокированных счетов на проверенные вызывающим кодом суммы
+    public void applyBalanceDeltas(SortedMap<Long, Long> deltasMinorUnits) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance + ? * 0.01 WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Map.Entry<Long, Long> delta : deltasMinorUnits.entrySet()) {
+                statement.setLong(1, delta.getValue());
+                statement.setLong(2, delta.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
     public void closeAccount(Long accountId) throws SQLException {
         String sql = "UPDATE accounts SET status = 'CLOSED' WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, accountId);
             statement.executeUpdate();
         }
     }
 
-    public List<Account> findAccountsByCurrencyAndNotSenderId(String currency, Long senderId) throws SQLException {
-        String sql = "SELECT * FROM accounts WHERE currency = ? AND id != ?";
-
-        try (PreparedStatement stmt = transactionManager.getConnection().prepareStatement(sql)) {
-            stmt.setString(1, currency);
-            stmt.setLong(2, senderId);
-            ResultSet rs = stmt.executeQuery();
-
-            List<Account> accounts = new ArrayList<>();
-            while (rs.next()) {
-                accounts.add(mapAccount(rs));
+    // Страница открытых счетов, номер которых начинается с numberPrefix, в порядке номеров.
+    // Валюта и исключаемый счет необязательны. Порядок ~<~ совпадает с порядком индекса
+    // idx_accounts_open_number_prefix: страница читается из индекса без сортировки всех подходящих счетов
+    public List<Account> searchOpenAccounts(String numberPrefix, Currency currency, Long excludedAccountId,
+                                            int offset, int limit) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT ").append(ROW_MAPPER.getColumnList())
+                .append(" FROM accounts WHERE status = 'OPEN'");
+        List<Object> parameters = new ArrayList<>();
+        if (numberPrefix != null && !numberPrefix.isEmpty()) {
+            sql.append(" AND account_number LIKE ?");
+            parameters.add(FilterClause.escapeLike(numberPrefix) + "%");
+        }
+        if (currency != null) {
+            sql.append(" AND currency = ?");
+            parameters.add(currency.name());
+        }
+        if (excludedAccountId != null) {
+            sql.append(" AND id <> ?");
+            parameters.add(excludedAccountId);
+        }
+        sql.append(" ORDER BY account_number USING ~<~ LIMIT ? OFFSET ?");
+        parameters.add(limit);
+        parameters.add(offset);
+
+        String query = sql.toString();
+        List<Account> accounts = new ArrayList<>(limit);
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int[] columns = ROW_MAPPER.columns(query, resultSet);
+                while (resultSet.next()) {
+                    accounts.add(ROW_MAPPER.map(resultSet, columns));
+                }
             }
-            return accounts;
         }
+        return accounts;
+    }
+
+    // Остаток (balance) не индексируется: индекс на часто изменяемой колонке запретил бы HOT-обновления
+    // при каждом переводе, диапазон остатка проверяется по строкам, отобранным остальными условиями
+    private static FilterClause filterClause(AccountFilter filter) {
+        FilterClause clause = new FilterClause();
+        if (filter == null) {
+            return clause;
+        }
+        String prefix = FilterClause.trimToNull(filter.getAccountNumberPrefix());
+        return clause
+                .add('s', "status = ?", filter.getStatus() == null ? null : filter.getStatus().name())
+                .add('c', "currency = ?", filter.getCurrency() == null ? null : filter.getCurrency().name())
+                .add('k', "client_id = ?", filter.getClientId())
+                .add('b', "bik = ?", FilterClause.trimToNull(filter.getBik()))
+                .add('g', "balance >= ?", filter.getMinBalance())
+                .add('l', "balance <= ?", filter.getMaxBalance())
+                .add('n', "account_number LIKE ?", prefix == null ? null : FilterClause.escapeLike(prefix) + "%");
     }
 
     public List<Account> findAccountsByCurrencyAndNotSenderIdAndClientId(String currency, Long senderId, Long clientId) throws SQLException {
-        String sql = "SELECT * FROM accounts WHERE currency = ? AND id != ? AND client_id = ?";
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM accounts WHERE currency = ? AND id != ? AND client_id = ?";
 
-        try (PreparedStatement stmt = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, currency);
             stmt.setLong(2, senderId);
             stmt.setLong(3, clientId);
             ResultSet rs = stmt.executeQuery();
 
             List<Account> accounts = new ArrayList<>();
+            int[] columns = ROW_MAPPER.columns(sql, rs);
             while (rs.next()) {
-                accounts.add(mapAccount(rs));
+                accounts.add(ROW_MAPPER.map(rs, columns));
             }
             return accounts;
         }
@@ -210,7 +437,8 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
             sql += " AND id != ?";
         }
 
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, accountNumber);
 
             if (accountId != null) {
@@ -236,17 +464,33 @@ public class AccountRepositoryImpl extends AbstractRepository<Account, Long> {
         };
     }
 
-    private Account mapAccount(ResultSet resultSet) throws SQLException {
+    private Object[] sortValues(Account account, SortSpec sort) {
+        List<String> columns = sort.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch (columns.get(i)) {
+                case "balance" -> account.getBalance().toBigDecimal();
+                case "status" -> account.getStatus().name();
+                case "bik" -> account.getBik();
+                case "currency" -> account.getCurrency().name();
+                case "account_number" -> account.getAccountNumber();
+                default -> account.getId();
+            };
+        }
+        return values;
+    }
+
+    private static Account mapAccount(ResultSet resultSet, int[] columns) throws SQLException {
         Account account = new Account();
-        account.setId(resultSet.getLong("id"));
-        account.setAccountNumber(resultSet.getString("account_number"));
-        account.setBalance(resultSet.getBigDecimal("balance"));
-        account.setStatus(AccountStatus.valueOf(resultSet.getString("status")));
-        account.setBik(resultSet.getString("bik"));
-        account.setCurrency(Currency.valueOf(resultSet.getString("currency")));
-        account.setClientId(resultSet.getLong("client_id"));
-        account.setCreatedAt(resultSet.getTimestamp("created_at").toLocalDateTime());
-        account.setUpdatedAt(resultSet.getTimestamp("updated_at").toLocalDateTime());
+        account.setId(resultSet.getLong(columns[0]));
+        account.setAccountNumber(resultSet.getString(columns[1]));
+        account.setStatus(STATUSES.decode(resultSet.getString(columns[2])));
+        account.setBik(resultSet.getString(columns[3]));
+        account.setCurrency(CURRENCIES.decode(resultSet.getString(columns[4])));
+        account.setBalance(Money.parse(resultSet.getString(columns[5]), account.getCurrency()));
+        account.setClientId(resultSet.getLong(columns[6]));
+        account.setCreatedAt(resultSet.getObject(columns[7], LocalDateTime.class));
+        account.setUpdatedAt(resultSet.getObject(columns[8], LocalDateTime.class));
         return account;
     }
 }
\ No newline at end of file
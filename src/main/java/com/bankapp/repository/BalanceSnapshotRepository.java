@@ -0,0 +1,153 @@
+package com.bankapp.repository;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.model.Money;
+import com.bankapp.utils.TransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Optional;
+
+// Балансы, выведенные из журнала: последний снимок счета (balance_snapshots) плюс проводки после него.
+// Граница снимка - горизонт: xmin снимка транзакций БД в момент записи. Все транзакции с номером меньше
+// горизонта завершены, поэтому проводка, зафиксированная после записи снимка, всегда имеет tx_id не меньше
+// горизонта и учитывается при чтении, даже если ее id меньше id уже учтенных проводок
+public class BalanceSnapshotRepository {
+
+    private static final EnumDecoder<Currency> CURRENCIES = EnumDecoder.of(Currency.class);
+
+    // Класс рекомендательных блокировок счетов (первый ключ pg_advisory_xact_lock)
+    private static final int ACCOUNT_LOCK_CLASS = 25;
+    // Класс блокировок закрытия: проводка держит разделяемую блокировку своих счетов, закрытие - исключительную
+    private static final int ACCOUNT_CLOSE_LOCK_CLASS = 26;
+
+    private final TransactionManager transactionManager;
+
+    public BalanceSnapshotRepository(TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    // Выражение SQL: остаток счета с id accountId из снимка и журнала. Снимок и проводки читаются одной
+    // командой, поэтому новый снимок, записанный параллельно, не дает ни пропуска, ни двойного учета проводок
+    public static String derivedBalance(String accountId) {
+        return "(SELECT s.balance"
+                + " + COALESCE((SELECT SUM(t.amount) FROM transactions t"
+                + " WHERE t.to_account_id = s.account_id AND t.tx_id >= s.horizon), 0)"
+                + " - COALESCE((SELECT SUM(t.amount) FROM transactions t"
+                + " WHERE t.from_account_id = s.account_id AND t.tx_id >= s.horizon), 0)"
+                + " FROM balance_snapshots s WHERE s.account_id = " + accountId + ")";
+    }
+
+    // Блокировка счета до конца транзакции без записи в строку счета. Ею упорядочиваются списания
+    // с одного счета; зачислениям она не нужна: они не уменьшают остаток
+    public void lockAccount(Long accountId) throws SQLException {
+        String sql = "SELECT pg_advisory_xact_lock(?, ?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, ACCOUNT_LOCK_CLASS);
+            statement.setInt(2, Math.toIntExact(accountId));
+            statement.execute();
+        }
+    }
+
+    // Счета не закроются до конца транзакции. Разделяемые блокировки проводок не мешают друг другу,
+    // проводка ждет только закрытия, начатого раньше нее
+    public void holdOpen(Collection<Long> accountIds) throws SQLException {
+        String sql = "SELECT pg_advisory_xact_lock_shared(?, a) FROM unnest(?) AS a ORDER BY a";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            Integer[] ids = new Integer[accountIds.size()];
+            int i = 0;
+            for (Long accountId : accountIds) {
+                ids[i++] = Math.toIntExact(accountId);
+            }
+            statement.setInt(1, ACCOUNT_CLOSE_LOCK_CLASS);
+            statement.setArray(2, connection.createArrayOf("integer", ids));
+            statement.execute();
+        }
+    }
+
+    // Блокировка перед закрытием счета: ждет проводки, уже проверившие счет, и не пускает новые
+    // до конца транзакции. Списания упорядочиваются lockAccount, ее закрытие берет раньше этой
+    public void lockForClose(Long accountId) throws SQLException {
+        String sql = "SELECT pg_advisory_xact_lock(?, ?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, ACCOUNT_CLOSE_LOCK_CLASS);
+            statement.setInt(2, Math.toIntExact(accountId));
+            statement.execute();
+        }
+    }
+
+    // Пустой результат - счета нет или у него нет снимка. Счет передается одним параметром, а не массивом:
+    // по такому запросу сервер кэширует общий план и не планирует подзапросы по секциям журнала заново
+    public Optional<Money> findBalance(Long accountId) throws SQLException {
+        String sql = "SELECT a.currency, " + derivedBalance("a.id") + " FROM accounts a WHERE a.id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, accountId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next() && resultSet.getString(2) != null) {
+                    return Optional.of(Money.parse(resultSet.getString(2), CURRENCIES.decode(resultSet.getString(1))));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public long findMaxAccountId() throws SQLException {
+        String sql = "SELECT COALESCE(MAX(account_id), 0) FROM balance_snapshots";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // Новые снимки счетов диапазона [rangeStart, rangeEnd), после снимка которых записано не меньше
+    // minEvents завершенных проводок. В снимок сворачиваются проводки между старым и новым горизонтом;
+    // все они завершены, поэтому видны команде, если зафиксированы. Возвращает число записанных снимков
+    public int takeSnapshots(long rangeStart, long rangeEnd, int minEvents) throws SQLException {
+        String sql = "INSERT INTO balance_snapshots (account_id, horizon, balance, event_count, taken_at) "
+                + "SELECT s.account_id, h.horizon, s.balance + COALESCE(c.amount, 0) - COALESCE(d.amount, 0), "
+                + "s.event_count + c.events + d.events, CURRENT_TIMESTAMP "
+                + "FROM (SELECT pg_snapshot_xmin(pg_current_snapshot()) AS horizon) h "
+                + "CROSS JOIN balance_snapshots s "
+                + "CROSS JOIN LATERAL (SELECT SUM(amount) AS amount, COUNT(*) AS events FROM transactions "
+                + "WHERE to_account_id = s.account_id AND tx_id >= s.horizon AND tx_id < h.horizon) c "
+                + "CROSS JOIN LATERAL (SELECT SUM(amount) AS amount, COUNT(*) AS events FROM transactions "
+                + "WHERE from_account_id = s.account_id AND tx_id >= s.horizon AND tx_id < h.horizon) d "
+                + "WHERE s.account_id >= ? AND s.account_id < ? AND s.horizon < h.horizon "
+                + "AND c.events + d.events >= ? "
+                + "ON CONFLICT (account_id) DO UPDATE SET horizon = EXCLUDED.horizon, balance = EXCLUDED.balance, "
+                + "event_count = EXCLUDED.event_count, taken_at = EXCLUDED.taken_at";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, rangeStart);
+            statement.setLong(2, rangeEnd);
+            statement.setInt(3, minEvents);
+            return statement.executeUpdate();
+        }
+    }
+
+    // Переписывает accounts.balance остатками из снимков и журнала для счетов диапазона, у которых они
+    // разошлись. В режиме событий accounts.balance - копия для списков, фильтров и выгрузок; параллельно
+    // с переводами, меняющими accounts.balance, вызывать нельзя - их изменения будут потеряны.
+    // Возвращает число обновленных счетов
+    public int refreshAccountBalances(long rangeStart, long rangeEnd) throws SQLException {
+        String sql = "UPDATE accounts a SET balance = b.balance "
+                + "FROM (SELECT r.id, " + derivedBalance("r.id") + " AS balance FROM accounts r "
+                + "WHERE r.id >= ? AND r.id < ?) b "
+                + "WHERE a.id = b.id AND a.balance <> b.balance";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, rangeStart);
+            statement.setLong(2, rangeEnd);
+            return statement.executeUpdate();
+        }
+    }
+}
@@ -3,29 +3,50 @@ package com.bankapp.repository;
 import com.bankapp.exception.PhoneNumberExistException;
 import com.bankapp.utils.TransactionManager;
 import com.vaadin.flow.data.provider.QuerySortOrder;
-import com.vaadin.flow.data.provider.SortDirection;
 import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
 
+    // Старый скан паспорта (BYTEA) в выборки не входит: он читается потоком только для формы клиента
+    public static final RowMapper<Client> ROW_MAPPER = new RowMapper<>(ClientRepositoryImpl::mapClient,
+            "id", "full_name", "phone_number", "inn", "address", "passport_scan_ref",
+            "passport_thumbnail_ref",
+            "(passport_scan_ref IS NOT NULL OR passport_scan_copy IS NOT NULL) AS passport_scan_present",
+            "created_at", "updated_at");
+    public static final RowMapper<ClientSummary> SUMMARY_MAPPER = new RowMapper<>(ClientRepositoryImpl::mapSummary,
+            "id", "full_name", "phone_number", "inn", "address");
+
+    private final SqlTemplateCache<KeysetQuery> sortedQueries = new SqlTemplateCache<>(256);
+
     public ClientRepositoryImpl(TransactionManager transactionManager) {
         super(transactionManager);
     }
 
     @Override
     public void save(Client client) throws SQLException {
-        String sql = "INSERT INTO clients (full_name, phone_number, inn, address, passport_scan_copy) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        String sql = "INSERT INTO clients (full_name, phone_number, inn, address, passport_scan_ref, passport_thumbnail_ref) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             statement.setString(1, client.getFullName());
             statement.setString(2, client.getPhoneNumber());
             statement.setString(3, client.getInn());
             statement.setString(4, client.getAddress());
-            statement.setBytes(5, client.getPassportScanCopy());
+            statement.setString(5, client.getPassportScanRef());
+            statement.setString(6, client.getPassportThumbnailRef());
             statement.executeUpdate();
 
             try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
@@ -38,26 +59,36 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
 
     @Override
     public void update(Client client) throws SQLException {
-        String sql = "UPDATE clients SET full_name = ?, phone_number = ?, inn = ?, address = ?, passport_scan_copy = ? WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        // Скан заменяется только новым файлом, тогда же заменяется миниатюра и очищается старый скан в БД;
+        // без нового файла сохраненный скан остается как есть
+        String sql = "UPDATE clients SET full_name = ?, phone_number = ?, inn = ?, address = ?, "
+                + "passport_scan_ref = COALESCE(?, passport_scan_ref), "
+                + "passport_thumbnail_ref = CASE WHEN ?::varchar IS NULL THEN passport_thumbnail_ref ELSE ? END, "
+                + "passport_scan_copy = CASE WHEN ?::varchar IS NULL THEN passport_scan_copy END WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, client.getFullName());
             statement.setString(2, client.getPhoneNumber());
             statement.setString(3, client.getInn());
             statement.setString(4, client.getAddress());
-            statement.setBytes(5, client.getPassportScanCopy());
-            statement.setLong(6, client.getId());
+            statement.setString(5, client.getPassportScanRef());
+            statement.setString(6, client.getPassportScanRef());
+            statement.setString(7, client.getPassportThumbnailRef());
+            statement.setString(8, client.getPassportScanRef());
+            statement.setLong(9, client.getId());
             statement.executeUpdate();
         }
     }
 
     @Override
     public Optional<Client> findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM clients WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM clients WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, id);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    return Optional.of(mapClient(resultSet));
+                    return Optional.of(ROW_MAPPER.map(resultSet, ROW_MAPPER.columns(sql, resultSet)));
                 }
             }
         }
@@ -67,20 +98,28 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
     @Override
     public List<Client> findAll() throws SQLException {
         List<Client> clients = new ArrayList<>();
-        String sql = "SELECT * FROM clients";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql);
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM clients";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
+            int[] columns = ROW_MAPPER.columns(sql, resultSet);
             while (resultSet.next()) {
-                clients.add(mapClient(resultSet));
+                clients.add(ROW_MAPPER.map(resultSet, columns));
             }
         }
         return clients;
     }
 
+    @Override
+    public Stream<Client> streamAll() throws SQLException {
+        return stream("SELECT " + ROW_MAPPER.getColumnList() + " FROM clients", ROW_MAPPER);
+    }
+
     @Override
     public int count() throws SQLException {
         String sql = "SELECT COUNT(*) FROM clients";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             ResultSet resultSet = statement.executeQuery();
             if (resultSet.next()) {
                 return resultSet.getInt(1);
@@ -89,9 +128,14 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
         }
     }
 
+    public long estimateCount() throws SQLException {
+        return estimateRowCount("clients");
+    }
+
     public boolean hasClients() throws SQLException {
         String sql = "SELECT EXISTS(SELECT 1 FROM clients)";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql);
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             if (resultSet.next()) {
                 return resultSet.getBoolean(1);
@@ -100,33 +144,152 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
         return false;
     }
 
-    public List<Client> findClients(int offset, int limit, List<QuerySortOrder> sortOrders) throws SQLException {
-        StringBuilder sql = new StringBuilder("SELECT * FROM clients");
+    public List<ClientSummary> findClients(int offset, int limit, List<QuerySortOrder> sortOrders) throws SQLException {
+        return findClientsPage(null, offset, limit, sortOrders).getItems();
+    }
 
-        if (!sortOrders.isEmpty()) {
-            sql.append(" ORDER BY ");
-            for (QuerySortOrder sortOrder : sortOrders) {
-                String dbColumn = mapGridColumnToDbField(sortOrder.getSorted());
-                String direction = sortOrder.getDirection().equals(SortDirection.ASCENDING) ? "ASC" : "DESC";
-                sql.append(dbColumn).append(" ").append(direction).append(", ");
+    // Страница после курсора after; offset отсчитывается от курсора, а не от начала выборки
+    public KeysetPage<ClientSummary> findClientsPage(KeysetCursor after, int offset, int limit,
+                                                     List<QuerySortOrder> sortOrders) throws SQLException {
+        SortSpec sort = SortSpec.of(sortOrders, this::mapGridColumnToDbField, "id", true);
+        KeysetCursor cursor = KeysetQuery.usableCursor(after, sort);
+        KeysetQuery query = sortedQueries.get(KeysetQuery.key(sort, cursor),
+                key -> KeysetQuery.build("SELECT " + SUMMARY_MAPPER.getColumnList() + " FROM clients", null, sort, cursor, Set.of()));
+
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query.getSql())) {
+            int index = cursor == null ? 1 : query.bind(statement, cursor, 1);
+            statement.setInt(index++, limit);
+            statement.setInt(index, offset);
+            ResultSet rs = statement.executeQuery();
+
+            List<ClientSummary> clients = new ArrayList<>();
+            int[] columns = SUMMARY_MAPPER.columns(query.getSql(), rs);
+            while (rs.next()) {
+                clients.add(SUMMARY_MAPPER.map(rs, columns));
             }
-            sql.setLength(sql.length() - 2);
-        } else {
-            sql.append(" ORDER BY id ASC");
+            return KeysetPage.of(clients, sort, client -> sortValues(client, sort));
         }
+    }
 
-        sql.append(" LIMIT ? OFFSET ?");
+    // Все клиенты потоком в порядке id - для загрузки индекса поиска и выгрузки списка
+    public Stream<ClientSummary> streamSummaries() throws SQLException {
+        return stream("SELECT " + SUMMARY_MAPPER.getColumnList() + " FROM clients ORDER BY id", SUMMARY_MAPPER);
+    }
 
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql.toString())) {
-            statement.setInt(1, limit);
-            statement.setInt(2, offset);
-            ResultSet rs = statement.executeQuery();
+    // Все клиенты для выпадающих списков
+    public List<ClientSummary> findSummaries() throws SQLException {
+        String sql = "SELECT " + SUMMARY_MAPPER.getColumnList() + " FROM clients ORDER BY full_name, id";
+        List<ClientSummary> clients = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            int[] columns = SUMMARY_MAPPER.columns(sql, resultSet);
+            while (resultSet.next()) {
+                clients.add(SUMMARY_MAPPER.map(resultSet, columns));
+            }
+        }
+        return clients;
+    }
 
-            List<Client> clients = new ArrayList<>();
-            while (rs.next()) {
-                clients.add(mapClient(rs));
+    // Копирует скан паспорта, еще не перенесенный в хранилище документов; false - такого скана нет
+    public boolean copyLegacyPassportScan(Long clientId, OutputStream out) throws SQLException, IOException {
+        String sql = "SELECT passport_scan_copy FROM clients WHERE id = ? AND passport_scan_copy IS NOT NULL";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, clientId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                try (InputStream scan = resultSet.getBinaryStream(1)) {
+                    scan.transferTo(out);
+                }
+                return true;
             }
-            return clients;
+        }
+    }
+
+    public Optional<String> findPassportScanRef(Long clientId) throws SQLException {
+        return findDocumentRef("SELECT passport_scan_ref FROM clients WHERE id = ? AND passport_scan_ref IS NOT NULL",
+                clientId);
+    }
+
+    public Optional<String> findPassportThumbnailRef(Long clientId) throws SQLException {
+        return findDocumentRef("SELECT passport_thumbnail_ref FROM clients WHERE id = ? "
+                + "AND passport_thumbnail_ref IS NOT NULL", clientId);
+    }
+
+    private Optional<String> findDocumentRef(String sql, Long clientId) throws SQLException {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, clientId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ScanReader<T> {
+        T read(InputStream scan) throws IOException;
+    }
+
+    // Очередная порция клиентов со старыми сканами для переноса в хранилище документов; сами сканы
+    // читаются по одному через readLegacyPassportScan, чтобы в памяти не было целой порции BYTEA
+    public List<Long> findLegacyPassportScanIds(long afterClientId, int limit) throws SQLException {
+        String sql = "SELECT id FROM clients "
+                + "WHERE passport_scan_copy IS NOT NULL AND passport_scan_ref IS NULL AND id > ? ORDER BY id LIMIT ?";
+        List<Long> clientIds = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, afterClientId);
+            statement.setInt(2, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    clientIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return clientIds;
+    }
+
+    // Передает старый скан клиента потоком в reader; пусто - скан уже перенесен или заменен
+    public <T> Optional<T> readLegacyPassportScan(Long clientId, ScanReader<T> reader)
+            throws SQLException, IOException {
+        String sql = "SELECT passport_scan_copy FROM clients "
+                + "WHERE id = ? AND passport_scan_copy IS NOT NULL AND passport_scan_ref IS NULL";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, clientId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                try (InputStream scan = resultSet.getBinaryStream(1)) {
+                    return Optional.of(reader.read(scan));
+                }
+            }
+        }
+    }
+
+    // Записывает ссылки на перенесенные сканы и очищает BYTEA. Клиент, которому за это время
+    // загрузили новый скан, не меняется. Возвращает число обновленных клиентов
+    public int movePassportScansToStore(Map<Long, String> references) throws SQLException {
+        String sql = "UPDATE clients SET passport_scan_ref = ?, passport_scan_copy = NULL "
+                + "WHERE id = ? AND passport_scan_ref IS NULL AND passport_scan_copy IS NOT NULL";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Map.Entry<Long, String> reference : references.entrySet()) {
+                statement.setString(1, reference.getValue());
+                statement.setLong(2, reference.getKey());
+                statement.addBatch();
+            }
+            int moved = 0;
+            for (int count : statement.executeBatch()) {
+                moved += Math.max(count, 0);
+            }
+            return moved;
         }
     }
 
@@ -137,7 +300,8 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
             sql += " AND id != ?";
         }
 
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, phoneNumber);
             if (clientId != null) {
                 statement.setLong(2, clientId);
@@ -161,16 +325,38 @@ public class ClientRepositoryImpl extends AbstractRepository<Client, Long> {
         };
     }
 
-    private Client mapClient(ResultSet resultSet) throws SQLException {
+    private Object[] sortValues(ClientSummary client, SortSpec sort) {
+        List<String> columns = sort.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch (columns.get(i)) {
+                case "full_name" -> client.getFullName();
+                case "phone_number" -> client.getPhoneNumber();
+                case "inn" -> client.getInn();
+                case "address" -> client.getAddress();
+                default -> client.getId();
+            };
+        }
+        return values;
+    }
+
+    private static Client mapClient(ResultSet resultSet, int[] columns) throws SQLException {
         Client client = new Client();
-        client.setId(resultSet.getLong("id"));
-        client.setFullName(resultSet.getString("full_name"));
-        client.setPhoneNumber(resultSet.getString("phone_number"));
-        client.setInn(resultSet.getString("inn"));
-        client.setAddress(resultSet.getString("address"));
-        client.setPassportScanCopy(resultSet.getBytes("passport_scan_copy"));
-        client.setCreatedAt(resultSet.getTimestamp("created_at").toLocalDateTime());
-        client.setUpdatedAt(resultSet.getTimestamp("updated_at").toLocalDateTime());
+        client.setId(resultSet.getLong(columns[0]));
+        client.setFullName(resultSet.getString(columns[1]));
+        client.setPhoneNumber(resultSet.getString(columns[2]));
+        client.setInn(resultSet.getString(columns[3]));
+        client.setAddress(resultSet.getString(columns[4]));
+        client.setPassportScanRef(resultSet.getString(columns[5]));
+        client.setPassportThumbnailRef(resultSet.getString(columns[6]));
+        client.setPassportScanPresent(resultSet.getBoolean(columns[7]));
+        client.setCreatedAt(resultSet.getObject(columns[8], LocalDateTime.class));
+        client.setUpdatedAt(resultSet.getObject(columns[9], LocalDateTime.class));
         return client;
     }
+
+    private static ClientSummary mapSummary(ResultSet resultSet, int[] columns) throws SQLException {
+        return new ClientSummary(resultSet.getLong(columns[0]), resultSet.getString(columns[1]),
+                resultSet.getString(columns[2]), resultSet.getString(columns[3]), resultSet.getString(columns[4]));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.bankapp.repository;
+
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.utils.TransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Строки запроса потоком через курсор на стороне сервера: драйвер держит в памяти не больше
+// FETCH_SIZE строк, сколько бы их ни вернул запрос. Поток занимает соединение до close(),
+// поэтому используется только в try-with-resources.
+// PostgreSQL читает порциями только вне autocommit: вне транзакции поток открывает свою
+// транзакцию и откатывает ее при закрытии, внутри транзакции - читает в ней же.
+final class CursorStream {
+
+    static final int FETCH_SIZE = 1_000;
+
+    private CursorStream() {
+    }
+
+    static <T> Stream<T> open(TransactionManager transactionManager, String sql, RowMapper<T> mapper,
+                              Object... parameters) throws SQLException {
+        boolean ownTransaction = !transactionManager.isTransactionActive();
+        Connection connection = transactionManager.getConnection();
+        PreparedStatement statement = null;
+        try {
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+            // Форма с типом ResultSet не кэшируется пулом, поэтому размер порции не достанется
+            // кэшированному оператору обычного запроса
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            int[] columns = mapper.columns(sql, resultSet);
+            Rows<T> rows = new Rows<>(resultSet, mapper, columns);
+            PreparedStatement opened = statement;
+            return StreamSupport.stream(rows, false)
+                    .onClose(() -> close(connection, opened, ownTransaction));
+        } catch (SQLException | RuntimeException e) {
+            try {
+                close(connection, statement, ownTransaction);
+            } catch (RuntimeException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+    }
+
+    // Соединение транзакции вызывающего кода не закрывается: оно принадлежит транзакции
+    private static void close(Connection connection, PreparedStatement statement, boolean ownTransaction) {
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+            if (ownTransaction) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Ошибка при закрытии курсора", e);
+        } finally {
+            if (ownTransaction) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    private static void closeConnection(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new DataAccessException("Ошибка при закрытии курсора", e);
+        }
+    }
+
+    private static final class Rows<T> extends Spliterators.AbstractSpliterator<T> {
+        private final ResultSet resultSet;
+        private final RowMapper<T> mapper;
+        private final int[] columns;
+
+        Rows(ResultSet resultSet, RowMapper<T> mapper, int[] columns) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.mapper = mapper;
+            this.columns = columns;
+        }
+
+        // Ошибка чтения посреди потока не может быть проверяемой, она передается как DataAccessException
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(mapper.map(resultSet, columns));
+                return true;
+            } catch (SQLException e) {
+                throw new DataAccessException("Ошибка при чтении строк запроса", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.bankapp.repository;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.model.AccountTurnover;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.utils.TransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// Дневные обороты и остатки счетов (таблица daily_balances). Остаток на дату и обороты за период
+// читаются по первичному ключу (account_id, day) без просмотра журнала.
+// Строку текущего дня обновляет каждая запись в журнал в той же транзакции, закрытые дни
+// пересчитывает из журнала ночное задание DailyBalanceJob. В режиме событий строки текущего дня
+// не пишутся: проводки только добавляются в журнал, обороты дня появляются после ночного пересчета,
+// текущим остатком считается остаток из снимка и журнала, а не accounts.balance, а остаток на дату
+// без строк после нее считается по журналу
+public class DailyBalanceRepository {
+
+    private static final EnumDecoder<Currency> CURRENCIES = EnumDecoder.of(Currency.class);
+
+    private final TransactionManager transactionManager;
+    // Текущий остаток счета a в SQL
+    private final String currentBalance;
+    // Остаток счета a на конец дня-параметра: последняя строка не позже дня; если движений до него не было -
+    // остаток перед первой строкой после него; если движений не было совсем - текущий остаток.
+    // В режиме событий - остаток перед первой строкой после дня или текущий остаток минус движения после дня.
+    // День передается в оба "?"
+    private final String balanceAt;
+    private final String turnover;
+
+    public DailyBalanceRepository(TransactionManager transactionManager) {
+        this(transactionManager, false);
+    }
+
+    public DailyBalanceRepository(TransactionManager transactionManager, boolean eventSourced) {
+        this.transactionManager = transactionManager;
+        this.currentBalance = eventSourced ? BalanceSnapshotRepository.derivedBalance("a.id") : "a.balance";
+        // Остаток перед первой строкой после дня верен в обоих режимах: закрытые дни пересчитываются подряд
+        String openingOfNextRow = "(SELECT d.closing_balance - d.credit_turnover + d.debit_turnover "
+                + "FROM daily_balances d WHERE d.account_id = a.id AND d.day > ? ORDER BY d.day LIMIT 1)";
+        this.balanceAt = eventSourced
+                // Строк текущего и еще не пересчитанных дней нет: остаток на день - текущий остаток
+                // без движений журнала после дня
+                ? "COALESCE(" + openingOfNextRow + ", " + currentBalance
+                + " - COALESCE((SELECT SUM(CASE WHEN t.to_account_id = a.id THEN t.amount ELSE 0 END"
+                + " - CASE WHEN t.from_account_id = a.id THEN t.amount ELSE 0 END) FROM transactions t"
+                + " WHERE (t.to_account_id = a.id OR t.from_account_id = a.id)"
+                + " AND t.transaction_date >= ?::date + 1), 0))"
+                : "COALESCE("
+                + "(SELECT d.closing_balance FROM daily_balances d WHERE d.account_id = a.id AND d.day <= ? "
+                + "ORDER BY d.day DESC LIMIT 1), "
+                + openingOfNextRow + ", "
+                + currentBalance + ")";
+        this.turnover = "SELECT a.id, a.currency, " + balanceAt + " AS opening, "
+                + "COALESCE(t.credit, 0) AS credit, COALESCE(t.debit, 0) AS debit, " + balanceAt + " AS closing "
+                + "FROM accounts a LEFT JOIN LATERAL (SELECT SUM(d.credit_turnover) AS credit, "
+                + "SUM(d.debit_turnover) AS debit FROM daily_balances d "
+                + "WHERE d.account_id = a.id AND d.day >= ? AND d.day <= ?) t ON true";
+    }
+
+    // Добавляет проводки к оборотам текущего дня. Вызывается в транзакции проводок после изменения
+    // балансов: остаток на конец дня берется из уже измененной строки счета. Счета заблокированы
+    // вызывающим кодом, поэтому строки дня обновляются по очереди, как и балансы
+    public void addTurnovers(List<Transaction> transactions) throws SQLException {
+        // Счет -> {приход, расход} в копейках; перевод на тот же счет попадает в обе суммы
+        SortedMap<Long, long[]> turnovers = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            long amount = transaction.getAmount().getMinorUnits();
+            turnovers.computeIfAbsent(transaction.getToAccount(), id -> new long[2])[0] += amount;
+            if (transaction.getFromAccount() != null) {
+                turnovers.computeIfAbsent(transaction.getFromAccount(), id -> new long[2])[1] += amount;
+            }
+        }
+
+        String sql = "INSERT INTO daily_balances (account_id, day, credit_turnover, debit_turnover, closing_balance) "
+                + "SELECT id, CURRENT_DATE, ? * 0.01, ? * 0.01, balance FROM accounts WHERE id = ? "
+                + "ON CONFLICT (account_id, day) DO UPDATE SET "
+                + "credit_turnover = daily_balances.credit_turnover + EXCLUDED.credit_turnover, "
+                + "debit_turnover = daily_balances.debit_turnover + EXCLUDED.debit_turnover, "
+                + "closing_balance = EXCLUDED.closing_balance";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Map.Entry<Long, long[]> turnover : turnovers.entrySet()) {
+                statement.setLong(1, turnover.getValue()[0]);
+                statement.setLong(2, turnover.getValue()[1]);
+                statement.setLong(3, turnover.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // Пересчитывает из журнала закрытые дни начиная с CURRENT_DATE - days. Остаток на конец дня - текущий
+    // остаток без движений после этого дня; одна команда видит балансы и журнал в одном снимке.
+    // Текущий день не трогается: его строки обновляются проводками, перезапись потеряла бы
+    // проводки, зафиксированные после снимка. Возвращает число записанных строк
+    public int refreshClosedDays(int days) throws SQLException {
+        String sql = "INSERT INTO daily_balances (account_id, day, credit_turnover, debit_turnover, closing_balance) "
+                + "SELECT account_id, day, credit, debit, closing FROM ("
+                + "SELECT d.account_id, d.day, d.credit, d.debit, "
+                + currentBalance + " - COALESCE(SUM(d.credit - d.debit) "
+                + "OVER (PARTITION BY d.account_id ORDER BY d.day DESC "
+                + "ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0) AS closing "
+                + "FROM (SELECT account_id, day, SUM(credit) AS credit, SUM(debit) AS debit FROM ("
+                + "SELECT to_account_id AS account_id, transaction_date::date AS day, amount AS credit, 0 AS debit "
+                + "FROM transactions WHERE transaction_date >= CURRENT_DATE - ?::int "
+                + "UNION ALL "
+                + "SELECT from_account_id, transaction_date::date, 0, amount FROM transactions "
+                + "WHERE transaction_date >= CURRENT_DATE - ?::int AND from_account_id IS NOT NULL"
+                + ") moves GROUP BY account_id, day) d "
+                + "JOIN accounts a ON a.id = d.account_id"
+                // Текущий день отбрасывается после оконной суммы: его движения входят в остатки закрытых дней
+                + ") balances WHERE day < CURRENT_DATE "
+                + "ON CONFLICT (account_id, day) DO UPDATE SET "
+                + "credit_turnover = EXCLUDED.credit_turnover, "
+                + "debit_turnover = EXCLUDED.debit_turnover, "
+                + "closing_balance = EXCLUDED.closing_balance";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, days);
+            statement.setInt(2, days);
+            return statement.executeUpdate();
+        }
+    }
+
+    // Остаток счета на конец дня day
+    public Optional<Money> findClosingBalance(Long accountId, LocalDate day) throws SQLException {
+        String sql = "SELECT a.currency, " + balanceAt + " FROM accounts a WHERE a.id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, day);
+            statement.setObject(2, day);
+            statement.setLong(3, accountId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(Money.parse(resultSet.getString(2), CURRENCIES.decode(resultSet.getString(1))));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<AccountTurnover> findTurnover(Long accountId, LocalDate dateFrom, LocalDate dateTo)
+            throws SQLException {
+        List<AccountTurnover> turnovers = findTurnovers(turnover + " WHERE a.id = ?", accountId, dateFrom, dateTo);
+        return turnovers.isEmpty() ? Optional.empty() : Optional.of(turnovers.get(0));
+    }
+
+    // Оборотная ведомость по всем счетам: на каждый счет несколько чтений по первичному ключу
+    public List<AccountTurnover> findTurnovers(LocalDate dateFrom, LocalDate dateTo) throws SQLException {
+        return findTurnovers(turnover + " ORDER BY a.id", null, dateFrom, dateTo);
+    }
+
+    // Строки счета за период [dateFrom, dateTo] по порядку дней
+    public List<DailyBalance> findDailyBalances(Long accountId, LocalDate dateFrom, LocalDate dateTo)
+            throws SQLException {
+        String sql = "SELECT a.currency, d.day, d.credit_turnover, d.debit_turnover, d.closing_balance "
+                + "FROM daily_balances d JOIN accounts a ON a.id = d.account_id "
+                + "WHERE d.account_id = ? AND d.day >= ? AND d.day <= ? ORDER BY d.day";
+        List<DailyBalance> balances = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, accountId);
+            statement.setObject(2, dateFrom);
+            statement.setObject(3, dateTo);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Currency currency = CURRENCIES.decode(resultSet.getString(1));
+                    balances.add(new DailyBalance(accountId, resultSet.getObject(2, LocalDate.class),
+                            Money.parse(resultSet.getString(3), currency),
+                            Money.parse(resultSet.getString(4), currency),
+                            Money.parse(resultSet.getString(5), currency)));
+                }
+            }
+        }
+        return balances;
+    }
+
+    private List<AccountTurnover> findTurnovers(String sql, Long accountId, LocalDate dateFrom, LocalDate dateTo)
+            throws SQLException {
+        LocalDate openingDay = dateFrom.minusDays(1);
+        List<AccountTurnover> turnovers = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, openingDay);
+            statement.setObject(2, openingDay);
+            statement.setObject(3, dateTo);
+            statement.setObject(4, dateTo);
+            statement.setObject(5, dateFrom);
+            statement.setObject(6, dateTo);
+            if (accountId != null) {
+                statement.setLong(7, accountId);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Currency currency = CURRENCIES.decode(resultSet.getString("currency"));
+                    AccountTurnover turnover = new AccountTurnover();
+                    turnover.setAccountId(resultSet.getLong("id"));
+                    turnover.setDateFrom(dateFrom);
+                    turnover.setDateTo(dateTo);
+                    turnover.setOpeningBalance(Money.parse(resultSet.getString("opening"), currency));
+                    turnover.setCreditTurnover(Money.parse(resultSet.getString("credit"), currency));
+                    turnover.setDebitTurnover(Money.parse(resultSet.getString("debit"), currency));
+                    turnover.setClosingBalance(Money.parse(resultSet.getString("closing"), currency));
+                    turnovers.add(turnover);
+                }
+            }
+        }
+        return turnovers;
+    }
+}
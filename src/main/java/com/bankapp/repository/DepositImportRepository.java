@@ -0,0 +1,132 @@
+package com.bankapp.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Загрузка зачислений из файла через временную таблицу. Временная таблица видна только своему
+// соединению, поэтому все методы работают с соединением, которое передает вызывающий код.
+public class DepositImportRepository {
+
+    private static final String STAGE_TABLE = "deposit_import_stage";
+    private static final String REJECTS_TABLE = "deposit_import_rejects";
+
+    private final boolean eventSourced;
+
+    public DepositImportRepository() {
+        this(false);
+    }
+
+    public DepositImportRepository(boolean eventSourced) {
+        this.eventSourced = eventSourced;
+    }
+
+    public void createStage(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + STAGE_TABLE + ", " + REJECTS_TABLE);
+            // Все поля текстовые: некорректные значения не прерывают COPY, а попадают в отчет об отказах
+            statement.execute("CREATE TEMP TABLE " + STAGE_TABLE + " ("
+                    + "line_no BIGSERIAL PRIMARY KEY, "
+                    + "account_number TEXT, "
+                    + "amount TEXT, "
+                    + "currency TEXT "
+                    + ")");
+            statement.execute("CREATE TEMP TABLE " + REJECTS_TABLE + " ("
+                    + "line_no BIGINT PRIMARY KEY, "
+                    + "reject_reason TEXT NOT NULL "
+                    + ")");
+        }
+    }
+
+    public void dropStage(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + STAGE_TABLE + ", " + REJECTS_TABLE);
+        }
+    }
+
+    // Файл передается серверу потоком, в памяти приложения он не накапливается
+    public long copyIn(Connection connection, InputStream csv) throws SQLException, IOException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        long rows = copyManager.copyIn("COPY " + STAGE_TABLE + " (account_number, amount, currency) "
+                + "FROM STDIN WITH (FORMAT csv, HEADER true)", csv);
+        // Автоочистка временные таблицы не анализирует, без статистики планы порций хуже
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + STAGE_TABLE);
+        }
+        return rows;
+    }
+
+    public long copyRejectsOut(Connection connection, OutputStream out) throws SQLException, IOException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        return copyManager.copyOut("COPY (SELECT s.line_no, s.account_number, s.amount, s.currency, r.reject_reason "
+                + "FROM " + STAGE_TABLE + " s JOIN " + REJECTS_TABLE + " r ON r.line_no = s.line_no ORDER BY s.line_no) "
+                + "TO STDOUT WITH (FORMAT csv, HEADER true)", out);
+    }
+
+    // Блокирует счета строк диапазона [fromLine, toLine) по возрастанию id, как переводы
+    public void lockAccounts(Connection connection, long fromLine, long toLine) throws SQLException {
+        String sql = "SELECT a.id FROM accounts a WHERE a.account_number IN ("
+                + "SELECT s.account_number FROM " + STAGE_TABLE + " s WHERE s.line_no >= ? AND s.line_no < ?) "
+                + "ORDER BY a.id FOR UPDATE";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, fromLine);
+            statement.setLong(2, toLine);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // Строки читаются только ради блокировки
+                }
+            }
+        }
+    }
+
+    // Проверка, зачисление на балансы, обороты дня и запись в журнал одной командой. Выполняется после блокировки
+    // счетов: закрыть счет до конца транзакции уже нельзя. В режиме событий зачисления только добавляются
+    // в журнал: балансы и строки текущего дня не изменяются. Возвращает число зачисленных строк
+    public int applyChunk(Connection connection, long fromLine, long toLine) throws SQLException {
+        String balances = eventSourced ? "" : "), credited AS ("
+                + "UPDATE accounts a SET balance = a.balance + c.total FROM ("
+                + "SELECT account_id, SUM(amount::numeric) AS total FROM checked "
+                + "WHERE reject_reason IS NULL GROUP BY account_id"
+                + ") c WHERE a.id = c.account_id RETURNING a.id, a.balance, c.total"
+                + "), turnover AS ("
+                + "INSERT INTO daily_balances (account_id, day, credit_turnover, debit_turnover, closing_balance) "
+                + "SELECT id, CURRENT_DATE, total, 0, balance FROM credited "
+                + "ON CONFLICT (account_id, day) DO UPDATE SET "
+                + "credit_turnover = daily_balances.credit_turnover + EXCLUDED.credit_turnover, "
+                + "closing_balance = EXCLUDED.closing_balance";
+        String sql = "WITH checked AS MATERIALIZED ("
+                + "SELECT s.line_no, a.id AS account_id, s.amount, upper(trim(s.currency)) AS currency, CASE "
+                + "WHEN s.amount IS NULL OR s.amount !~ '^[0-9]{1,13}(\\.[0-9]{1,2})?$' THEN 'Некорректная сумма' "
+                + "WHEN s.amount::numeric = 0 THEN 'Некорректная сумма' "
+                + "WHEN a.id IS NULL THEN 'Счет не найден' "
+                + "WHEN a.status <> 'OPEN' THEN 'Счет закрыт' "
+                + "WHEN s.currency IS NULL OR a.currency <> upper(trim(s.currency)) THEN 'Валюта не совпадает с валютой счета' "
+                + "END AS reject_reason "
+                + "FROM " + STAGE_TABLE + " s LEFT JOIN accounts a ON a.account_number = s.account_number "
+                + "WHERE s.line_no >= ? AND s.line_no < ?"
+                + "), rejected AS ("
+                + "INSERT INTO " + REJECTS_TABLE + " (line_no, reject_reason) "
+                + "SELECT line_no, reject_reason FROM checked WHERE reject_reason IS NOT NULL"
+                + balances
+                + "), ledger AS ("
+                + "INSERT INTO transactions (from_account_id, to_account_id, amount, currency, type) "
+                + "SELECT NULL, account_id, amount::numeric, currency, 'CREDIT' FROM checked "
+                + "WHERE reject_reason IS NULL ORDER BY line_no RETURNING 1"
+                + ") SELECT COUNT(*) FROM ledger";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, fromLine);
+            statement.setLong(2, toLine);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+        }
+    }
+}
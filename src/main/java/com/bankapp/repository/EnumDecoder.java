@@ -0,0 +1,33 @@
+package com.bankapp.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Разбор значений перечислений из текстовых колонок по заранее построенной таблице имен
+public final class EnumDecoder<E extends Enum<E>> {
+    private final Class<E> type;
+    private final Map<String, E> constants = new HashMap<>();
+
+    private EnumDecoder(Class<E> type) {
+        this.type = type;
+        for (E constant : type.getEnumConstants()) {
+            constants.put(constant.name(), constant);
+        }
+    }
+
+    public static <E extends Enum<E>> EnumDecoder<E> of(Class<E> type) {
+        return new EnumDecoder<>(type);
+    }
+
+    // NULL в колонке - null
+    public E decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        E constant = constants.get(value);
+        if (constant == null) {
+            throw new IllegalArgumentException("Неизвестное значение " + type.getSimpleName() + ": " + value);
+        }
+        return constant;
+    }
+}
@@ -0,0 +1,63 @@
+package com.bankapp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Условия WHERE из заполненных полей фильтра. Условия добавляются в постоянном порядке, значения
+// передаются параметрами, поэтому SQL зависит только от набора заполненных полей и кэшируется по ключу
+// этого набора (getKey).
+final class FilterClause {
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> parameters = new ArrayList<>();
+    private final StringBuilder key = new StringBuilder();
+
+    // Условие добавляется, только если значение задано. name - буква условия в ключе, одна на условие;
+    // значение подставляется во все "?" условия
+    FilterClause add(char name, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            for (int i = condition.indexOf('?'); i >= 0; i = condition.indexOf('?', i + 1)) {
+                parameters.add(value);
+            }
+            key.append(name);
+        }
+        return this;
+    }
+
+    String getSql() {
+        return String.join(" AND ", conditions);
+    }
+
+    String getKey() {
+        return key.toString();
+    }
+
+    // " WHERE ..." или пустая строка для пустого фильтра
+    String where() {
+        return conditions.isEmpty() ? "" : " WHERE " + getSql();
+    }
+
+    // Значения параметров по порядку "?" в getSql()
+    Object[] getParameters() {
+        return parameters.toArray();
+    }
+
+    // Подставляет значения фильтра, возвращает индекс следующего параметра
+    int bind(PreparedStatement statement, int parameterIndex) throws SQLException {
+        for (Object parameter : parameters) {
+            statement.setObject(parameterIndex++, parameter);
+        }
+        return parameterIndex;
+    }
+
+    static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // Значение для LIKE 'префикс%': символы шаблона в префиксе ищутся буквально
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,24 @@
+package com.bankapp.repository;
+
+// Позиция в отсортированной выборке: значения колонок сортировки последней прочитанной строки
+public class KeysetCursor {
+    private final String sortKey;
+    private final Object[] values;
+
+    public KeysetCursor(String sortKey, Object[] values) {
+        this.sortKey = sortKey;
+        this.values = values;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public Object getValue(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bankapp.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPage<T> {
+    private final List<T> items;
+    private final KeysetCursor last;
+
+    public KeysetPage(List<T> items, KeysetCursor last) {
+        this.items = items;
+        this.last = last;
+    }
+
+    public static <T> KeysetPage<T> of(List<T> items, SortSpec sort, Function<T, Object[]> sortValues) {
+        if (items.isEmpty()) {
+            return new KeysetPage<>(items, null);
+        }
+        T lastItem = items.get(items.size() - 1);
+        return new KeysetPage<>(items, new KeysetCursor(sort.getKey(), sortValues.apply(lastItem)));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // Курсор для продолжения выборки после последней строки страницы, null для пустой страницы
+    public KeysetCursor getLast() {
+        return last;
+    }
+}
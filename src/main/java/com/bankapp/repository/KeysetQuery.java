@@ -0,0 +1,161 @@
+package com.bankapp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Запрос страницы с продолжением от курсора (seek) вместо пропуска строк через OFFSET.
+// NULL упорядочиваются как в PostgreSQL по умолчанию: ASC - в конце, DESC - в начале.
+public class KeysetQuery {
+    private final String sql;
+    private final int[] parameterColumns;
+
+    private KeysetQuery(String sql, int[] parameterColumns) {
+        this.sql = sql;
+        this.parameterColumns = parameterColumns;
+    }
+
+    public static String key(SortSpec sort, KeysetCursor after) {
+        if (after == null) {
+            return sort.getKey();
+        }
+        StringBuilder key = new StringBuilder(sort.getKey()).append('|');
+        for (int i = 0; i < after.size(); i++) {
+            key.append(after.getValue(i) == null ? 'N' : 'V');
+        }
+        return key.toString();
+    }
+
+    // Курсор, построенный для другой сортировки, продолжать нельзя
+    public static KeysetCursor usableCursor(KeysetCursor after, SortSpec sort) {
+        if (after == null || !after.getSortKey().equals(sort.getKey())
+                || after.size() != sort.getColumns().size()) {
+            return null;
+        }
+        return after;
+    }
+
+    public static KeysetQuery build(String select, String filter, SortSpec sort, KeysetCursor after,
+                                    Set<String> nullableColumns) {
+        List<Integer> parameters = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (filter != null && !filter.isEmpty()) {
+            conditions.add(filter);
+        }
+        if (after != null) {
+            conditions.add(seekPredicate(sort, after, nullableColumns, parameters));
+        }
+
+        StringBuilder sql = new StringBuilder(select);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(sort.toOrderByClause()).append(" LIMIT ? OFFSET ?");
+
+        return new KeysetQuery(sql.toString(), parameters.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    // Подставляет значения курсора, возвращает индекс следующего параметра
+    public int bind(PreparedStatement statement, KeysetCursor after, int parameterIndex) throws SQLException {
+        for (int column : parameterColumns) {
+            statement.setObject(parameterIndex++, after.getValue(column));
+        }
+        return parameterIndex;
+    }
+
+    private static String seekPredicate(SortSpec sort, KeysetCursor after, Set<String> nullableColumns,
+                                        List<Integer> parameters) {
+        List<String> columns = sort.getColumns();
+
+        if (isUniform(sort, after, nullableColumns)) {
+            // Сравнение кортежей целиком используется индексом (col1, col2, id) как условие поиска
+            StringBuilder row = new StringBuilder("(");
+            StringBuilder values = new StringBuilder("(");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    row.append(", ");
+                    values.append(", ");
+                }
+                row.append(columns.get(i));
+                values.append('?');
+                parameters.add(i);
+            }
+            return row + ")" + (sort.isAscending(0) ? " > " : " < ") + values + ")";
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String strictlyAfter = strictlyAfter(columns.get(i), sort.isAscending(i), after.getValue(i),
+                    nullableColumns.contains(columns.get(i)), i, null);
+            if (strictlyAfter == null) {
+                continue;
+            }
+
+            List<Integer> termParameters = new ArrayList<>();
+            StringBuilder term = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                if (after.getValue(j) == null) {
+                    term.append(columns.get(j)).append(" IS NULL AND ");
+                } else {
+                    term.append(columns.get(j)).append(" = ? AND ");
+                    termParameters.add(j);
+                }
+            }
+            term.append(strictlyAfter(columns.get(i), sort.isAscending(i), after.getValue(i),
+                    nullableColumns.contains(columns.get(i)), i, termParameters));
+            terms.add("(" + term + ")");
+            parameters.addAll(termParameters);
+        }
+
+        if (terms.isEmpty()) {
+            return "FALSE";
+        }
+
+        // Дополнительная граница по первой колонке позволяет начать сканирование индекса с курсора
+        String first = columns.get(0);
+        Object firstValue = after.getValue(0);
+        String leadingBound = "";
+        if (firstValue != null) {
+            if (!sort.isAscending(0)) {
+                leadingBound = first + " <= ? AND ";
+                parameters.add(0, 0);
+            } else if (!nullableColumns.contains(first)) {
+                leadingBound = first + " >= ? AND ";
+                parameters.add(0, 0);
+            }
+        }
+        return "(" + leadingBound + "(" + String.join(" OR ", terms) + "))";
+    }
+
+    private static String strictlyAfter(String column, boolean ascending, Object value, boolean nullable,
+                                        int index, List<Integer> parameters) {
+        if (value == null) {
+            // NULL при ASC - последние, дальше ничего нет; при DESC - первые, дальше все непустые
+            return ascending ? null : column + " IS NOT NULL";
+        }
+        if (parameters != null) {
+            parameters.add(index);
+        }
+        if (ascending) {
+            return nullable ? "(" + column + " > ? OR " + column + " IS NULL)" : column + " > ?";
+        }
+        return column + " < ?";
+    }
+
+    private static boolean isUniform(SortSpec sort, KeysetCursor after, Set<String> nullableColumns) {
+        boolean ascending = sort.isAscending(0);
+        for (int i = 0; i < sort.getColumns().size(); i++) {
+            if (sort.isAscending(i) != ascending || after.getValue(i) == null
+                    || nullableColumns.contains(sort.getColumns().get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bankapp.repository;
+
+import com.bankapp.model.TablePartition;
+import com.bankapp.utils.TransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Секции таблиц, секционированных по диапазону дат. Имена таблиц в DDL не параметризуются,
+// поэтому принимаются только простые идентификаторы.
+public class PartitionRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final TransactionManager transactionManager;
+
+    public PartitionRepository(TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public List<TablePartition> findPartitions(String parentTable) throws SQLException {
+        String sql = "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound "
+                + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname";
+        List<TablePartition> partitions = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, parentTable);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitions.add(mapPartition(resultSet.getString("relname"), resultSet.getString("bound")));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    // Вызывается внутри транзакции: lock_timeout ограничивает ожидание блокировки родительской таблицы
+    public void createPartition(String parentTable, String partitionName, LocalDateTime from, LocalDateTime to,
+                                long lockTimeoutMs) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + identifier(partitionName)
+                + " PARTITION OF " + identifier(parentTable)
+                + " FOR VALUES FROM ('" + from.format(BOUND_FORMAT) + "') TO ('" + to.format(BOUND_FORMAT) + "')";
+        try (Connection connection = transactionManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+            statement.execute(sql);
+        }
+    }
+
+    // Вызывается внутри транзакции: lock_timeout ограничивает ожидание блокировки родительской таблицы
+    public void detachPartition(String parentTable, String partitionName, long lockTimeoutMs) throws SQLException {
+        try (Connection connection = transactionManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+            statement.execute("ALTER TABLE " + identifier(parentTable) + " DETACH PARTITION " + identifier(partitionName));
+        }
+    }
+
+    public long countRows(String table) throws SQLException {
+        try (Connection connection = transactionManager.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + identifier(table))) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private TablePartition mapPartition(String name, String bound) {
+        if ("DEFAULT".equals(bound)) {
+            return new TablePartition(name, null, null, true);
+        }
+        Matcher matcher = RANGE_BOUND.matcher(bound);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Неизвестный формат границ секции " + name + ": " + bound);
+        }
+        return new TablePartition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)), false);
+    }
+
+    private LocalDateTime parseBound(String value) {
+        if ("MINVALUE".equals(value) || "MAXVALUE".equals(value)) {
+            return null;
+        }
+        return LocalDateTime.parse(value.replace("'", "").replace(' ', 'T'));
+    }
+
+    private static String identifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Недопустимое имя таблицы: " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,235 @@
+package com.bankapp.repository;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.MismatchType;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.model.ReconciliationMismatch;
+import com.bankapp.utils.TransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Данные сверки балансов с журналом по диапазонам id счетов [rangeStart, rangeEnd)
+// и сохраненные контрольные суммы диапазонов
+public class ReconciliationRepository {
+
+    private static final EnumDecoder<Currency> CURRENCIES = EnumDecoder.of(Currency.class);
+    private static final RowMapper<DailyBalance> DAILY_BALANCE_MAPPER = new RowMapper<>(
+            ReconciliationRepository::mapDailyBalance, "d.account_id AS account_id", "d.day AS day",
+            "d.credit_turnover AS credit_turnover", "d.debit_turnover AS debit_turnover",
+            "d.closing_balance AS closing_balance", "a.currency AS currency");
+
+    private final TransactionManager transactionManager;
+    private final boolean eventSourced;
+
+    public ReconciliationRepository(TransactionManager transactionManager) {
+        this(transactionManager, false);
+    }
+
+    public ReconciliationRepository(TransactionManager transactionManager, boolean eventSourced) {
+        this.transactionManager = transactionManager;
+        this.eventSourced = eventSourced;
+    }
+
+    public long findMaxAccountId() throws SQLException {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM accounts";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // Дневные обороты счетов диапазона в порядке (account_id, day) - порядке первичного ключа.
+    // Поток держит соединение до закрытия
+    public Stream<DailyBalance> streamDailyBalances(long rangeStart, long rangeEnd) throws SQLException {
+        return CursorStream.open(transactionManager, "SELECT " + DAILY_BALANCE_MAPPER.getColumnList()
+                        + " FROM daily_balances d JOIN accounts a ON a.id = d.account_id"
+                        + " WHERE d.account_id >= ? AND d.account_id < ? ORDER BY d.account_id, d.day",
+                DAILY_BALANCE_MAPPER, rangeStart, rangeEnd);
+    }
+
+    // Счета диапазона, остаток которых не равен остатку последнего дня. Остаток и дневные обороты
+    // читаются одной командой: перевод между чтениями не даст ложного расхождения.
+    // В режиме событий строки текущего дня проводки не обновляют: остаток из снимка и журнала за вычетом
+    // движений после последнего закрытого дня сравнивается с остатком этого дня.
+    // Счет без строк дней сравнивается с нулем: счета открываются с нулевым остатком
+    public List<ReconciliationMismatch> findBalanceMismatches(long rangeStart, long rangeEnd) throws SQLException {
+        String lastDay = eventSourced ? "AND day < CURRENT_DATE " : "";
+        String balance = eventSourced
+                ? BalanceSnapshotRepository.derivedBalance("a.id")
+                + " - COALESCE((SELECT SUM(amount) FROM transactions WHERE to_account_id = a.id "
+                + "AND transaction_date >= COALESCE(d.day + 1, '-infinity')), 0)"
+                + " + COALESCE((SELECT SUM(amount) FROM transactions WHERE from_account_id = a.id "
+                + "AND transaction_date >= COALESCE(d.day + 1, '-infinity')), 0)"
+                : "a.balance";
+        String sql = "SELECT id, currency, closing_balance, balance FROM ("
+                + "SELECT a.id, a.currency, COALESCE(d.closing_balance, 0) AS closing_balance, "
+                + balance + " AS balance FROM accounts a "
+                + "LEFT JOIN LATERAL (SELECT day, closing_balance FROM daily_balances WHERE account_id = a.id " + lastDay
+                + "ORDER BY day DESC LIMIT 1) d ON true "
+                + "WHERE a.id >= ? AND a.id < ?) b WHERE closing_balance <> balance ORDER BY id";
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, rangeStart);
+            statement.setLong(2, rangeEnd);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Currency currency = CURRENCIES.decode(resultSet.getString(2));
+                    mismatches.add(new ReconciliationMismatch(resultSet.getLong(1), null, MismatchType.ACCOUNT_BALANCE,
+                            Money.parse(resultSet.getString(3), currency), Money.parse(resultSet.getString(4), currency)));
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    // Сравнивает обороты дней [dayFrom, dayTo) с суммами журнала. Журнал читается по индексам
+    // (счет, дата) отдельным спуском на каждый счет диапазона, только за указанные дни
+    public List<ReconciliationMismatch> findTurnoverMismatches(long rangeStart, long rangeEnd, LocalDate dayFrom,
+                                                               LocalDate dayTo) throws SQLException {
+        String sql = "WITH journal AS ("
+                + "SELECT account_id, day, SUM(credit) AS credit, SUM(debit) AS debit FROM ("
+                + "SELECT to_account_id AS account_id, transaction_date::date AS day, amount AS credit, 0 AS debit "
+                + "FROM transactions WHERE to_account_id = ANY(ARRAY(SELECT id FROM accounts WHERE id >= ? AND id < ?)) "
+                + "AND transaction_date >= ? AND transaction_date < ? "
+                + "UNION ALL "
+                + "SELECT from_account_id, transaction_date::date, 0, amount "
+                + "FROM transactions WHERE from_account_id = ANY(ARRAY(SELECT id FROM accounts WHERE id >= ? AND id < ?)) "
+                + "AND transaction_date >= ? AND transaction_date < ?"
+                + ") moves GROUP BY account_id, day"
+                + "), daily AS ("
+                + "SELECT account_id, day, credit_turnover, debit_turnover FROM daily_balances "
+                + "WHERE account_id >= ? AND account_id < ? AND day >= ? AND day < ?"
+                + ") "
+                + "SELECT m.account_id, m.day, a.currency, m.journal_credit, m.journal_debit, m.daily_credit, m.daily_debit "
+                + "FROM (SELECT COALESCE(j.account_id, d.account_id) AS account_id, COALESCE(j.day, d.day) AS day, "
+                + "COALESCE(j.credit, 0) AS journal_credit, COALESCE(j.debit, 0) AS journal_debit, "
+                + "COALESCE(d.credit_turnover, 0) AS daily_credit, COALESCE(d.debit_turnover, 0) AS daily_debit "
+                + "FROM journal j FULL JOIN daily d ON d.account_id = j.account_id AND d.day = j.day) m "
+                + "JOIN accounts a ON a.id = m.account_id "
+                + "WHERE m.journal_credit <> m.daily_credit OR m.journal_debit <> m.daily_debit "
+                + "ORDER BY m.account_id, m.day";
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (int part = 0; part < 2; part++) {
+                statement.setLong(index++, rangeStart);
+                statement.setLong(index++, rangeEnd);
+                statement.setObject(index++, dayFrom.atStartOfDay());
+                statement.setObject(index++, dayTo.atStartOfDay());
+            }
+            statement.setLong(index++, rangeStart);
+            statement.setLong(index++, rangeEnd);
+            statement.setObject(index++, dayFrom);
+            statement.setObject(index, dayTo);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long accountId = resultSet.getLong(1);
+                    LocalDate day = resultSet.getObject(2, LocalDate.class);
+                    Currency currency = CURRENCIES.decode(resultSet.getString(3));
+                    Money journalCredit = Money.parse(resultSet.getString(4), currency);
+                    Money journalDebit = Money.parse(resultSet.getString(5), currency);
+                    Money dailyCredit = Money.parse(resultSet.getString(6), currency);
+                    Money dailyDebit = Money.parse(resultSet.getString(7), currency);
+                    if (!journalCredit.equals(dailyCredit)) {
+                        mismatches.add(new ReconciliationMismatch(accountId, day, MismatchType.CREDIT_TURNOVER,
+                                journalCredit, dailyCredit));
+                    }
+                    if (!journalDebit.equals(dailyDebit)) {
+                        mismatches.add(new ReconciliationMismatch(accountId, day, MismatchType.DEBIT_TURNOVER,
+                                journalDebit, dailyDebit));
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    public Optional<byte[]> findRangeHash(long rangeStart) throws SQLException {
+        String sql = "SELECT root_hash FROM reconciliation_ranges WHERE range_start = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, rangeStart);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getBytes(1)) : Optional.empty();
+            }
+        }
+    }
+
+    // Листья диапазона в порядке дней
+    public Map<LocalDate, byte[]> findCheckpoints(long rangeStart) throws SQLException {
+        String sql = "SELECT day, leaf_hash FROM reconciliation_checkpoints WHERE range_start = ? ORDER BY day";
+        Map<LocalDate, byte[]> checkpoints = new TreeMap<>();
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, rangeStart);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    checkpoints.put(resultSet.getObject(1, LocalDate.class), resultSet.getBytes(2));
+                }
+            }
+        }
+        return checkpoints;
+    }
+
+    // Записывает измененные листья, удаляет непрошедшие сверку и исчезнувшие, сохраняет новый корень.
+    // Вызывается в транзакции: корень должен соответствовать сохраненным листьям
+    public void saveCheckpoints(long rangeStart, long rangeEnd, Map<LocalDate, byte[]> leaves,
+                                Collection<LocalDate> removedDays, byte[] rootHash) throws SQLException {
+        try (Connection connection = transactionManager.getConnection()) {
+            if (!removedDays.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "DELETE FROM reconciliation_checkpoints WHERE range_start = ? AND day = ANY(?)")) {
+                    statement.setLong(1, rangeStart);
+                    statement.setArray(2, connection.createArrayOf("date", removedDays.toArray()));
+                    statement.executeUpdate();
+                }
+            }
+            if (!leaves.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO reconciliation_checkpoints (range_start, day, leaf_hash) VALUES (?, ?, ?) "
+                                + "ON CONFLICT (range_start, day) DO UPDATE SET leaf_hash = EXCLUDED.leaf_hash")) {
+                    for (Map.Entry<LocalDate, byte[]> leaf : leaves.entrySet()) {
+                        statement.setLong(1, rangeStart);
+                        statement.setObject(2, leaf.getKey());
+                        statement.setBytes(3, leaf.getValue());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO reconciliation_ranges (range_start, range_end, root_hash) VALUES (?, ?, ?) "
+                            + "ON CONFLICT (range_start) DO UPDATE SET range_end = EXCLUDED.range_end, "
+                            + "root_hash = EXCLUDED.root_hash, verified_at = CURRENT_TIMESTAMP")) {
+                statement.setLong(1, rangeStart);
+                statement.setLong(2, rangeEnd);
+                statement.setBytes(3, rootHash);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private static DailyBalance mapDailyBalance(ResultSet resultSet, int[] columns) throws SQLException {
+        Currency currency = CURRENCIES.decode(resultSet.getString(columns[5]));
+        return new DailyBalance(resultSet.getLong(columns[0]), resultSet.getObject(columns[1], LocalDate.class),
+                Money.parse(resultSet.getString(columns[2]), currency),
+                Money.parse(resultSet.getString(columns[3]), currency),
+                Money.parse(resultSet.getString(columns[4]), currency));
+    }
+}
@@ -3,11 +3,14 @@ package com.bankapp.repository;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface Repository<T, ID> {
     void save(T entity) throws SQLException;
     void update(T entity) throws SQLException;
     Optional<T> findById(ID id) throws SQLException;
     List<T> findAll() throws SQLException;
+    // То же, что findAll, но строки читаются по мере потребления; поток нужно закрыть
+    Stream<T> streamAll() throws SQLException;
     int count() throws SQLException;
 }
\ No newline at end of file
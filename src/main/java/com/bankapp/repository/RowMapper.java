@@ -0,0 +1,75 @@
+package com.bankapp.repository;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Заполнение сущностей по номерам колонок. Номера колонок определяются по ResultSetMetaData
+// один раз на текст запроса и кешируются, строки читаются без поиска колонок по имени.
+public final class RowMapper<T> {
+
+    @FunctionalInterface
+    public interface RowReader<T> {
+        // columns[i] - номер в результате i-й колонки из списка, переданного в конструктор
+        T read(ResultSet resultSet, int[] columns) throws SQLException;
+    }
+
+    // Тексты запросов строятся из белых списков колонок, набор конечен; ограничение - на всякий случай
+    private static final int MAX_SHAPES = 256;
+
+    private final String[] columns;
+    private final String columnList;
+    private final RowReader<T> reader;
+    private final ConcurrentHashMap<String, int[]> shapes = new ConcurrentHashMap<>();
+
+    // Колонка может быть выражением с псевдонимом: "passport_scan_copy IS NOT NULL AS passport_scan_present"
+    public RowMapper(RowReader<T> reader, String... columns) {
+        this.reader = reader;
+        this.columns = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            int alias = columns[i].lastIndexOf(" AS ");
+            this.columns[i] = alias < 0 ? columns[i] : columns[i].substring(alias + 4);
+        }
+        this.columnList = String.join(", ", columns);
+    }
+
+    // Список колонок для SELECT вместо "*": лишние колонки не передаются по сети
+    public String getColumnList() {
+        return columnList;
+    }
+
+    public int[] columns(String sql, ResultSet resultSet) throws SQLException {
+        int[] positions = shapes.get(sql);
+        if (positions == null) {
+            positions = resolve(resultSet.getMetaData());
+            if (shapes.size() < MAX_SHAPES) {
+                shapes.putIfAbsent(sql, positions);
+            }
+        }
+        return positions;
+    }
+
+    public T map(ResultSet resultSet, int[] columns) throws SQLException {
+        return reader.read(resultSet, columns);
+    }
+
+    private int[] resolve(ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = metaData.getColumnCount(); i >= 1; i--) {
+            // При совпадении имен берется первая колонка, как у ResultSet.findColumn
+            byName.put(metaData.getColumnLabel(i).toLowerCase(), i);
+        }
+        int[] positions = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Integer position = byName.get(columns[i]);
+            if (position == null) {
+                throw new SQLException("В результате запроса нет колонки " + columns[i]);
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bankapp.repository;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+// Нормализованная сортировка: колонки БД из белого списка репозитория без повторов,
+// последней всегда идет уникальная колонка id. Ключ используется для кэширования SQL.
+public class SortSpec {
+    public static final String TIEBREAKER_COLUMN = "id";
+
+    private final List<String> columns;
+    private final List<Boolean> ascending;
+    private final String key;
+
+    private SortSpec(List<String> columns, List<Boolean> ascending) {
+        this.columns = columns;
+        this.ascending = ascending;
+
+        StringBuilder keyBuilder = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                keyBuilder.append(',');
+            }
+            keyBuilder.append(columns.get(i)).append(ascending.get(i) ? ":ASC" : ":DESC");
+        }
+        this.key = keyBuilder.toString();
+    }
+
+    public static SortSpec of(List<QuerySortOrder> sortOrders, UnaryOperator<String> columnMapper,
+                              String defaultColumn, boolean defaultAscending) {
+        List<String> columns = new ArrayList<>();
+        List<Boolean> ascending = new ArrayList<>();
+
+        for (QuerySortOrder sortOrder : sortOrders) {
+            String column = columnMapper.apply(sortOrder.getSorted());
+            if (!columns.contains(column)) {
+                columns.add(column);
+                ascending.add(sortOrder.getDirection() == SortDirection.ASCENDING);
+            }
+        }
+
+        if (columns.isEmpty()) {
+            columns.add(defaultColumn);
+            ascending.add(defaultAscending);
+        }
+        // Уникальный id делает порядок строк однозначным, без него keyset-пагинация теряет строки
+        if (!columns.contains(TIEBREAKER_COLUMN)) {
+            columns.add(TIEBREAKER_COLUMN);
+            ascending.add(ascending.get(ascending.size() - 1));
+        }
+        return new SortSpec(columns, ascending);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public boolean isAscending(int index) {
+        return ascending.get(index);
+    }
+
+    public String toOrderByClause() {
+        StringBuilder sql = new StringBuilder(" ORDER BY ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns.get(i)).append(ascending.get(i) ? " ASC" : " DESC");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.bankapp.repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Готовые тексты динамических запросов (или запросы вместе с порядком параметров).
+// Ключи строятся только из белых списков колонок, поэтому набор конечен,
+// а ограничение размера защищает от неожиданных комбинаций.
+public class SqlTemplateCache<T> {
+    private final int maxSize;
+    private final ConcurrentHashMap<String, T> templates = new ConcurrentHashMap<>();
+
+    public SqlTemplateCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public T get(String key, Function<String, T> builder) {
+        T template = templates.get(key);
+        if (template == null) {
+            template = builder.apply(key);
+            if (templates.size() < maxSize) {
+                templates.putIfAbsent(key, template);
+            }
+        }
+        return template;
+    }
+}
@@ -2,26 +2,44 @@ package com.bankapp.repository;
 
 import com.bankapp.enums.Currency;
 import com.bankapp.enums.TransactionType;
+import com.bankapp.model.Money;
 import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
 import com.bankapp.utils.TransactionManager;
 import com.vaadin.flow.data.provider.QuerySortOrder;
-import com.vaadin.flow.data.provider.SortDirection;
 
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class TransactionRepositoryImpl extends AbstractRepository<Transaction, Long> {
 
+    // Колонки без NOT NULL: у пополнений нет счета отправителя. transaction_date - ключ секционирования
+    // и NOT NULL с V4, поэтому страницы по дате продолжаются сравнением (transaction_date, id) > (?, ?)
+    private static final Set<String> NULLABLE_SORT_COLUMNS = Set.of("from_account_id", "to_account_id");
+
+    private static final EnumDecoder<Currency> CURRENCIES = EnumDecoder.of(Currency.class);
+    private static final EnumDecoder<TransactionType> TYPES = EnumDecoder.of(TransactionType.class);
+    public static final RowMapper<Transaction> ROW_MAPPER = new RowMapper<>(TransactionRepositoryImpl::mapTransaction,
+            "id", "from_account_id", "to_account_id", "amount", "currency", "transaction_date", "type");
+
+    private final SqlTemplateCache<KeysetQuery> sortedQueries = new SqlTemplateCache<>(256);
+
     public TransactionRepositoryImpl(TransactionManager transactionManager) {
         super(transactionManager);
     }
 
     @Override
     public void save(Transaction transaction) throws SQLException {
-        String sql = "INSERT INTO transactions (from_account_id, to_account_id, amount, currency, type) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        String sql = "INSERT INTO transactions (from_account_id, to_account_id, amount, currency, type) VALUES (?, ?, ? * 0.01, ?, ?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             Long fromAccountId = transaction.getFromAccount();
             if (fromAccountId != null) {
                 statement.setLong(1, fromAccountId);
@@ -29,7 +47,7 @@ public class TransactionRepositoryImpl extends AbstractRepository<Transaction, L
                 statement.setNull(1, Types.BIGINT);
             }
             statement.setLong(2, transaction.getToAccount());
-            statement.setBigDecimal(3, transaction.getAmount());
+            statement.setLong(3, transaction.getAmount().getMinorUnits());
             statement.setString(4, transaction.getCurrency().toString());
             statement.setString(5, transaction.getType().toString());
             statement.executeUpdate();
@@ -42,56 +60,217 @@ public class TransactionRepositoryImpl extends AbstractRepository<Transaction, L
         }
     }
 
+    // Пакетная вставка одной командой на пакет (reWriteBatchedInserts); id записей не возвращаются
+    public void saveAll(List<Transaction> transactions) throws SQLException {
+        String sql = "INSERT INTO transactions (from_account_id, to_account_id, amount, currency, type) VALUES (?, ?, ? * 0.01, ?, ?)";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Transaction transaction : transactions) {
+                Long fromAccountId = transaction.getFromAccount();
+                if (fromAccountId != null) {
+                    statement.setLong(1, fromAccountId);
+                } else {
+                    statement.setNull(1, Types.BIGINT);
+                }
+                statement.setLong(2, transaction.getToAccount());
+                statement.setLong(3, transaction.getAmount().getMinorUnits());
+                statement.setString(4, transaction.getCurrency().toString());
+                statement.setString(5, transaction.getType().toString());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
     @Override
     public List<Transaction> findAll() throws SQLException {
-        String sql = "SELECT * FROM transactions";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql);
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             List<Transaction> transactions = new ArrayList<>();
+            int[] columns = ROW_MAPPER.columns(sql, resultSet);
             while (resultSet.next()) {
-                transactions.add(mapTransaction(resultSet));
+                transactions.add(ROW_MAPPER.map(resultSet, columns));
             }
             return transactions;
         }
     }
+
+    // Весь журнал для выгрузок и пакетных заданий: в памяти одновременно только порция строк курсора
+    @Override
+    public Stream<Transaction> streamAll() throws SQLException {
+        return stream("SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions", ROW_MAPPER);
+    }
+
     public List<Transaction> findTransactions(int offset, int limit, List<QuerySortOrder> sortOrders) throws SQLException {
-        StringBuilder sql = new StringBuilder("SELECT * FROM transactions");
-
-        if (!sortOrders.isEmpty()) {
-            sql.append(" ORDER BY ");
-            for (QuerySortOrder sortOrder : sortOrders) {
-                sql.append(mapSortColumn(sortOrder.getSorted()))
-                        .append(sortOrder.getDirection().equals(SortDirection.ASCENDING) ? " ASC" : " DESC")
-                        .append(", ");
-            }
-            sql.setLength(sql.length() - 2);
-        } else {
-            sql.append(" ORDER BY transaction_date DESC");
+        return findTransactions(new TransactionFilter(), offset, limit, sortOrders);
+    }
+
+    public List<Transaction> findTransactions(TransactionFilter filter, int offset, int limit,
+                                              List<QuerySortOrder> sortOrders) throws SQLException {
+        return findTransactionsPage(filter, null, offset, limit, sortOrders).getItems();
+    }
+
+    public KeysetPage<Transaction> findTransactionsPage(KeysetCursor after, int offset, int limit,
+                                                        List<QuerySortOrder> sortOrders) throws SQLException {
+        return findTransactionsPage(new TransactionFilter(), after, offset, limit, sortOrders);
+    }
+
+    // Страница после курсора after; offset отсчитывается от курсора, а не от начала выборки
+    public KeysetPage<Transaction> findTransactionsPage(TransactionFilter filter, KeysetCursor after, int offset,
+                                                        int limit, List<QuerySortOrder> sortOrders) throws SQLException {
+        SortSpec sort = SortSpec.of(sortOrders, this::mapSortColumn, "transaction_date", false);
+        KeysetCursor cursor = KeysetQuery.usableCursor(after, sort);
+        FilterClause where = filterClause(filter, true);
+        KeysetQuery query = sortedQueries.get(where.getKey() + "|" + KeysetQuery.key(sort, cursor),
+                key -> KeysetQuery.build("SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions", where.getSql(),
+                        sort, cursor, NULLABLE_SORT_COLUMNS));
+
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query.getSql())) {
+            int index = where.bind(stmt, 1);
+            index = cursor == null ? index : query.bind(stmt, cursor, index);
+            stmt.setInt(index++, limit);
+            stmt.setInt(index, offset);
+            return readPage(query.getSql(), stmt, sort);
         }
+    }
+
+    // История счета от новых операций к старым. Условие "счет с любой стороны" через OR индекс не
+    // упорядочивает, поэтому списания и зачисления читаются отдельно - каждая часть обратным сканированием
+    // своего индекса (счет, transaction_date, id) не дальше offset + limit строк - и сливаются (Merge Append)
+    public KeysetPage<Transaction> findAccountHistoryPage(TransactionFilter filter, KeysetCursor after, int offset,
+                                                          int limit) throws SQLException {
+        SortSpec sort = SortSpec.of(List.of(), this::mapSortColumn, "transaction_date", false);
+        KeysetCursor cursor = KeysetQuery.usableCursor(after, sort);
+        FilterClause debits = debitClause(filter);
+        FilterClause credits = creditClause(filter);
+        String select = "SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions";
+        String cursorKey = KeysetQuery.key(sort, cursor);
+        KeysetQuery debitQuery = sortedQueries.get(debits.getKey() + "|" + cursorKey,
+                key -> KeysetQuery.build(select, debits.getSql(), sort, cursor, NULLABLE_SORT_COLUMNS));
+        KeysetQuery creditQuery = sortedQueries.get(credits.getKey() + "|" + cursorKey,
+                key -> KeysetQuery.build(select, credits.getSql(), sort, cursor, NULLABLE_SORT_COLUMNS));
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM ((" + debitQuery.getSql() + ") UNION ALL ("
+                + creditQuery.getSql() + ")) AS history" + sort.toOrderByClause() + " LIMIT ? OFFSET ?";
+
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = bindHistoryPart(stmt, debits, debitQuery, cursor, offset + limit, 1);
+            index = bindHistoryPart(stmt, credits, creditQuery, cursor, offset + limit, index);
+            stmt.setInt(index++, limit);
+            stmt.setInt(index, offset);
+            return readPage(sql, stmt, sort);
+        }
+    }
+
+    // Все операции счета по фильтру от старых к новым - для выписки. Списания и зачисления, как в
+    // findAccountHistoryPage, читаются каждое по своему индексу и сливаются без сортировки
+    public Stream<Transaction> streamAccountHistory(TransactionFilter filter) throws SQLException {
+        FilterClause debits = debitClause(filter);
+        FilterClause credits = creditClause(filter);
+        String select = "SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions";
+        String order = " ORDER BY transaction_date, id";
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM ((" + select + debits.where() + order
+                + ") UNION ALL (" + select + credits.where() + order + ")) AS history" + order;
+        Object[] debitParameters = debits.getParameters();
+        Object[] creditParameters = credits.getParameters();
+        Object[] parameters = Arrays.copyOf(debitParameters, debitParameters.length + creditParameters.length);
+        System.arraycopy(creditParameters, 0, parameters, debitParameters.length, creditParameters.length);
+        return stream(sql, ROW_MAPPER, parameters);
+    }
 
-        sql.append(" LIMIT ? OFFSET ?");
+    // Операции по фильтру от старых к новым - для выгрузки журнала
+    public Stream<Transaction> streamTransactions(TransactionFilter filter) throws SQLException {
+        FilterClause where = filterClause(filter, true);
+        return stream("SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions" + where.where()
+                + " ORDER BY transaction_date, id", ROW_MAPPER, where.getParameters());
+    }
 
-        try (PreparedStatement stmt = transactionManager.getConnection().prepareStatement(sql.toString())) {
-            stmt.setInt(1, limit);
-            stmt.setInt(2, offset);
-            ResultSet rs = stmt.executeQuery();
+    private static FilterClause debitClause(TransactionFilter filter) {
+        requireAccount(filter);
+        return filterClause(filter, false).add('f', "from_account_id = ?", filter.getAccountId());
+    }
 
+    // Перевод со счета на тот же счет попадает только в списания
+    private static FilterClause creditClause(TransactionFilter filter) {
+        requireAccount(filter);
+        return filterClause(filter, false).add('t', "to_account_id = ?", filter.getAccountId())
+                .add('x', "from_account_id IS DISTINCT FROM ?", filter.getAccountId());
+    }
+
+    private static void requireAccount(TransactionFilter filter) {
+        if (filter == null || filter.getAccountId() == null) {
+            throw new IllegalArgumentException("Для истории операций не указан счет");
+        }
+    }
+
+    private static int bindHistoryPart(PreparedStatement stmt, FilterClause where, KeysetQuery query,
+                                       KeysetCursor cursor, int rows, int index) throws SQLException {
+        index = where.bind(stmt, index);
+        index = cursor == null ? index : query.bind(stmt, cursor, index);
+        stmt.setInt(index++, rows);
+        stmt.setInt(index++, 0);
+        return index;
+    }
+
+    private KeysetPage<Transaction> readPage(String sql, PreparedStatement stmt, SortSpec sort) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery()) {
             List<Transaction> transactions = new ArrayList<>();
+            int[] columns = ROW_MAPPER.columns(sql, rs);
             while (rs.next()) {
-                transactions.add(mapTransaction(rs));
+                transactions.add(ROW_MAPPER.map(rs, columns));
+            }
+            return KeysetPage.of(transactions, sort, transaction -> sortValues(transaction, sort));
+        }
+    }
+
+    // Число операций по фильтру, но не больше limit: подсчет останавливается, не дочитав большую выборку
+    public int count(TransactionFilter filter, int limit) throws SQLException {
+        FilterClause where = filterClause(filter, true);
+        String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM transactions" + where.where() + " LIMIT ?) AS matched";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = where.bind(stmt, 1);
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
             }
-            return transactions;
         }
     }
 
+    // Границы дат задаются полуинтервалом [начало dateFrom, начало следующего за dateTo дня): условие
+    // по transaction_date отсекает секции журнала и подходит для индекса (transaction_date, id).
+    // Сумма, валюта и тип проверяются по строкам, отобранным по счету или дате
+    private static FilterClause filterClause(TransactionFilter filter, boolean withAccount) {
+        FilterClause clause = new FilterClause();
+        if (filter == null) {
+            return clause;
+        }
+        if (withAccount) {
+            clause.add('a', "(from_account_id = ? OR to_account_id = ?)", filter.getAccountId());
+        }
+        LocalDate dateFrom = filter.getDateFrom();
+        LocalDate dateTo = filter.getDateTo();
+        return clause
+                .add('d', "transaction_date >= ?", dateFrom == null ? null : dateFrom.atStartOfDay())
+                .add('e', "transaction_date < ?", dateTo == null ? null : dateTo.plusDays(1).atStartOfDay())
+                .add('g', "amount >= ?", filter.getMinAmount())
+                .add('l', "amount <= ?", filter.getMaxAmount())
+                .add('c', "currency = ?", filter.getCurrency() == null ? null : filter.getCurrency().name())
+                .add('y', "type = ?", filter.getType() == null ? null : filter.getType().name());
+    }
+
     @Override
     public Optional<Transaction> findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE id = ?";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        String sql = "SELECT " + ROW_MAPPER.getColumnList() + " FROM transactions WHERE id = ?";
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setLong(1, id);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    return Optional.of(mapTransaction(resultSet));
+                    return Optional.of(ROW_MAPPER.map(resultSet, ROW_MAPPER.columns(sql, resultSet)));
                 }
             }
         }
@@ -101,7 +280,8 @@ public class TransactionRepositoryImpl extends AbstractRepository<Transaction, L
     @Override
     public int count() throws SQLException {
         String sql = "SELECT COUNT(*) FROM transactions";
-        try (PreparedStatement statement = transactionManager.getConnection().prepareStatement(sql)) {
+        try (Connection connection = transactionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
             ResultSet resultSet = statement.executeQuery();
             if (resultSet.next()) {
                 return resultSet.getInt(1);
@@ -110,18 +290,27 @@ public class TransactionRepositoryImpl extends AbstractRepository<Transaction, L
         }
     }
 
-    private Transaction mapTransaction(ResultSet resultSet) throws SQLException {
+    public long estimateCount() throws SQLException {
+        return estimateRowCount("transactions");
+    }
+
+    private static Transaction mapTransaction(ResultSet resultSet, int[] columns) throws SQLException {
         Transaction transaction = new Transaction();
-        transaction.setId(resultSet.getLong("id"));
-        transaction.setFromAccount(resultSet.getLong("from_account_id"));
-        transaction.setToAccount(resultSet.getLong("to_account_id"));
-        transaction.setAmount(resultSet.getBigDecimal("amount"));
-        transaction.setCurrency(Currency.valueOf(resultSet.getString("currency")));
-        transaction.setTransactionDate(resultSet.getTimestamp("transaction_date").toLocalDateTime());
-        transaction.setStatus(TransactionType.valueOf(resultSet.getString("type")));
+        transaction.setId(resultSet.getLong(columns[0]));
+        transaction.setFromAccount(getNullableLong(resultSet, columns[1]));
+        transaction.setToAccount(getNullableLong(resultSet, columns[2]));
+        transaction.setAmount(Money.parse(resultSet.getString(columns[3]), CURRENCIES.decode(resultSet.getString(columns[4]))));
+        transaction.setTransactionDate(resultSet.getObject(columns[5], LocalDateTime.class));
+        transaction.setStatus(TYPES.decode(resultSet.getString(columns[6])));
         return transaction;
     }
 
+    // getLong возвращает 0 для NULL, а курсору нужно настоящее значение колонки
+    private static Long getNullableLong(ResultSet resultSet, int column) throws SQLException {
+        long value = resultSet.getLong(column);
+        return resultSet.wasNull() ? null : value;
+    }
+
     private String mapSortColumn(String gridColumn) {
         return switch (gridColumn) {
             case "fromAccount" -> "from_account_id";
@@ -133,4 +322,21 @@ public class TransactionRepositoryImpl extends AbstractRepository<Transaction, L
             default -> "transaction_date";
         };
     }
+
+    private Object[] sortValues(Transaction transaction, SortSpec sort) {
+        List<String> columns = sort.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch (columns.get(i)) {
+                case "from_account_id" -> transaction.getFromAccount();
+                case "to_account_id" -> transaction.getToAccount();
+                case "amount" -> transaction.getAmount().toBigDecimal();
+                case "currency" -> transaction.getCurrency().name();
+                case "transaction_date" -> transaction.getTransactionDate();
+                case "type" -> transaction.getType().name();
+                default -> transaction.getId();
+            };
+        }
+        return values;
+    }
 }
@@ -2,34 +2,76 @@ package com.bankapp.service;
 
 import com.bankapp.enums.AccountStatus;
 import com.bankapp.enums.Currency;
+import com.bankapp.enums.PayoutLegStatus;
 import com.bankapp.enums.TransactionType;
 import com.bankapp.exception.AccountExistException;
 import com.bankapp.exception.AccountNotFoundException;
 import com.bankapp.exception.DataAccessException;
 import com.bankapp.exception.InsufficientFundsException;
 import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.KeysetCursor;
+import com.bankapp.repository.KeysetPage;
 import com.bankapp.utils.TransactionManager;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.bankapp.model.Account;
+import com.bankapp.model.AccountFilter;
+import com.bankapp.model.LedgerPosting;
+import com.bankapp.model.Money;
+import com.bankapp.model.PayoutLeg;
+import com.bankapp.model.PayoutLegResult;
+import com.bankapp.model.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 public class AccountService {
     private final AccountRepositoryImpl accountRepositoryImpl;
     private final TransactionManager transactionManager;
     private final TransactionService transactionService;
+    private final CardinalityService cardinalityService;
+    // null - групповая фиксация выключена, каждая операция выполняется своей транзакцией
+    private final GroupCommitLedgerWriter ledgerWriter;
+    // null - балансы хранятся в accounts.balance; иначе проводки только добавляются в журнал
+    private final EventSourcedLedger eventSourcedLedger;
     private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
+    // Выпадающий список запрашивает счета страницами, одним запросом больше страницы не читается
+    private static final int MAX_PICKER_PAGE = 100;
+    private static final int FILTERED_COUNT_LIMIT = 10_000;
 
     public AccountService(AccountRepositoryImpl accountRepositoryImpl, TransactionManager transactionManager,
-                          TransactionService transactionService) {
+                          TransactionService transactionService, CardinalityService cardinalityService) {
+        this(accountRepositoryImpl, transactionManager, transactionService, cardinalityService, null);
+    }
+
+    public AccountService(AccountRepositoryImpl accountRepositoryImpl, TransactionManager transactionManager,
+                          TransactionService transactionService, CardinalityService cardinalityService,
+                          GroupCommitLedgerWriter ledgerWriter) {
+        this(accountRepositoryImpl, transactionManager, transactionService, cardinalityService, ledgerWriter, null);
+    }
+
+    public AccountService(AccountRepositoryImpl accountRepositoryImpl, TransactionManager transactionManager,
+                          TransactionService transactionService, CardinalityService cardinalityService,
+                          GroupCommitLedgerWriter ledgerWriter, EventSourcedLedger eventSourcedLedger) {
         this.accountRepositoryImpl = accountRepositoryImpl;
         this.transactionManager = transactionManager;
         this.transactionService = transactionService;
+        this.cardinalityService = cardinalityService;
+        this.ledgerWriter = ledgerWriter;
+        this.eventSourcedLedger = eventSourcedLedger;
     }
 
     public void createAccount(Account account){
@@ -38,9 +80,10 @@ public class AccountService {
                 throw new AccountExistException("Номер счета уже существует");
             }
 
-            account.setBalance(BigDecimal.ZERO);
+            account.setBalance(Money.zero(account.getCurrency()));
             account.setStatus(AccountStatus.OPEN);
             accountRepositoryImpl.save(account);
+            cardinalityService.accountCreated();
             logger.info("Счет успешно сохранен, номер счета={}", account.getAccountNumber());
         } catch (SQLException e) {
             logger.error("Ошибка при создании счета: {}", e.getMessage(), e);
@@ -50,8 +93,13 @@ public class AccountService {
 
     public Account findAccountById(Long id) {
         try {
-            return accountRepositoryImpl.findById(id)
+            Account account = accountRepositoryImpl.findById(id)
                     .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + id + " не найден"));
+            // В режиме событий accounts.balance отстает от журнала до следующего снимка
+            if (eventSourcedLedger != null) {
+                account.setBalance(eventSourcedLedger.findBalance(id));
+            }
+            return account;
         } catch (SQLException e) {
             throw new DataAccessException("Ошибка при поиске счета", e);
         }
@@ -65,6 +113,16 @@ public class AccountService {
         }
     }
 
+    // Поток держит соединение с БД до закрытия: вызывающий код закрывает его в try-with-resources
+    public Stream<Account> streamAllAccounts() {
+        try {
+            return accountRepositoryImpl.streamAll();
+        } catch (SQLException e) {
+            logger.error("Ошибка при чтении списка счетов", e);
+            throw new DataAccessException("Ошибка при получении списка счетов", e);
+        }
+    }
+
     public List<Account> findAccounts(int offset, int limit, List<QuerySortOrder> sortOrders) {
         try {
             return accountRepositoryImpl.findAccounts(offset, limit, sortOrders);
@@ -74,9 +132,44 @@ public class AccountService {
         }
     }
 
-    public int countAccounts() {
+    public KeysetPage<Account> findAccountsPage(KeysetCursor after, int offset, int limit,
+                                                List<QuerySortOrder> sortOrders) {
         try {
-            return accountRepositoryImpl.count();
+            return accountRepositoryImpl.findAccountsPage(after, offset, limit, sortOrders);
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке счетов", e);
+            throw new DataAccessException("Ошибка при получении списка счетов по фильтру", e);
+        }
+    }
+
+    public KeysetPage<Account> findAccountsPage(AccountFilter filter, KeysetCursor after, int offset, int limit,
+                                                List<QuerySortOrder> sortOrders) {
+        try {
+            return accountRepositoryImpl.findAccountsPage(filter, after, offset, limit, sortOrders);
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке счетов по фильтру {}", filter, e);
+            throw new DataAccessException("Ошибка при получении списка счетов по фильтру", e);
+        }
+    }
+
+    // Без фильтра - счетчик таблицы; с фильтром счета считаются до FILTERED_COUNT_LIMIT,
+    // дальше размер выборки считается оценкой и уточняется сеткой при прокрутке
+    public RowCount countAccounts(AccountFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return countAccounts();
+        }
+        try {
+            int count = accountRepositoryImpl.count(filter, FILTERED_COUNT_LIMIT + 1);
+            return new RowCount(count, count <= FILTERED_COUNT_LIMIT);
+        } catch (SQLException e) {
+            logger.error("Ошибка при подсчёте счетов по фильтру {}", filter, e);
+            throw new DataAccessException("Ошибка при получении количества счетов", e);
+        }
+    }
+
+    public RowCount countAccounts() {
+        try {
+            return cardinalityService.countAccounts();
         } catch (SQLException e) {
             logger.error("Ошибка при подсчёте счетов", e);
             throw new DataAccessException("Ошибка при получении количества счетов", e);
@@ -104,9 +197,16 @@ public class AccountService {
         }
     }
 
+    // В режиме событий счет закрывается под блокировкой и только с нулевым остатком по журналу
     public void closeAccount(Long id) {
+        if (eventSourcedLedger != null) {
+            eventSourcedLedger.close(id);
+            cardinalityService.accountClosed();
+            return;
+        }
         try {
             accountRepositoryImpl.closeAccount(id);
+            cardinalityService.accountClosed();
         } catch (SQLException e) {
             logger.error("Ошибка при закрытии счета", e);
             throw new DataAccessException("Ошибка при закрытии счета", e);
@@ -115,19 +215,34 @@ public class AccountService {
 
     public boolean hasOpenAccounts() {
         try {
-            return accountRepositoryImpl.hasOpenAccounts();
+            return cardinalityService.hasOpenAccounts();
         } catch (SQLException e) {
             logger.error("Ошибка при проверке открытых счетов", e);
             throw new DataAccessException("Ошибка при проверке открытых счетов", e);
         }
     }
 
-    public List<Account> findAccountsByCurrencyAndNotSenderId(String currency, Long senderId) {
+    // Страница открытых счетов для выпадающих списков. Список без счетчика считает короткую страницу
+    // концом данных, поэтому возвращается весь запрошенный диапазон; из БД он читается запросами
+    // не больше MAX_PICKER_PAGE строк
+    public List<Account> searchOpenAccounts(String numberPrefix, Currency currency, Long excludedAccountId,
+                                            int offset, int limit) {
+        String prefix = numberPrefix == null ? null : numberPrefix.trim();
         try {
-            return accountRepositoryImpl.findAccountsByCurrencyAndNotSenderId(currency, senderId);
+            List<Account> accounts = new ArrayList<>();
+            while (accounts.size() < limit) {
+                int pageSize = Math.min(limit - accounts.size(), MAX_PICKER_PAGE);
+                List<Account> page = accountRepositoryImpl.searchOpenAccounts(prefix, currency, excludedAccountId,
+                        offset + accounts.size(), pageSize);
+                accounts.addAll(page);
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            return accounts;
         } catch (SQLException e) {
-            logger.error("Ошибка при поиске счетов по валюте и отправителю", e);
-            throw new DataAccessException("Ошибка при поиске счетов по валюте и отправителю", e);
+            logger.error("Ошибка при поиске открытых счетов по номеру", e);
+            throw new DataAccessException("Ошибка при поиске счетов", e);
         }
     }
 
@@ -141,39 +256,83 @@ public class AccountService {
     }
 
 
-    public void transferFunds(Long fromAccountId, Long toAccountId, BigDecimal amount, Currency currency) {
+    public void transferFunds(Long fromAccountId, Long toAccountId, BigDecimal transferAmount, Currency currency) {
+        // Дальше сумма живет в копейках: проверки и запись идут без BigDecimal
+        Money amount = Money.of(transferAmount, currency);
+        if (!amount.isPositive()) {
+            throw new IllegalArgumentException("Сумма перевода должна быть положительной");
+        }
+        if (fromAccountId.equals(toAccountId)) {
+            throw new IllegalArgumentException("Нельзя переводить на тот же счет");
+        }
+        if (eventSourcedLedger != null) {
+            eventSourcedLedger.post(LedgerPosting.transfer(fromAccountId, toAccountId, amount));
+            logger.info("Перевод с счета {} на счет {} на сумму {} выполнен успешно", fromAccountId, toAccountId, amount);
+            return;
+        }
+        if (ledgerWriter != null) {
+            awaitPosting(ledgerWriter.submit(LedgerPosting.transfer(fromAccountId, toAccountId, amount)),
+                    "Ошибка при выполнении перевода");
+            logger.info("Перевод с счета {} на счет {} на сумму {} выполнен успешно", fromAccountId, toAccountId, amount);
+            return;
+        }
+
         try {
             transactionManager.beginTransaction();
 
-            Optional<Account> fromAccountOpt = accountRepositoryImpl.findById(fromAccountId);
-            Optional<Account> toAccountOpt = accountRepositoryImpl.findById(toAccountId);
-
-            if (fromAccountOpt.isEmpty() || toAccountOpt.isEmpty()) {
-                throw new AccountNotFoundException("Один из счетов не найден");
+            // Условные UPDATE блокируют строки в порядке id, чтобы встречные переводы не взаимоблокировались
+            if (fromAccountId < toAccountId) {
+                debit(fromAccountId, amount);
+                credit(toAccountId, amount);
+            } else {
+                credit(toAccountId, amount);
+                debit(fromAccountId, amount);
             }
 
-            Account fromAccount = fromAccountOpt.get();
-            Account toAccount = toAccountOpt.get();
+            transactionService.createTransaction(fromAccountId, toAccountId, TransactionType.TRANSFER, amount);
 
-            if (fromAccount.getBalance().compareTo(amount) < 0) {
-                throw new InsufficientFundsException("Недостаточно средств на счете отправителя");
-            }
+            logger.info("Перевод с счета {} на счет {} на сумму {} выполнен успешно", fromAccountId, toAccountId, amount);
 
-            if (!fromAccount.getCurrency().equals(toAccount.getCurrency())) {
-                throw new IllegalArgumentException("Нельзя переводить между счетами с разной валютой");
+            transactionManager.commitTransaction();
+        } catch (Exception e) {
+            logger.error("Ошибка при выполнении перевода", e);
+            try {
+                transactionManager.rollbackTransaction();
+            } catch (SQLException ex) {
+                logger.error("Ошибка при откате транзакции", ex);
+                throw new DataAccessException("Ошибка при откате транзакции", ex);
             }
+            if (e instanceof AccountNotFoundException) {
+                throw (AccountNotFoundException) e;
+            } else if (e instanceof InsufficientFundsException) {
+                throw (InsufficientFundsException) e;
+            } else {
+                throw new DataAccessException("Ошибка при выполнении перевода", e);
+            }
+        }
+    }
 
-            fromAccount.setBalance(fromAccount.getBalance().subtract(amount));
-            toAccount.setBalance(toAccount.getBalance().add(amount));
-
-            accountRepositoryImpl.update(fromAccount);
-            accountRepositoryImpl.update(toAccount);
-
-            transactionService.createTransaction(fromAccountId, toAccountId, TransactionType.TRANSFER, amount,
-                    currency);
+    public void depositFunds(Long accountId, BigDecimal depositAmount) {
+        // Валюта зачисления известна только после обновления счета, до этого сумма хранится в копейках
+        long amount = Money.toMinorUnits(depositAmount);
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Сумма зачисления должна быть положительной");
+        }
+        if (eventSourcedLedger != null) {
+            eventSourcedLedger.post(LedgerPosting.deposit(accountId, amount));
+            return;
+        }
+        if (ledgerWriter != null) {
+            awaitPosting(ledgerWriter.submit(LedgerPosting.deposit(accountId, amount)), "Ошибка при выполнении перевода");
+            return;
+        }
 
-            logger.info("Перевод с счета {} на счет {} на сумму {} выполнен успешно", fromAccountId, toAccountId, amount);
+        try {
+            transactionManager.beginTransaction();
 
+            Currency currency = accountRepositoryImpl.deposit(accountId, amount)
+                    .orElseThrow(() -> rejection(accountId, null, null));
+            transactionService.createTransaction(null, accountId, TransactionType.CREDIT, Money.ofMinor(amount, currency));
             transactionManager.commitTransaction();
         } catch (Exception e) {
             logger.error("Ошибка при выполнении перевода", e);
@@ -193,29 +352,77 @@ public class AccountService {
         }
     }
 
-    public void depositFunds(Long accountId, BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Сумма зачисления должна быть положительной");
+    // Массовая выплата с одного счета. Все строки проверяются до изменения данных: отклоненные
+    // не выплачиваются, остальные выплачиваются в одной транзакции одним списанием общей суммы
+    public List<PayoutLegResult> payout(Long sourceAccountId, List<PayoutLeg> legs) {
+        if (legs.isEmpty()) {
+            throw new IllegalArgumentException("Список выплат пуст");
         }
 
+        Set<Long> accountIds = new HashSet<>();
+        accountIds.add(sourceAccountId);
+        legs.forEach(leg -> accountIds.add(leg.getTargetAccountId()));
+        Map<Long, Account> accounts = new HashMap<>();
         try {
-            transactionManager.beginTransaction();
+            accountRepositoryImpl.findByIds(accountIds).forEach(account -> accounts.put(account.getId(), account));
+        } catch (SQLException e) {
+            logger.error("Ошибка при проверке счетов выплаты", e);
+            throw new DataAccessException("Ошибка при проверке счетов выплаты", e);
+        }
 
-            Optional<Account> accountOpt = accountRepositoryImpl.findById(accountId);
+        Account source = accounts.get(sourceAccountId);
+        if (source == null) {
+            throw new AccountNotFoundException("Счет с id=" + sourceAccountId + " не найден");
+        }
+        if (source.getStatus() != AccountStatus.OPEN) {
+            throw new IllegalStateException("Счет " + source.getAccountNumber() + " закрыт");
+        }
 
-            if (accountOpt.isEmpty()) {
-                throw new AccountNotFoundException("Счет не найден");
+        List<PayoutLegResult> results = new ArrayList<>(legs.size());
+        List<Transaction> ledger = new ArrayList<>();
+        // Суммы выплаты копятся в копейках; переполнение long - ArithmeticException, а не потеря точности
+        SortedMap<Long, Long> credits = new TreeMap<>();
+        long total = 0;
+        for (PayoutLeg leg : legs) {
+            String reason = validatePayoutLeg(leg, source, accounts.get(leg.getTargetAccountId()));
+            if (reason != null) {
+                results.add(new PayoutLegResult(leg, PayoutLegStatus.REJECTED, reason));
+                continue;
             }
+            results.add(new PayoutLegResult(leg, PayoutLegStatus.PAID, null));
+            Money amount = Money.of(leg.getAmount(), source.getCurrency());
+            credits.merge(leg.getTargetAccountId(), amount.getMinorUnits(), Math::addExact);
+            total = Math.addExact(total, amount.getMinorUnits());
+            ledger.add(new Transaction(sourceAccountId, leg.getTargetAccountId(), amount, null, TransactionType.TRANSFER));
+        }
+        if (ledger.isEmpty()) {
+            logger.warn("Выплата со счета {} не выполнена: все {} строк отклонены", sourceAccountId, legs.size());
+            return results;
+        }
+        if (eventSourcedLedger != null) {
+            eventSourcedLedger.post(sourceAccountId, ledger);
+            logger.info("Выплата со счета {} выполнена: строк {}, сумма {}, отклонено {}",
+                    sourceAccountId, ledger.size(), Money.ofMinor(total, source.getCurrency()), legs.size() - ledger.size());
+            return results;
+        }
 
-            Account account = accountOpt.get();
+        try {
+            transactionManager.beginTransaction();
+
+            // Счета с меньшим id, чем у счета списания, блокируются до него, с большим - после:
+            // порядок блокировок тот же, что у переводов
+            creditAll(credits.headMap(sourceAccountId), source.getCurrency());
+            debit(sourceAccountId, Money.ofMinor(total, source.getCurrency()));
+            creditAll(credits.tailMap(sourceAccountId), source.getCurrency());
+
+            transactionService.createTransactions(ledger);
 
-            account.setBalance(account.getBalance().add(amount));
-            accountRepositoryImpl.update(account);
-            transactionService.createTransaction(null, accountId, TransactionType.CREDIT,
-                    amount, account.getCurrency());
             transactionManager.commitTransaction();
+            logger.info("Выплата со счета {} выполнена: строк {}, сумма {}, отклонено {}",
+                    sourceAccountId, ledger.size(), Money.ofMinor(total, source.getCurrency()), legs.size() - ledger.size());
+            return results;
         } catch (Exception e) {
-            logger.error("Ошибка при выполнении перевода", e);
+            logger.error("Ошибка при выполнении выплаты", e);
             try {
                 transactionManager.rollbackTransaction();
             } catch (SQLException ex) {
@@ -227,8 +434,94 @@ public class AccountService {
             } else if (e instanceof InsufficientFundsException) {
                 throw (InsufficientFundsException) e;
             } else {
-                throw new DataAccessException("Ошибка при выполнении перевода", e);
+                throw new DataAccessException("Ошибка при выполнении выплаты", e);
+            }
+        }
+    }
+
+    private String validatePayoutLeg(PayoutLeg leg, Account source, Account target) {
+        if (leg.getAmount() == null || leg.getAmount().signum() <= 0) {
+            return "Сумма выплаты должна быть положительной";
+        }
+        if (leg.getAmount().stripTrailingZeros().scale() > Money.SCALE) {
+            return "Сумма выплаты содержит больше " + Money.SCALE + " знаков после запятой";
+        }
+        if (target == null) {
+            return "Счет не найден";
+        }
+        if (target.getId().equals(source.getId())) {
+            return "Нельзя выплачивать на счет списания";
+        }
+        if (target.getStatus() != AccountStatus.OPEN) {
+            return "Счет закрыт";
+        }
+        if (target.getCurrency() != source.getCurrency()) {
+            return "Валюта счета не совпадает с валютой счета списания";
+        }
+        return null;
+    }
+
+    // Счет получателя мог закрыться после проверки; тогда выплата отменяется целиком
+    private void creditAll(SortedMap<Long, Long> credits, Currency currency) throws SQLException {
+        if (credits.isEmpty()) {
+            return;
+        }
+        List<Long> rejected = accountRepositoryImpl.creditAll(credits, currency);
+        if (!rejected.isEmpty()) {
+            throw rejection(rejected.get(0), currency, null);
+        }
+    }
+
+    private void awaitPosting(CompletableFuture<Void> posting, String errorMessage) {
+        try {
+            posting.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            logger.error(errorMessage, cause);
+            if (cause instanceof AccountNotFoundException) {
+                throw (AccountNotFoundException) cause;
+            } else if (cause instanceof InsufficientFundsException) {
+                throw (InsufficientFundsException) cause;
+            } else {
+                throw new DataAccessException(errorMessage, cause);
             }
         }
     }
+
+    private void debit(Long accountId, Money amount) throws SQLException {
+        if (!accountRepositoryImpl.debit(accountId, amount)) {
+            throw rejection(accountId, amount.getCurrency(), amount);
+        }
+    }
+
+    private void credit(Long accountId, Money amount) throws SQLException {
+        if (!accountRepositoryImpl.credit(accountId, amount)) {
+            throw rejection(accountId, amount.getCurrency(), null);
+        }
+    }
+
+    // Причина, по которой условный UPDATE не изменил строку. Читается только при отказе,
+    // успешная операция обходится без чтения счетов
+    private RuntimeException rejection(Long accountId, Currency currency, Money requiredBalance) {
+        Optional<Account> accountOpt;
+        try {
+            accountOpt = accountRepositoryImpl.findById(accountId);
+        } catch (SQLException e) {
+            return new DataAccessException("Ошибка при поиске счета", e);
+        }
+        if (accountOpt.isEmpty()) {
+            return new AccountNotFoundException("Счет с id=" + accountId + " не найден");
+        }
+        Account account = accountOpt.get();
+        if (account.getStatus() != AccountStatus.OPEN) {
+            return new IllegalStateException("Счет " + account.getAccountNumber() + " закрыт");
+        }
+        if (currency != null && account.getCurrency() != currency) {
+            return new IllegalArgumentException("Нельзя переводить между счетами с разной валютой");
+        }
+        if (requiredBalance != null && account.getBalance().isLessThan(requiredBalance)) {
+            return new InsufficientFundsException("Недостаточно средств на счете отправителя");
+        }
+        return new IllegalStateException("Счет " + account.getAccountNumber() + " изменился во время операции");
+    }
 }
@@ -0,0 +1,140 @@
+package com.bankapp.service;
+
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.AccountTurnover;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.repository.DailyBalanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// Остатки счетов на прошедшие даты и обороты за период по таблице дневных оборотов, без просмотра журнала
+public class BalanceHistoryService {
+    private static final Logger logger = LoggerFactory.getLogger(BalanceHistoryService.class);
+
+    private final DailyBalanceRepository dailyBalanceRepository;
+
+    public BalanceHistoryService(DailyBalanceRepository dailyBalanceRepository) {
+        this.dailyBalanceRepository = dailyBalanceRepository;
+    }
+
+    // Остаток на конец дня day
+    public Money findBalanceAt(Long accountId, LocalDate day) {
+        try {
+            return dailyBalanceRepository.findClosingBalance(accountId, day)
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении остатка счета {} на {}", accountId, day, e);
+            throw new DataAccessException("Ошибка при получении остатка счета на дату", e);
+        }
+    }
+
+    public AccountTurnover findTurnover(Long accountId, LocalDate dateFrom, LocalDate dateTo) {
+        try {
+            return dailyBalanceRepository.findTurnover(accountId, dateFrom, dateTo)
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении оборотов счета {} за {} - {}", accountId, dateFrom, dateTo, e);
+            throw new DataAccessException("Ошибка при получении оборотов счета", e);
+        }
+    }
+
+    public List<AccountTurnover> findTurnovers(LocalDate dateFrom, LocalDate dateTo) {
+        try {
+            return dailyBalanceRepository.findTurnovers(dateFrom, dateTo);
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении оборотной ведомости за {} - {}", dateFrom, dateTo, e);
+            throw new DataAccessException("Ошибка при получении оборотной ведомости", e);
+        }
+    }
+
+    // Остатки на конец каждого дня периода для графика, прореженные до maxPoints точек.
+    // Дни без движения получают остаток предыдущего дня с нулевыми оборотами
+    public List<DailyBalance> findBalanceChart(Long accountId, LocalDate dateFrom, LocalDate dateTo, int maxPoints) {
+        try {
+            Money balance = dailyBalanceRepository.findClosingBalance(accountId, dateFrom.minusDays(1))
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+            Money zero = Money.zero(balance.getCurrency());
+            Iterator<DailyBalance> rows = dailyBalanceRepository.findDailyBalances(accountId, dateFrom, dateTo).iterator();
+            DailyBalance row = rows.hasNext() ? rows.next() : null;
+
+            List<DailyBalance> days = new ArrayList<>();
+            for (LocalDate day = dateFrom; !day.isAfter(dateTo); day = day.plusDays(1)) {
+                if (row != null && row.getDay().equals(day)) {
+                    balance = row.getClosingBalance();
+                    days.add(row);
+                    row = rows.hasNext() ? rows.next() : null;
+                } else {
+                    days.add(new DailyBalance(accountId, day, zero, zero, balance));
+                }
+            }
+            return downsample(days, maxPoints);
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении истории остатка счета {}", accountId, e);
+            throw new DataAccessException("Ошибка при получении истории остатка счета", e);
+        }
+    }
+
+    // Прореживание Largest-Triangle-Three-Buckets: первая и последняя точки сохраняются, из каждой
+    // промежуточной корзины берется точка, образующая наибольший треугольник с выбранной точкой
+    // предыдущей корзины и средней точкой следующей. Пики и провалы остатка не сглаживаются, как при усреднении
+    static List<DailyBalance> downsample(List<DailyBalance> points, int maxPoints) {
+        int size = points.size();
+        if (maxPoints < 3 || size <= maxPoints) {
+            return points;
+        }
+
+        List<DailyBalance> sampled = new ArrayList<>(maxPoints);
+        sampled.add(points.get(0));
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int selected = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Средняя точка следующей корзины; для последней корзины - последняя точка
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x(points.get(i));
+                averageY += y(points.get(i));
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            double selectedX = x(points.get(selected));
+            double selectedY = y(points.get(selected));
+            double maxArea = -1;
+            int next = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((selectedX - averageX) * (y(points.get(i)) - selectedY)
+                        - (selectedX - x(points.get(i))) * (averageY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+            sampled.add(points.get(next));
+            selected = next;
+        }
+        sampled.add(points.get(size - 1));
+        return sampled;
+    }
+
+    private static double x(DailyBalance point) {
+        return point.getDay().toEpochDay();
+    }
+
+    private static double y(DailyBalance point) {
+        return point.getClosingBalance().getMinorUnits();
+    }
+}
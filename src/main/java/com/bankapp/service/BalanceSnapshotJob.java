@@ -0,0 +1,137 @@
+package com.bankapp.service;
+
+import com.bankapp.repository.BalanceSnapshotRepository;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Снимки балансов для режима событий. Раз в интервал счета просматриваются диапазонами id по rangeSize:
+// счет, после снимка которого накопилось eventsPerSnapshot проводок, получает новый снимок, поэтому чтение
+// остатка сворачивает не больше нескольких интервалов проводок. Вместе со снимками обновляется
+// accounts.balance - копия остатка для списков, фильтров и выгрузок.
+//
+// rebuild - полный пересчет: снимки всех счетов и accounts.balance, диапазоны параллельно. Выполняется
+// при запуске до начала работы приложения, в том числе перед возвратом к хранению балансов в accounts.balance
+public class BalanceSnapshotJob {
+    private static final Logger logger = LoggerFactory.getLogger(BalanceSnapshotJob.class);
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionManager transactionManager;
+    private final int eventsPerSnapshot;
+    private final long rangeSize;
+
+    private ScheduledExecutorService scheduler;
+
+    public BalanceSnapshotJob(BalanceSnapshotRepository balanceSnapshotRepository,
+                              TransactionManager transactionManager, int eventsPerSnapshot, long rangeSize) {
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.transactionManager = transactionManager;
+        this.eventsPerSnapshot = eventsPerSnapshot;
+        this.rangeSize = rangeSize;
+    }
+
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    // Снимки счетов, накопивших eventsPerSnapshot проводок. Возвращает число записанных снимков
+    public int run() throws SQLException {
+        long started = System.nanoTime();
+        int snapshots = 0;
+        for (long[] range : ranges()) {
+            snapshots += snapshotRange(range[0], range[1], eventsPerSnapshot);
+        }
+        if (snapshots > 0) {
+            logger.info("Записано снимков балансов: {}, {} мс", snapshots,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        return snapshots;
+    }
+
+    // Снимки всех счетов и accounts.balance по журналу; диапазоны в parallelism потоков,
+    // каждый поток занимает одно соединение пула. Возвращает число записанных снимков
+    public int rebuild(int parallelism) throws SQLException {
+        long started = System.nanoTime();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (long[] range : ranges()) {
+            tasks.add(() -> snapshotRange(range[0], range[1], 0));
+        }
+
+        int snapshots = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                snapshots += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Пересчет балансов прерван", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new IllegalStateException("Ошибка при пересчете балансов", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Балансы пересчитаны по журналу: диапазонов {}, снимков {}, {} мс", tasks.size(), snapshots,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return snapshots;
+    }
+
+    private List<long[]> ranges() throws SQLException {
+        long maxAccountId = balanceSnapshotRepository.findMaxAccountId();
+        List<long[]> ranges = new ArrayList<>();
+        for (long start = 0; start <= maxAccountId; start += rangeSize) {
+            ranges.add(new long[]{start, start + rangeSize});
+        }
+        return ranges;
+    }
+
+    private int snapshotRange(long rangeStart, long rangeEnd, int minEvents) throws SQLException {
+        transactionManager.beginTransaction();
+        try {
+            int snapshots = balanceSnapshotRepository.takeSnapshots(rangeStart, rangeEnd, minEvents);
+            balanceSnapshotRepository.refreshAccountBalances(rangeStart, rangeEnd);
+            transactionManager.commitTransaction();
+            return snapshots;
+        } catch (SQLException | RuntimeException e) {
+            transactionManager.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Ошибка при записи снимков балансов", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bankapp.service;
+
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Счетчики строк и признаки наличия данных в памяти. Сетки и главное меню спрашивают их
+// при каждой отрисовке, поэтому COUNT(*) выполняется только при первой загрузке и сверке.
+public class CardinalityService {
+    private static final Logger logger = LoggerFactory.getLogger(CardinalityService.class);
+
+    // Выше порога точный COUNT(*) не выполняется, используется оценка pg_class.reltuples
+    private static final long EXACT_COUNT_THRESHOLD = 100_000;
+    // Изменения из других экземпляров приложения видны только после сверки с БД
+    private static final long REFRESH_INTERVAL_MS = 5 * 60_000;
+
+    @FunctionalInterface
+    private interface CountQuery {
+        long execute() throws SQLException;
+    }
+
+    private final TransactionManager transactionManager;
+    private final AccountRepositoryImpl accountRepositoryImpl;
+    private final TableCounter clients;
+    private final TableCounter accounts;
+    private final TableCounter transactions;
+
+    private volatile Boolean openAccountsExist;
+    private volatile long openAccountsCheckedAt;
+
+    public CardinalityService(ClientRepositoryImpl clientRepositoryImpl, AccountRepositoryImpl accountRepositoryImpl,
+                              TransactionRepositoryImpl transactionRepositoryImpl,
+                              TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+        this.accountRepositoryImpl = accountRepositoryImpl;
+        this.clients = new TableCounter("clients", clientRepositoryImpl::count, clientRepositoryImpl::estimateCount);
+        this.accounts = new TableCounter("accounts", accountRepositoryImpl::count, accountRepositoryImpl::estimateCount);
+        this.transactions = new TableCounter("transactions", transactionRepositoryImpl::count,
+                transactionRepositoryImpl::estimateCount);
+    }
+
+    public RowCount countClients() throws SQLException {
+        return clients.get();
+    }
+
+    public RowCount countAccounts() throws SQLException {
+        return accounts.get();
+    }
+
+    public RowCount countTransactions() throws SQLException {
+        return transactions.get();
+    }
+
+    public boolean hasClients() throws SQLException {
+        return clients.get().getValue() > 0;
+    }
+
+    public boolean hasOpenAccounts() throws SQLException {
+        Boolean exist = openAccountsExist;
+        if (exist == null || System.currentTimeMillis() - openAccountsCheckedAt > REFRESH_INTERVAL_MS) {
+            exist = accountRepositoryImpl.hasOpenAccounts();
+            openAccountsExist = exist;
+            openAccountsCheckedAt = System.currentTimeMillis();
+        }
+        return exist;
+    }
+
+    // Методы ниже вызываются из операций записи; счетчики меняются только после фиксации транзакции
+
+    public void clientCreated() {
+        transactionManager.afterCommit(() -> clients.add(1));
+    }
+
+    public void accountCreated() {
+        transactionManager.afterCommit(() -> {
+            accounts.add(1);
+            openAccountsExist = Boolean.TRUE;
+        });
+    }
+
+    public void accountClosed() {
+        // Был ли это последний открытый счет, выяснится при следующей проверке
+        transactionManager.afterCommit(() -> openAccountsExist = null);
+    }
+
+    public void transactionsCreated(int count) {
+        transactionManager.afterCommit(() -> transactions.add(count));
+    }
+
+    private static class TableCounter {
+        private final String table;
+        private final CountQuery exactCount;
+        private final CountQuery estimate;
+        // -1 - значение еще не загружено
+        private final AtomicLong value = new AtomicLong(-1);
+        private volatile boolean exact;
+        private volatile long loadedAt;
+
+        TableCounter(String table, CountQuery exactCount, CountQuery estimate) {
+            this.table = table;
+            this.exactCount = exactCount;
+            this.estimate = estimate;
+        }
+
+        RowCount get() throws SQLException {
+            long current = value.get();
+            if (current < 0 || isStale()) {
+                current = load();
+            }
+            return new RowCount(current, exact);
+        }
+
+        void add(long delta) {
+            value.updateAndGet(current -> current < 0 ? current : current + delta);
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - loadedAt > REFRESH_INTERVAL_MS;
+        }
+
+        private synchronized long load() throws SQLException {
+            long current = value.get();
+            if (current >= 0 && !isStale()) {
+                // Пока ждали монитор, значение загрузил другой поток
+                return current;
+            }
+
+            long estimated = estimate.execute();
+            boolean useExact = estimated < EXACT_COUNT_THRESHOLD;
+            long loaded = useExact ? exactCount.execute() : estimated;
+            exact = useExact;
+            value.set(loaded);
+            loadedAt = System.currentTimeMillis();
+            logger.debug("Загружено число строк таблицы {}: {} (точное: {})", table, loaded, useExact);
+            return loaded;
+        }
+    }
+}
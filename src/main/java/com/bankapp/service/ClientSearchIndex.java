@@ -0,0 +1,269 @@
+package com.bankapp.service;
+
+import com.bankapp.model.ClientSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Поиск клиентов в памяти процесса. ФИО ищется по началу слов ("иван петр" найдет "Петров Иван"),
+// телефон и ИНН - по точному совпадению цифр. Индекс заполняется целиком при запуске и обновляется
+// при создании и изменении клиента в этом экземпляре приложения; изменения из других экземпляров
+// видны после перезапуска.
+public class ClientSearchIndex {
+
+    private static final Comparator<ClientSummary> BY_NAME = Comparator
+            .comparing((ClientSummary client) -> client.getFullName() == null ? "" : client.getFullName())
+            .thenComparing(ClientSummary::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, ClientSummary> byId = new HashMap<>();
+    // Все клиенты в порядке ФИО - для пустого запроса
+    private TreeSet<ClientSummary> ordered = new TreeSet<>(BY_NAME);
+    // Слово ФИО -> клиенты; поиск по началу слова - диапазон ключей
+    private TreeMap<String, Set<Long>> nameWords = new TreeMap<>();
+    private Map<String, Long> byPhone = new HashMap<>();
+    private Map<String, Set<Long>> byInn = new HashMap<>();
+
+    public void rebuild(Collection<ClientSummary> clients) {
+        rebuild(clients.stream());
+    }
+
+    // Заменяет содержимое индекса. Новый индекс строится без блокировки, читатели ждут только подмены
+    public void rebuild(Stream<ClientSummary> clients) {
+        ClientSearchIndex rebuilt = new ClientSearchIndex();
+        clients.forEachOrdered(rebuilt::add);
+        lock.writeLock().lock();
+        try {
+            byId = rebuilt.byId;
+            ordered = rebuilt.ordered;
+            nameWords = rebuilt.nameWords;
+            byPhone = rebuilt.byPhone;
+            byInn = rebuilt.byInn;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Новый клиент или новые данные существующего
+    public void put(ClientSummary client) {
+        lock.writeLock().lock();
+        try {
+            remove(client.getId());
+            add(client);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Страница клиентов по запросу в порядке ФИО; пустой запрос - все клиенты.
+    // Общее число найденных не считается: для широкого запроса это дороже самой страницы
+    public List<ClientSummary> search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (isBlank(query)) {
+                return ordered.stream().skip(offset).limit(limit).toList();
+            }
+            FirstClients first = new FirstClients(offset + limit);
+            String digits = digitsOnly(query);
+            if (digits != null) {
+                findByNumber(digits, first);
+            } else {
+                findByName(words(query), first);
+            }
+            return first.page(offset);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void findByNumber(String digits, FirstClients found) {
+        for (Long id : byInn.getOrDefault(digits, Set.of())) {
+            found.offer(byId.get(id));
+        }
+        Long byPhoneNumber = byPhone.get(normalizePhone(digits));
+        if (byPhoneNumber != null) {
+            found.offer(byId.get(byPhoneNumber));
+        }
+    }
+
+    // Каждое слово запроса должно быть началом какого-нибудь слова ФИО. Кандидаты берутся
+    // по самому редкому слову запроса, остальные слова проверяются по ФИО кандидатов
+    private void findByName(List<String> prefixes, FirstClients found) {
+        if (prefixes.isEmpty()) {
+            return;
+        }
+        String rarest = null;
+        int rarestCount = Integer.MAX_VALUE;
+        for (String prefix : prefixes) {
+            int count = countIdsUpTo(prefix, rarestCount);
+            if (count < rarestCount) {
+                rarest = prefix;
+                rarestCount = count;
+            }
+        }
+        for (Set<Long> ids : wordsStartingWith(rarest).values()) {
+            for (Long id : ids) {
+                ClientSummary client = byId.get(id);
+                if (prefixes.size() == 1 || startsWithAll(words(client.getFullName()), prefixes)) {
+                    found.offer(client);
+                }
+            }
+        }
+    }
+
+    // Число клиентов со словом на prefix; подсчет прекращается, когда превышен limit
+    private int countIdsUpTo(String prefix, int limit) {
+        int count = 0;
+        for (Set<Long> ids : wordsStartingWith(prefix).values()) {
+            count += ids.size();
+            if (count >= limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static boolean startsWithAll(List<String> words, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (words.stream().noneMatch(word -> word.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private NavigableMap<String, Set<Long>> wordsStartingWith(String prefix) {
+        return nameWords.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void add(ClientSummary client) {
+        byId.put(client.getId(), client);
+        ordered.add(client);
+        for (String word : words(client.getFullName())) {
+            nameWords.computeIfAbsent(word, key -> new HashSet<>()).add(client.getId());
+        }
+        String phone = phoneKey(client);
+        if (phone != null) {
+            byPhone.put(phone, client.getId());
+        }
+        if (client.getInn() != null) {
+            byInn.computeIfAbsent(client.getInn().trim(), key -> new HashSet<>()).add(client.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        ClientSummary previous = byId.remove(id);
+        if (previous == null) {
+            return;
+        }
+        ordered.remove(previous);
+        for (String word : words(previous.getFullName())) {
+            removeId(nameWords, word, id);
+        }
+        String phone = phoneKey(previous);
+        if (phone != null) {
+            byPhone.remove(phone, id);
+        }
+        if (previous.getInn() != null) {
+            removeId(byInn, previous.getInn().trim(), id);
+        }
+    }
+
+    private static void removeId(Map<String, Set<Long>> index, String key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).replace('ё', 'е').split("[\\s\\-.,]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // Цифры номера без пробелов, скобок и дефисов; null - в запросе есть буквы
+    private static String digitsOnly(String text) {
+        String digits = text.replaceAll("[\\s+()\\-]", "");
+        return !digits.isEmpty() && digits.chars().allMatch(Character::isDigit) ? digits : null;
+    }
+
+    private static String phoneKey(ClientSummary client) {
+        return client.getPhoneNumber() == null ? null : normalizePhone(digitsOnly(client.getPhoneNumber()));
+    }
+
+    // 8XXXXXXXXXX и +7XXXXXXXXXX - один и тот же номер
+    private static String normalizePhone(String digits) {
+        if (digits != null && digits.length() == 11 && digits.charAt(0) == '8') {
+            return "7" + digits.substring(1);
+        }
+        return digits;
+    }
+
+    // Первые size клиентов в порядке ФИО: сортируются не все найденные, а только попавшие в страницу.
+    // Клиент может встретиться несколько раз, если запросу подходят несколько слов его ФИО
+    private static final class FirstClients {
+        private final int size;
+        private final PriorityQueue<ClientSummary> clients = new PriorityQueue<>(BY_NAME.reversed());
+        private final Set<Long> ids = new HashSet<>();
+
+        FirstClients(int size) {
+            this.size = size;
+        }
+
+        void offer(ClientSummary client) {
+            if (size == 0 || ids.contains(client.getId())) {
+                return;
+            }
+            if (clients.size() == size) {
+                if (BY_NAME.compare(client, clients.peek()) >= 0) {
+                    return;
+                }
+                ids.remove(clients.poll().getId());
+            }
+            clients.add(client);
+            ids.add(client.getId());
+        }
+
+        List<ClientSummary> page(int offset) {
+            List<ClientSummary> sorted = new ArrayList<>(clients);
+            sorted.sort(BY_NAME);
+            return sorted.subList(Math.min(offset, sorted.size()), sorted.size());
+        }
+    }
+
+    private static boolean isBlank(String query) {
+        return query == null || query.isBlank();
+    }
+}
@@ -4,23 +4,39 @@ import com.bankapp.exception.ClientNotFoundException;
 import com.bankapp.exception.DataAccessException;
 import com.bankapp.exception.PhoneNumberExistException;
 import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.KeysetCursor;
+import com.bankapp.repository.KeysetPage;
+import com.bankapp.storage.DocumentStore;
 import com.bankapp.ui.client.AbstractClientForm;
 import com.bankapp.ui.client.ClientForm;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public class ClientService {
 
     private final ClientRepositoryImpl clientRepositoryImpl;
+    private final CardinalityService cardinalityService;
+    private final DocumentStore documentStore;
+    private final ClientSearchIndex clientSearchIndex;
     protected static final Logger logger = LoggerFactory.getLogger(AbstractClientForm.class);
 
-    public ClientService(ClientRepositoryImpl clientRepositoryImpl) {
+    public ClientService(ClientRepositoryImpl clientRepositoryImpl, CardinalityService cardinalityService,
+                         DocumentStore documentStore, ClientSearchIndex clientSearchIndex) {
         this.clientRepositoryImpl = clientRepositoryImpl;
+        this.cardinalityService = cardinalityService;
+        this.documentStore = documentStore;
+        this.clientSearchIndex = clientSearchIndex;
     }
 
     public void createClient(Client client) {
@@ -29,7 +45,10 @@ public class ClientService {
                 throw new PhoneNumberExistException("Номер телефона уже существует");
             }
 
+            storePassportScan(client);
             clientRepositoryImpl.save(client);
+            cardinalityService.clientCreated();
+            clientSearchIndex.put(ClientSummary.of(client));
             logger.info("Клиент успешно сохранен: {}", client);
         } catch (SQLException e) {
             logger.error("Ошибка при сохранении клиента", e);
@@ -39,13 +58,13 @@ public class ClientService {
 
     public boolean hasClients() throws SQLException {
         try {
-            return clientRepositoryImpl.hasClients();
+            return cardinalityService.hasClients();
         } catch (SQLException e) {
             throw new DataAccessException("Ошибка при проверке существуют ли клиенты", e);
         }
     }
 
-    public List<Client> findClients(int offset, int limit, List<QuerySortOrder> sortOrders) {
+    public List<ClientSummary> findClients(int offset, int limit, List<QuerySortOrder> sortOrders) {
         try {
             return clientRepositoryImpl.findClients(offset, limit, sortOrders);
         } catch (SQLException e) {
@@ -54,9 +73,19 @@ public class ClientService {
         }
     }
 
-    public int countClients() {
+    public KeysetPage<ClientSummary> findClientsPage(KeysetCursor after, int offset, int limit,
+                                                     List<QuerySortOrder> sortOrders) {
         try {
-            return clientRepositoryImpl.count();
+            return clientRepositoryImpl.findClientsPage(after, offset, limit, sortOrders);
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке клиентов", e);
+            throw new DataAccessException("Ошибка при получении списка клиентов по фильтру", e);
+        }
+    }
+
+    public RowCount countClients() {
+        try {
+            return cardinalityService.countClients();
         } catch (SQLException e) {
             logger.error("Ошибка при подсчёте клиентов", e);
             throw new DataAccessException("Ошибка при получении количества клиентов", e);
@@ -74,26 +103,93 @@ public class ClientService {
     }
 
 
-    public List<Client> findAllClients() {
+    public List<ClientSummary> findAllClients() {
         try {
-            return clientRepositoryImpl.findAll();
+            return clientRepositoryImpl.findSummaries();
         } catch (SQLException e) {
             logger.error("Ошибка при загрузке списка клиентов: {}", e.getMessage(), e);
             throw new DataAccessException("Ошибка при получении списка клиентов", e);
         }
     }
 
+    // Поиск по ФИО, телефону или ИНН в индексе в памяти, без запроса к БД
+    public List<ClientSummary> searchClients(String query, int offset, int limit) {
+        return clientSearchIndex.search(query, offset, limit);
+    }
+
+    // Полная загрузка индекса поиска при запуске. Клиенты читаются курсором прямо в индекс,
+    // без промежуточного списка и без буфера всего результата в драйвере
+    public void rebuildSearchIndex() {
+        try (Stream<ClientSummary> clients = clientRepositoryImpl.streamSummaries()) {
+            clientSearchIndex.rebuild(clients);
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке списка клиентов: {}", e.getMessage(), e);
+            throw new DataAccessException("Ошибка при получении списка клиентов", e);
+        }
+        logger.info("Индекс поиска клиентов построен, клиентов: {}", clientSearchIndex.size());
+    }
+
+    // Скан паспорта передается потоком из хранилища документов, а еще не перенесенный -
+    // из результата запроса; false - скана нет
+    public boolean writePassportScan(Long clientId, OutputStream out) throws IOException {
+        try {
+            Optional<String> reference = clientRepositoryImpl.findPassportScanRef(clientId);
+            if (reference.isPresent()) {
+                return documentStore.copyTo(reference.get(), out);
+            }
+            return clientRepositoryImpl.copyLegacyPassportScan(clientId, out);
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке скана паспорта клиента {}", clientId, e);
+            throw new DataAccessException("Ошибка при загрузке скана паспорта", e);
+        }
+    }
+
+    // Для просмотра в форме передается миниатюра; у сканов, загруженных до появления миниатюр, - сам скан
+    public boolean writePassportThumbnail(Long clientId, OutputStream out) throws IOException {
+        try {
+            Optional<String> reference = clientRepositoryImpl.findPassportThumbnailRef(clientId);
+            if (reference.isPresent()) {
+                return documentStore.copyTo(reference.get(), out);
+            }
+        } catch (SQLException e) {
+            logger.error("Ошибка при загрузке миниатюры скана паспорта клиента {}", clientId, e);
+            throw new DataAccessException("Ошибка при загрузке скана паспорта", e);
+        }
+        return writePassportScan(clientId, out);
+    }
+
+    // Файл из хранилища документов по ссылке, например миниатюра еще не сохраненного скана
+    public boolean writeDocument(String reference, OutputStream out) throws IOException {
+        return documentStore.copyTo(reference, out);
+    }
+
     public void updateClient(Client client) {
         try {
             if (clientRepositoryImpl.isPhoneNumberExists(client.getPhoneNumber(), client.getId())) {
                 throw new PhoneNumberExistException("Номер телефона уже существует");
             }
 
+            storePassportScan(client);
             clientRepositoryImpl.update(client);
+            clientSearchIndex.put(ClientSummary.of(client));
             logger.info("Клиент успешно обновлен: {}", client.getId());
         } catch (SQLException e) {
             logger.error("Ошибка при обновлении клиента: {}", e.getMessage());
             throw new DataAccessException("Ошибка при обновлении клиента", e);
         }
     }
+
+    // Новый скан сохраняется в хранилище документов до записи клиента: в БД попадает только ссылка
+    private void storePassportScan(Client client) {
+        if (client.getPassportScanCopy() == null) {
+            return;
+        }
+        try {
+            client.setPassportScanRef(documentStore.put(new ByteArrayInputStream(client.getPassportScanCopy())));
+            client.setPassportScanCopy(null);
+        } catch (IOException e) {
+            logger.error("Ошибка при сохранении скана паспорта", e);
+            throw new DataAccessException("Ошибка при сохранении скана паспорта", e);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package com.bankapp.service;
+
+import com.bankapp.repository.DailyBalanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Ночная сверка дневных оборотов с журналом: пересчитывает последние закрытые дни. Проводки приложения
+// обновляют обороты сами, пересчет исправляет строки, записанные в журнал в обход приложения, и проводки,
+// зафиксированные после полуночи в транзакции, начатой накануне
+public class DailyBalanceJob {
+    private static final Logger logger = LoggerFactory.getLogger(DailyBalanceJob.class);
+
+    // После полуночи, когда закрываются транзакции, начатые накануне
+    private static final LocalTime RUN_AT = LocalTime.of(0, 30);
+
+    private final DailyBalanceRepository dailyBalanceRepository;
+    private final Clock clock;
+    // Сколько закрытых дней пересчитывается; больше одного - чтобы пропущенный запуск восполнился следующим
+    private final int days;
+
+    private ScheduledExecutorService scheduler;
+
+    public DailyBalanceJob(DailyBalanceRepository dailyBalanceRepository, Clock clock, int days) {
+        this.dailyBalanceRepository = dailyBalanceRepository;
+        this.clock = clock;
+        this.days = days;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daily-balances");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = now.toLocalDate().atTime(RUN_AT);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        scheduler.scheduleAtFixedRate(this::runSafely, Duration.between(now, next).toMinutes(),
+                TimeUnit.DAYS.toMinutes(1), TimeUnit.MINUTES);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void run() throws SQLException {
+        long started = System.nanoTime();
+        int rows = dailyBalanceRepository.refreshClosedDays(days);
+        logger.info("Пересчитаны дневные обороты за {} дн.: строк {}, {} мс", days, rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Ошибка при пересчете дневных оборотов", e);
+        }
+    }
+}
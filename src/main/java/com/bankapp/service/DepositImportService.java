@@ -0,0 +1,85 @@
+package com.bankapp.service;
+
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.DepositImportResult;
+import com.bankapp.repository.DepositImportRepository;
+import com.bankapp.utils.ConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Массовое зачисление из CSV (account_number, amount, currency) с заголовком. Файл загружается
+// через COPY во временную таблицу, затем зачисляется порциями: каждая порция - одна транзакция
+// из двух команд над множеством строк. Отклоненные строки выгружаются в CSV отчета.
+public class DepositImportService {
+    private static final Logger logger = LoggerFactory.getLogger(DepositImportService.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 50_000;
+
+    private final ConnectionPool connectionPool;
+    private final DepositImportRepository depositImportRepository;
+    private final CardinalityService cardinalityService;
+    private final int chunkSize;
+
+    public DepositImportService(ConnectionPool connectionPool, DepositImportRepository depositImportRepository,
+                                CardinalityService cardinalityService) {
+        this(connectionPool, depositImportRepository, cardinalityService, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DepositImportService(ConnectionPool connectionPool, DepositImportRepository depositImportRepository,
+                                CardinalityService cardinalityService, int chunkSize) {
+        this.connectionPool = connectionPool;
+        this.depositImportRepository = depositImportRepository;
+        this.cardinalityService = cardinalityService;
+        this.chunkSize = chunkSize;
+    }
+
+    // Порции фиксируются по отдельности: при ошибке уже зачисленные порции остаются зачисленными,
+    // номер строки, с которой импорт прерван, есть в сообщении об ошибке
+    public DepositImportResult importDeposits(InputStream csv, OutputStream rejects) {
+        long startedAt = System.currentTimeMillis();
+        try (Connection connection = connectionPool.getConnection()) {
+            try {
+                depositImportRepository.createStage(connection);
+                long totalRows = depositImportRepository.copyIn(connection, csv);
+                logger.info("Загружено строк для зачисления: {}", totalRows);
+
+                long credited = 0;
+                long rejected = 0;
+                connection.setAutoCommit(false);
+                for (long fromLine = 1; fromLine <= totalRows; fromLine += chunkSize) {
+                    long toLine = fromLine + chunkSize;
+                    try {
+                        depositImportRepository.lockAccounts(connection, fromLine, toLine);
+                        int inserted = depositImportRepository.applyChunk(connection, fromLine, toLine);
+                        connection.commit();
+                        credited += inserted;
+                        rejected += Math.min(toLine, totalRows + 1) - fromLine - inserted;
+                        cardinalityService.transactionsCreated(inserted);
+                    } catch (SQLException e) {
+                        connection.rollback();
+                        throw new SQLException("Импорт прерван на строке " + fromLine
+                                + ", зачислено строк: " + credited, e);
+                    }
+                }
+
+                depositImportRepository.copyRejectsOut(connection, rejects);
+                DepositImportResult result = new DepositImportResult(totalRows, credited, rejected,
+                        System.currentTimeMillis() - startedAt);
+                logger.info("Импорт зачислений завершен: {}", result);
+                return result;
+            } finally {
+                connection.setAutoCommit(true);
+                depositImportRepository.dropStage(connection);
+            }
+        } catch (SQLException | IOException e) {
+            logger.error("Ошибка при импорте зачислений", e);
+            throw new DataAccessException("Ошибка при импорте зачислений", e);
+        }
+    }
+}
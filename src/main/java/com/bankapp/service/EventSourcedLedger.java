@@ -0,0 +1,179 @@
+package com.bankapp.service;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.exception.InsufficientFundsException;
+import com.bankapp.model.Account;
+import com.bankapp.model.LedgerPosting;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.BalanceSnapshotRepository;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+// Запись проводок в режиме событий: журнал - источник истины, проводка только добавляется в него,
+// строки счетов не изменяются и не блокируются. Остаток счета - последний снимок плюс проводки после него.
+// Списания с одного счета выполняются по очереди под рекомендательной блокировкой счета: остаток,
+// прочитанный под ней, может только вырасти до фиксации. Зачисления ждут только закрытия счета:
+// проводка держит свои счета открытыми до фиксации, закрытие дожидается проводок, уже проверивших счет,
+// и закрывает только счет с нулевым остатком
+public class EventSourcedLedger {
+    private static final Logger logger = LoggerFactory.getLogger(EventSourcedLedger.class);
+
+    private final AccountRepositoryImpl accountRepositoryImpl;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionService transactionService;
+    private final TransactionManager transactionManager;
+
+    public EventSourcedLedger(AccountRepositoryImpl accountRepositoryImpl,
+                              BalanceSnapshotRepository balanceSnapshotRepository,
+                              TransactionService transactionService, TransactionManager transactionManager) {
+        this.accountRepositoryImpl = accountRepositoryImpl;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.transactionService = transactionService;
+        this.transactionManager = transactionManager;
+    }
+
+    // Перевод или зачисление; у зачисления валюта берется из счета получателя
+    public void post(LedgerPosting posting) {
+        Set<Long> accountIds = new TreeSet<>();
+        accountIds.add(posting.getToAccountId());
+        if (posting.getFromAccountId() != null) {
+            accountIds.add(posting.getFromAccountId());
+        }
+        write(posting.getFromAccountId(), accountIds, accounts -> {
+            Currency currency = posting.getCurrency() != null
+                    ? posting.getCurrency() : accounts.get(posting.getToAccountId()).getCurrency();
+            return List.of(new Transaction(posting.getFromAccountId(), posting.getToAccountId(),
+                    Money.ofMinor(posting.getAmountMinorUnits(), currency), null, posting.getType()));
+        }, "Ошибка при выполнении перевода");
+    }
+
+    // Выплата с одного счета: проводки записываются все вместе или не записываются
+    public void post(Long sourceAccountId, List<Transaction> ledger) {
+        Set<Long> accountIds = new TreeSet<>();
+        accountIds.add(sourceAccountId);
+        ledger.forEach(transaction -> accountIds.add(transaction.getToAccount()));
+        write(sourceAccountId, accountIds, accounts -> ledger, "Ошибка при выполнении выплаты");
+    }
+
+    public Money findBalance(Long accountId) {
+        try {
+            return balanceSnapshotRepository.findBalance(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+        } catch (SQLException e) {
+            logger.error("Ошибка при расчете остатка счета {}", accountId, e);
+            throw new DataAccessException("Ошибка при расчете остатка счета", e);
+        }
+    }
+
+    // Закрывает счет, если остаток по журналу нулевой; иначе IllegalStateException
+    public void close(Long accountId) {
+        try {
+            transactionManager.beginTransaction();
+
+            // Порядок блокировок как у списания: сначала lockAccount, затем блокировка закрытия
+            balanceSnapshotRepository.lockAccount(accountId);
+            balanceSnapshotRepository.lockForClose(accountId);
+            Money balance = balanceSnapshotRepository.findBalance(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+            if (!balance.isZero()) {
+                throw new IllegalStateException("На счете остались средства: " + balance);
+            }
+            accountRepositoryImpl.closeAccount(accountId);
+            transactionManager.commitTransaction();
+        } catch (Exception e) {
+            logger.error("Ошибка при закрытии счета {}", accountId, e);
+            try {
+                transactionManager.rollbackTransaction();
+            } catch (SQLException ex) {
+                logger.error("Ошибка при откате транзакции", ex);
+                throw new DataAccessException("Ошибка при откате транзакции", ex);
+            }
+            if (e instanceof AccountNotFoundException) {
+                throw (AccountNotFoundException) e;
+            } else if (e instanceof IllegalStateException) {
+                throw (IllegalStateException) e;
+            } else {
+                throw new DataAccessException("Ошибка при закрытии счета", e);
+            }
+        }
+    }
+
+    private void write(Long debitAccountId, Set<Long> accountIds,
+                       Function<Map<Long, Account>, List<Transaction>> ledgerBuilder, String errorMessage) {
+        try {
+            transactionManager.beginTransaction();
+
+            if (debitAccountId != null) {
+                balanceSnapshotRepository.lockAccount(debitAccountId);
+            }
+            balanceSnapshotRepository.holdOpen(accountIds);
+            Map<Long, Account> accounts = new HashMap<>();
+            accountRepositoryImpl.findByIds(accountIds).forEach(account -> accounts.put(account.getId(), account));
+            for (Long accountId : accountIds) {
+                checkAvailable(accountId, accounts.get(accountId));
+            }
+
+            List<Transaction> ledger = ledgerBuilder.apply(accounts);
+            long debit = 0;
+            for (Transaction transaction : ledger) {
+                Currency currency = transaction.getAmount().getCurrency();
+                if (accounts.get(transaction.getToAccount()).getCurrency() != currency
+                        || (transaction.getFromAccount() != null
+                        && accounts.get(transaction.getFromAccount()).getCurrency() != currency)) {
+                    throw new IllegalArgumentException("Нельзя переводить между счетами с разной валютой");
+                }
+                if (transaction.getFromAccount() != null) {
+                    debit = Math.addExact(debit, transaction.getAmount().getMinorUnits());
+                }
+            }
+            if (debitAccountId != null) {
+                Optional<Money> balance = balanceSnapshotRepository.findBalance(debitAccountId);
+                if (balance.isEmpty() || balance.get().getMinorUnits() < debit) {
+                    throw new InsufficientFundsException("Недостаточно средств на счете отправителя");
+                }
+            }
+
+            transactionService.appendTransactions(ledger);
+            transactionManager.commitTransaction();
+        } catch (Exception e) {
+            logger.error(errorMessage, e);
+            try {
+                transactionManager.rollbackTransaction();
+            } catch (SQLException ex) {
+                logger.error("Ошибка при откате транзакции", ex);
+                throw new DataAccessException("Ошибка при откате транзакции", ex);
+            }
+            if (e instanceof AccountNotFoundException) {
+                throw (AccountNotFoundException) e;
+            } else if (e instanceof InsufficientFundsException) {
+                throw (InsufficientFundsException) e;
+            } else {
+                throw new DataAccessException(errorMessage, e);
+            }
+        }
+    }
+
+    private void checkAvailable(Long accountId, Account account) {
+        if (account == null) {
+            throw new AccountNotFoundException("Счет с id=" + accountId + " не найден");
+        }
+        if (account.getStatus() != AccountStatus.OPEN) {
+            throw new IllegalStateException("Счет " + account.getAccountNumber() + " закрыт");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.bankapp.service;
+
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.Account;
+import com.bankapp.model.AccountFilter;
+import com.bankapp.model.ClientSummary;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.DailyBalanceRepository;
+import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.utils.CsvWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Выгрузки в CSV. Строки читаются курсором и сразу пишутся в поток ответа, поэтому память
+// не зависит от размера выгрузки. Вызывается из загрузки файла браузером, а не из потока UI.
+public class ExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final AccountRepositoryImpl accountRepositoryImpl;
+    private final TransactionRepositoryImpl transactionRepositoryImpl;
+    private final ClientRepositoryImpl clientRepositoryImpl;
+    private final DailyBalanceRepository dailyBalanceRepository;
+
+    public ExportService(AccountRepositoryImpl accountRepositoryImpl, TransactionRepositoryImpl transactionRepositoryImpl,
+                         ClientRepositoryImpl clientRepositoryImpl, DailyBalanceRepository dailyBalanceRepository) {
+        this.accountRepositoryImpl = accountRepositoryImpl;
+        this.transactionRepositoryImpl = transactionRepositoryImpl;
+        this.clientRepositoryImpl = clientRepositoryImpl;
+        this.dailyBalanceRepository = dailyBalanceRepository;
+    }
+
+    public void writeTransactions(TransactionFilter filter, OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("ID", "Дата", "Тип", "Счет списания", "Счет зачисления", "Сумма", "Валюта");
+        try (Stream<Transaction> transactions = transactionRepositoryImpl.streamTransactions(filter)) {
+            for (Iterator<Transaction> it = transactions.iterator(); it.hasNext(); ) {
+                Transaction transaction = it.next();
+                csv.row(transaction.getId(), DATE_TIME.format(transaction.getTransactionDate()),
+                        transaction.getType().getDescription(), transaction.getFromAccount(), transaction.getToAccount(),
+                        transaction.getAmount().toBigDecimal(), transaction.getCurrency());
+            }
+        } catch (SQLException e) {
+            logger.error("Ошибка при выгрузке журнала по фильтру {}", filter, e);
+            throw new DataAccessException("Ошибка при выгрузке журнала транзакций", e);
+        }
+        csv.flush();
+    }
+
+    public void writeAccounts(AccountFilter filter, OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("Номер счета", "Статус", "Валюта", "Остаток", "БИК", "ID клиента", "Открыт");
+        try (Stream<Account> accounts = accountRepositoryImpl.streamAccounts(filter)) {
+            for (Iterator<Account> it = accounts.iterator(); it.hasNext(); ) {
+                Account account = it.next();
+                csv.row(account.getAccountNumber(), account.getStatus().getDescription(), account.getCurrency(),
+                        account.getBalance().toBigDecimal(), account.getBik(), account.getClientId(),
+                        account.getCreatedAt() == null ? null : DATE_TIME.format(account.getCreatedAt()));
+            }
+        } catch (SQLException e) {
+            logger.error("Ошибка при выгрузке счетов по фильтру {}", filter, e);
+            throw new DataAccessException("Ошибка при выгрузке списка счетов", e);
+        }
+        csv.flush();
+    }
+
+    public void writeClients(OutputStream out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.row("ID", "ФИО", "Телефон", "ИНН", "Адрес");
+        try (Stream<ClientSummary> clients = clientRepositoryImpl.streamSummaries()) {
+            for (Iterator<ClientSummary> it = clients.iterator(); it.hasNext(); ) {
+                ClientSummary client = it.next();
+                csv.row(client.getId(), client.getFullName(), client.getPhoneNumber(), client.getInn(),
+                        client.getAddress());
+            }
+        } catch (SQLException e) {
+            logger.error("Ошибка при выгрузке списка клиентов", e);
+            throw new DataAccessException("Ошибка при выгрузке списка клиентов", e);
+        }
+        csv.flush();
+    }
+
+    // Выписка за период [dateFrom, dateTo] включительно: входящий остаток на начало dateFrom, операции
+    // по порядку и исходящий остаток = входящий + приход - расход по показанным строкам.
+    // Без dateFrom выписка начинается с открытия счета, без dateTo - заканчивается сегодняшним днем
+    public void writeAccountStatement(Long accountId, LocalDate dateFrom, LocalDate dateTo, OutputStream out)
+            throws IOException {
+        try {
+            Account account = accountRepositoryImpl.findById(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+            LocalDate from = dateFrom != null ? dateFrom
+                    : account.getCreatedAt() != null ? account.getCreatedAt().toLocalDate() : LocalDate.now();
+            LocalDate to = dateTo != null ? dateTo : LocalDate.now();
+            // Входящий остаток - остаток на конец предыдущего дня из дневных оборотов, журнал до начала
+            // периода не читается
+            Money opening = dailyBalanceRepository.findClosingBalance(accountId, from.minusDays(1))
+                    .orElseThrow(() -> new AccountNotFoundException("Счет с id=" + accountId + " не найден"));
+
+            TransactionFilter filter = TransactionFilter.forAccount(accountId);
+            filter.setDateFrom(from);
+            filter.setDateTo(to);
+
+            CsvWriter csv = new CsvWriter(out);
+            csv.row("Выписка по счету", account.getAccountNumber(), account.getCurrency());
+            csv.row("Период", from, to);
+            csv.row("Входящий остаток", opening.toBigDecimal());
+            csv.row();
+            csv.row("Дата", "Операция", "Счет списания", "Счет зачисления", "Приход", "Расход");
+            Money credits = Money.zero(account.getCurrency());
+            Money debits = Money.zero(account.getCurrency());
+            try (Stream<Transaction> transactions = transactionRepositoryImpl.streamAccountHistory(filter)) {
+                for (Iterator<Transaction> it = transactions.iterator(); it.hasNext(); ) {
+                    Transaction transaction = it.next();
+                    // Перевод на тот же счет не меняет остаток: показывается и приходом, и расходом
+                    boolean credit = accountId.equals(transaction.getToAccount());
+                    boolean debit = accountId.equals(transaction.getFromAccount());
+                    // Остаток меняется на сумму операции без пересчета валюты, так же считаются и итоги
+                    Money amount = Money.ofMinor(transaction.getAmount().getMinorUnits(), account.getCurrency());
+                    if (credit) {
+                        credits = credits.plus(amount);
+                    }
+                    if (debit) {
+                        debits = debits.plus(amount);
+                    }
+                    csv.row(DATE_TIME.format(transaction.getTransactionDate()), transaction.getType().getDescription(),
+                            transaction.getFromAccount(), transaction.getToAccount(),
+                            credit ? amount.toBigDecimal() : null, debit ? amount.toBigDecimal() : null);
+                }
+            }
+            csv.row();
+            csv.row("Итого приход", credits.toBigDecimal());
+            csv.row("Итого расход", debits.toBigDecimal());
+            csv.row("Исходящий остаток", opening.plus(credits).minus(debits).toBigDecimal());
+            csv.flush();
+        } catch (SQLException e) {
+            logger.error("Ошибка при формировании выписки по счету {}", accountId, e);
+            throw new DataAccessException("Ошибка при формировании выписки по счету", e);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.bankapp.service;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.exception.InsufficientFundsException;
+import com.bankapp.model.Account;
+import com.bankapp.model.LedgerPosting;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Групповая фиксация проводок. Проводки из разных потоков копятся в очереди не дольше linger
+// и записываются одной транзакцией: счета всей группы блокируются одним запросом по возрастанию id,
+// балансы меняются одним пакетом, журнал пишется одним пакетом, фиксация одна на группу.
+// Каждый вызывающий поток ждет свой CompletableFuture.
+public class GroupCommitLedgerWriter {
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitLedgerWriter.class);
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    // Как часто рабочий поток пишет в журнал достигнутый размер групп
+    private static final long STATISTICS_PERIOD_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AccountRepositoryImpl accountRepositoryImpl;
+    private final TransactionService transactionService;
+    private final TransactionManager transactionManager;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingPosting> queue = new LinkedBlockingQueue<>();
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong postings = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong fallbackBatches = new AtomicLong();
+    private final AtomicInteger maxObservedBatchSize = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GroupCommitLedgerWriter(AccountRepositoryImpl accountRepositoryImpl, TransactionService transactionService,
+                                   TransactionManager transactionManager, int maxBatchSize, long lingerMicros) {
+        this.accountRepositoryImpl = accountRepositoryImpl;
+        this.transactionService = transactionService;
+        this.transactionManager = transactionManager;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(lingerMicros);
+    }
+
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "ledger-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Групповая фиксация проводок включена: группа до {} проводок, ожидание {} мкс",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMicros(lingerNanos));
+    }
+
+    // Проводки, уже поставленные в очередь, записываются до остановки
+    public synchronized void stop() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+        logger.info("Групповая фиксация проводок остановлена, {}", getStatistics());
+    }
+
+    public CompletableFuture<Void> submit(LedgerPosting posting) {
+        if (!running) {
+            throw new IllegalStateException("Групповая фиксация проводок остановлена");
+        }
+        PendingPosting pending = new PendingPosting(posting);
+        queue.add(pending);
+        return pending.future;
+    }
+
+    public LedgerWriterStatistics getStatistics() {
+        return new LedgerWriterStatistics(batches.get(), postings.get(), rejected.get(), fallbackBatches.get(),
+                maxObservedBatchSize.get(), queue.size());
+    }
+
+    private void runWorker() {
+        List<PendingPosting> batch = new ArrayList<>(maxBatchSize);
+        long reportedAt = System.nanoTime();
+        long reportedBatches = 0;
+        long reportedPostings = 0;
+        while (running || !queue.isEmpty()) {
+            long now = System.nanoTime();
+            if (now - reportedAt >= STATISTICS_PERIOD_NANOS) {
+                LedgerWriterStatistics statistics = getStatistics();
+                reportStatistics(statistics, statistics.getBatches() - reportedBatches,
+                        statistics.getPostings() - reportedPostings);
+                reportedAt = now;
+                reportedBatches = statistics.getBatches();
+                reportedPostings = statistics.getPostings();
+            }
+            try {
+                PendingPosting first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Проводки, поставленные в очередь одновременно с остановкой
+        PendingPosting pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new IllegalStateException("Групповая фиксация проводок остановлена"));
+        }
+    }
+
+    // Размер групп за последний период показывает, окупается ли ожидание linger при текущей нагрузке.
+    // Строка в минуту и только при проводках, поэтому уровень INFO: итог виден без настройки логов
+    private void reportStatistics(LedgerWriterStatistics statistics, long periodBatches, long periodPostings) {
+        if (periodBatches == 0) {
+            return;
+        }
+        logger.info("Групповая фиксация за период: групп {}, средний размер группы {}; всего {}", periodBatches,
+                String.format("%.2f", (double) periodPostings / periodBatches), statistics);
+    }
+
+    // Добирает группу до maxBatchSize, ожидая новые проводки не дольше linger от первой
+    private void collect(List<PendingPosting> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingPosting next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void process(List<PendingPosting> batch) {
+        try {
+            writeBatch(batch);
+        } catch (SQLException | RuntimeException e) {
+            if (batch.size() == 1) {
+                logger.error("Ошибка при записи проводки {}", batch.get(0).posting, e);
+                batch.get(0).future.completeExceptionally(new DataAccessException("Ошибка при записи проводки", e));
+                return;
+            }
+            // Ошибка одной проводки не должна отменять остальные: группа повторяется по одной проводке
+            logger.warn("Ошибка при записи группы из {} проводок, повтор по одной: {}", batch.size(), e.getMessage());
+            fallbackBatches.incrementAndGet();
+            for (PendingPosting pending : batch) {
+                pending.rejection = null;
+                process(List.of(pending));
+            }
+            return;
+        }
+
+        batches.incrementAndGet();
+        postings.addAndGet(batch.size());
+        maxObservedBatchSize.accumulateAndGet(batch.size(), Math::max);
+        for (PendingPosting pending : batch) {
+            if (pending.rejection != null) {
+                rejected.incrementAndGet();
+                pending.future.completeExceptionally(pending.rejection);
+            } else {
+                pending.future.complete(null);
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingPosting> batch) throws SQLException {
+        Set<Long> accountIds = new TreeSet<>();
+        for (PendingPosting pending : batch) {
+            if (pending.posting.getFromAccountId() != null) {
+                accountIds.add(pending.posting.getFromAccountId());
+            }
+            accountIds.add(pending.posting.getToAccountId());
+        }
+
+        transactionManager.beginTransaction();
+        try {
+            Map<Long, Account> accounts = new HashMap<>();
+            for (Account account : accountRepositoryImpl.findByIdsForUpdate(accountIds)) {
+                accounts.put(account.getId(), account);
+            }
+
+            // Проводки проверяются по очереди на заблокированных счетах с учетом предыдущих проводок группы
+            SortedMap<Long, Long> deltas = new TreeMap<>();
+            List<Transaction> ledger = new ArrayList<>();
+            for (PendingPosting pending : batch) {
+                pending.rejection = apply(pending.posting, accounts, deltas, ledger);
+            }
+
+            if (!deltas.isEmpty()) {
+                accountRepositoryImpl.applyBalanceDeltas(deltas);
+            }
+            if (!ledger.isEmpty()) {
+                transactionService.createTransactions(ledger);
+            }
+            transactionManager.commitTransaction();
+        } catch (SQLException | RuntimeException e) {
+            transactionManager.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    private RuntimeException apply(LedgerPosting posting, Map<Long, Account> accounts,
+                                   SortedMap<Long, Long> deltas, List<Transaction> ledger) {
+        long amount = posting.getAmountMinorUnits();
+        Account to = accounts.get(posting.getToAccountId());
+        RuntimeException unavailable = checkAvailable(posting.getToAccountId(), to);
+        if (unavailable != null) {
+            return unavailable;
+        }
+
+        Account from = null;
+        if (posting.getFromAccountId() != null) {
+            from = accounts.get(posting.getFromAccountId());
+            unavailable = checkAvailable(posting.getFromAccountId(), from);
+            if (unavailable != null) {
+                return unavailable;
+            }
+            if (from.getCurrency() != posting.getCurrency() || to.getCurrency() != posting.getCurrency()) {
+                return new IllegalArgumentException("Нельзя переводить между счетами с разной валютой");
+            }
+            if (from.getBalance().getMinorUnits() < amount) {
+                return new InsufficientFundsException("Недостаточно средств на счете отправителя");
+            }
+            from.setBalance(Money.ofMinor(Math.subtractExact(from.getBalance().getMinorUnits(), amount), from.getCurrency()));
+            deltas.merge(from.getId(), -amount, Math::addExact);
+        }
+
+        to.setBalance(Money.ofMinor(Math.addExact(to.getBalance().getMinorUnits(), amount), to.getCurrency()));
+        deltas.merge(to.getId(), amount, Math::addExact);
+        ledger.add(new Transaction(posting.getFromAccountId(), posting.getToAccountId(),
+                Money.ofMinor(amount, to.getCurrency()), null, posting.getType()));
+        return null;
+    }
+
+    private RuntimeException checkAvailable(Long accountId, Account account) {
+        if (account == null) {
+            return new AccountNotFoundException("Счет с id=" + accountId + " не найден");
+        }
+        if (account.getStatus() != AccountStatus.OPEN) {
+            return new IllegalStateException("Счет " + account.getAccountNumber() + " закрыт");
+        }
+        return null;
+    }
+
+    private static class PendingPosting {
+        private final LedgerPosting posting;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        // Причина отказа, найденная при проверке; сообщается вызывающему только после фиксации группы
+        private RuntimeException rejection;
+
+        PendingPosting(LedgerPosting posting) {
+            this.posting = posting;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.bankapp.service;
+
+import com.bankapp.enums.MismatchType;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.model.ReconciliationMismatch;
+import com.bankapp.model.ReconciliationReport;
+import com.bankapp.model.TablePartition;
+import com.bankapp.repository.PartitionRepository;
+import com.bankapp.repository.ReconciliationRepository;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Сверка балансов счетов с журналом. Цепочка проверок: обороты дня в daily_balances равны суммам журнала,
+// остаток на конец дня равен остатку предыдущего дня с оборотами, остаток последнего дня равен остатку счета,
+// остаток перед первым днем счета равен нулю: счета открываются с нулевым остатком. Вместе это значит, что
+// остаток счета равен приходу минус расход по журналу. Без проверки первого дня ошибка в остатке, сделанная
+// до заполнения daily_balances или перенесенная в пересчитанные дни из accounts.balance, не была бы видна.
+//
+// Счета делятся на диапазоны id по rangeSize, диапазоны сверяются параллельно в ForkJoinPool.
+// Дневные обороты диапазона читаются курсором, по ним проверяются остатки и считаются контрольные суммы:
+// лист - день диапазона, корень - сумма листьев по порядку дней. С журналом сверяются только закрытые дни,
+// лист которых изменился с прошлой успешной сверки, поэтому ночная сверка читает журнал за новые дни,
+// а не целиком. Раз в неделю сверка полная: журнал, измененный без изменения дневных оборотов, она тоже найдет.
+// Дни до начала самой старой присоединенной секции журнала с ним не сверяются: их проводки отсоединены
+// вместе с секцией. Их сохраненные контрольные суммы остаются, остатки по ним проверяются как обычно
+public class LedgerReconciliationJob {
+    private static final Logger logger = LoggerFactory.getLogger(LedgerReconciliationJob.class);
+
+    // После ночного пересчета дневных оборотов
+    private static final LocalTime RUN_AT = LocalTime.of(1, 0);
+    private static final DayOfWeek FULL_RUN_DAY = DayOfWeek.SUNDAY;
+    private static final String JOURNAL_TABLE = "transactions";
+    private static final int MAX_REPORTED_MISMATCHES = 1_000;
+    private static final int LOGGED_MISMATCHES = 20;
+
+    private final ReconciliationRepository reconciliationRepository;
+    private final PartitionRepository partitionRepository;
+    private final TransactionManager transactionManager;
+    private final Clock clock;
+    private final long rangeSize;
+    // Каждый диапазон занимает до двух соединений пула
+    private final int parallelism;
+
+    private ScheduledExecutorService scheduler;
+    private volatile ReconciliationReport lastReport;
+
+    public LedgerReconciliationJob(ReconciliationRepository reconciliationRepository,
+                                   PartitionRepository partitionRepository, TransactionManager transactionManager,
+                                   Clock clock, long rangeSize, int parallelism) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.partitionRepository = partitionRepository;
+        this.transactionManager = transactionManager;
+        this.clock = clock;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = now.toLocalDate().atTime(RUN_AT);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        scheduler.scheduleAtFixedRate(this::runSafely, Duration.between(now, next).toMinutes(),
+                TimeUnit.DAYS.toMinutes(1), TimeUnit.MINUTES);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public ReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    // full - сверить с журналом все закрытые дни, не глядя на сохраненные контрольные суммы
+    public ReconciliationReport run(boolean full) throws SQLException {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now(clock);
+        LocalDate journalStart = findJournalStart();
+        long maxAccountId = reconciliationRepository.findMaxAccountId();
+        List<long[]> ranges = new ArrayList<>();
+        for (long start = 0; start <= maxAccountId; start += rangeSize) {
+            ranges.add(new long[]{start, start + rangeSize});
+        }
+
+        List<RangeResult> results;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            results = pool.invoke(new RangeTask(ranges, 0, ranges.size(), full, today, journalStart));
+        } finally {
+            pool.shutdown();
+        }
+
+        ReconciliationReport report = new ReconciliationReport();
+        MessageDigest root = sha256();
+        for (RangeResult result : results) {
+            report.setRangeCount(report.getRangeCount() + 1);
+            report.setSkippedRanges(report.getSkippedRanges() + (result.skipped ? 1 : 0));
+            report.setVerifiedDays(report.getVerifiedDays() + result.verifiedDays);
+            report.setMismatchCount(report.getMismatchCount() + result.mismatches.size());
+            for (ReconciliationMismatch mismatch : result.mismatches) {
+                if (report.getMismatches().size() < MAX_REPORTED_MISMATCHES) {
+                    report.getMismatches().add(mismatch);
+                }
+            }
+            root.update(result.rootHash);
+        }
+        report.setRootHash(HexFormat.of().formatHex(root.digest()));
+        report.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        lastReport = report;
+
+        if (report.getMismatchCount() == 0) {
+            logger.info("Сверка журнала завершена без расхождений: {}", report);
+        } else {
+            logger.warn("Сверка журнала нашла расхождения: {}", report);
+            report.getMismatches().stream().limit(LOGGED_MISMATCHES)
+                    .forEach(mismatch -> logger.warn("{}: {}", mismatch.getType().getDescription(), mismatch));
+        }
+        return report;
+    }
+
+    private void runSafely() {
+        try {
+            run(LocalDate.now(clock).getDayOfWeek() == FULL_RUN_DAY);
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Ошибка при сверке журнала", e);
+        }
+    }
+
+    // Первый день, журнал которого присоединен к таблице; null - журнал не секционирован или хранится целиком
+    private LocalDate findJournalStart() throws SQLException {
+        LocalDate start = null;
+        for (TablePartition partition : partitionRepository.findPartitions(JOURNAL_TABLE)) {
+            if (partition.isDefaultPartition()) {
+                continue;
+            }
+            if (partition.getFrom() == null) {
+                return null;
+            }
+            LocalDate from = partition.getFrom().toLocalDate();
+            if (start == null || from.isBefore(start)) {
+                start = from;
+            }
+        }
+        return start;
+    }
+
+    private RangeResult reconcileRange(long rangeStart, long rangeEnd, boolean full, LocalDate today,
+                                       LocalDate journalStart) throws SQLException {
+        RangeResult result = new RangeResult();
+        Map<LocalDate, MessageDigest> digests = new TreeMap<>();
+        try (Stream<DailyBalance> balances = reconciliationRepository.streamDailyBalances(rangeStart, rangeEnd)) {
+            DailyBalance previous = null;
+            for (Iterator<DailyBalance> it = balances.iterator(); it.hasNext(); ) {
+                DailyBalance balance = it.next();
+                if (previous != null && previous.getAccountId().equals(balance.getAccountId())) {
+                    checkClosingBalance(previous, balance, result.mismatches);
+                } else {
+                    checkOpeningBalance(balance, result.mismatches);
+                }
+                // Текущий день еще меняется, его обороты сверятся после закрытия
+                if (balance.getDay().isBefore(today)) {
+                    updateLeaf(digests.computeIfAbsent(balance.getDay(), day -> sha256()), balance);
+                }
+                previous = balance;
+            }
+        }
+        result.mismatches.addAll(reconciliationRepository.findBalanceMismatches(rangeStart, rangeEnd));
+
+        Map<LocalDate, byte[]> leaves = new TreeMap<>();
+        digests.forEach((day, digest) -> leaves.put(day, digest.digest()));
+        byte[] currentRoot = rootHash(leaves);
+        Optional<byte[]> storedRoot = reconciliationRepository.findRangeHash(rangeStart);
+        if (!full && storedRoot.isPresent() && Arrays.equals(storedRoot.get(), currentRoot)) {
+            result.skipped = true;
+            result.rootHash = currentRoot;
+            return result;
+        }
+
+        // Дни, лист которых изменился, появился или исчез с прошлой сверки
+        Map<LocalDate, byte[]> stored = reconciliationRepository.findCheckpoints(rangeStart);
+        SortedSet<LocalDate> changed = new TreeSet<>();
+        for (Map.Entry<LocalDate, byte[]> leaf : leaves.entrySet()) {
+            if (full || !Arrays.equals(leaf.getValue(), stored.get(leaf.getKey()))) {
+                changed.add(leaf.getKey());
+            }
+        }
+        Set<LocalDate> removed = new TreeSet<>(stored.keySet());
+        removed.removeAll(leaves.keySet());
+        changed.addAll(removed);
+
+        // Дни отсоединенных секций не сверяются и не сохраняются заново, их прежние листья остаются
+        SortedSet<LocalDate> checked = journalStart == null ? changed : changed.tailSet(journalStart);
+        Set<LocalDate> failed = new TreeSet<>();
+        if (!checked.isEmpty()) {
+            List<ReconciliationMismatch> turnovers = reconciliationRepository.findTurnoverMismatches(
+                    rangeStart, rangeEnd, checked.first(), checked.last().plusDays(1));
+            result.mismatches.addAll(turnovers);
+            result.verifiedDays = checked.size();
+            turnovers.forEach(mismatch -> failed.add(mismatch.getDay()));
+        }
+        for (ReconciliationMismatch mismatch : result.mismatches) {
+            if (mismatch.getDay() != null) {
+                failed.add(mismatch.getDay());
+            }
+        }
+
+        // Дни с расхождениями не сохраняются и сверяются с журналом при каждом запуске, пока их не исправят
+        Map<LocalDate, byte[]> verified = new TreeMap<>();
+        for (LocalDate day : checked) {
+            if (leaves.containsKey(day) && !failed.contains(day)) {
+                verified.put(day, leaves.get(day));
+            }
+        }
+        Set<LocalDate> dropped = new TreeSet<>(removed);
+        failed.stream().filter(stored::containsKey).forEach(dropped::add);
+
+        Map<LocalDate, byte[]> saved = new TreeMap<>(stored);
+        saved.keySet().removeAll(dropped);
+        saved.putAll(verified);
+        result.rootHash = rootHash(saved);
+        try {
+            transactionManager.beginTransaction();
+            reconciliationRepository.saveCheckpoints(rangeStart, rangeEnd, verified, dropped, result.rootHash);
+            transactionManager.commitTransaction();
+        } catch (SQLException | RuntimeException e) {
+            transactionManager.rollbackTransaction();
+            throw e;
+        }
+        return result;
+    }
+
+    private static void checkClosingBalance(DailyBalance previous, DailyBalance balance,
+                                            List<ReconciliationMismatch> mismatches) {
+        Money expected = previous.getClosingBalance().plus(balance.getCreditTurnover()).minus(balance.getDebitTurnover());
+        if (!expected.equals(balance.getClosingBalance())) {
+            mismatches.add(new ReconciliationMismatch(balance.getAccountId(), balance.getDay(),
+                    MismatchType.CLOSING_BALANCE, expected, balance.getClosingBalance()));
+        }
+    }
+
+    private static void checkOpeningBalance(DailyBalance balance, List<ReconciliationMismatch> mismatches) {
+        Money opening = balance.getClosingBalance().minus(balance.getCreditTurnover()).plus(balance.getDebitTurnover());
+        if (opening.getMinorUnits() != 0) {
+            mismatches.add(new ReconciliationMismatch(balance.getAccountId(), balance.getDay(),
+                    MismatchType.OPENING_BALANCE, Money.zero(opening.getCurrency()), opening));
+        }
+    }
+
+    // Лист дня - сумма строк его счетов по возрастанию id: порядок задан курсором (account_id, day)
+    private static void updateLeaf(MessageDigest digest, DailyBalance balance) {
+        digest.update(ByteBuffer.allocate(4 * Long.BYTES)
+                .putLong(balance.getAccountId())
+                .putLong(balance.getCreditTurnover().getMinorUnits())
+                .putLong(balance.getDebitTurnover().getMinorUnits())
+                .putLong(balance.getClosingBalance().getMinorUnits())
+                .array());
+    }
+
+    private static byte[] rootHash(Map<LocalDate, byte[]> leaves) {
+        MessageDigest digest = sha256();
+        leaves.forEach((day, leaf) -> {
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(day.toEpochDay()).array());
+            digest.update(leaf);
+        });
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+
+    private static final class RangeResult {
+        private final List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        private byte[] rootHash;
+        private boolean skipped;
+        private int verifiedDays;
+    }
+
+    // Делит список диапазонов пополам до одного диапазона; результаты идут в порядке диапазонов
+    private final class RangeTask extends RecursiveTask<List<RangeResult>> {
+        private final List<long[]> ranges;
+        private final int from;
+        private final int to;
+        private final boolean full;
+        private final LocalDate today;
+        private final LocalDate journalStart;
+
+        RangeTask(List<long[]> ranges, int from, int to, boolean full, LocalDate today, LocalDate journalStart) {
+            this.ranges = ranges;
+            this.from = from;
+            this.to = to;
+            this.full = full;
+            this.today = today;
+            this.journalStart = journalStart;
+        }
+
+        @Override
+        protected List<RangeResult> compute() {
+            if (to - from == 1) {
+                long[] range = ranges.get(from);
+                try {
+                    List<RangeResult> results = new ArrayList<>(1);
+                    results.add(reconcileRange(range[0], range[1], full, today, journalStart));
+                    return results;
+                } catch (SQLException e) {
+                    throw new DataAccessException("Ошибка при сверке счетов с id " + range[0] + " - " + (range[1] - 1), e);
+                }
+            }
+            if (to == from) {
+                return new ArrayList<>();
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(ranges, from, middle, full, today, journalStart);
+            RangeTask right = new RangeTask(ranges, middle, to, full, today, journalStart);
+            right.fork();
+            List<RangeResult> results = left.compute();
+            results.addAll(right.join());
+            return results;
+        }
+    }
+}
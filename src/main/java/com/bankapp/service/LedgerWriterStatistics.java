@@ -0,0 +1,62 @@
+package com.bankapp.service;
+
+public class LedgerWriterStatistics {
+    private final long batches;
+    private final long postings;
+    private final long rejected;
+    private final long fallbackBatches;
+    private final int maxBatchSize;
+    private final int queued;
+
+    public LedgerWriterStatistics(long batches, long postings, long rejected, long fallbackBatches, int maxBatchSize,
+                                  int queued) {
+        this.batches = batches;
+        this.postings = postings;
+        this.rejected = rejected;
+        this.fallbackBatches = fallbackBatches;
+        this.maxBatchSize = maxBatchSize;
+        this.queued = queued;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getPostings() {
+        return postings;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getFallbackBatches() {
+        return fallbackBatches;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    // Средний размер группы: сколько проводок пришлось на одну фиксацию
+    public double getAverageBatchSize() {
+        return batches == 0 ? 0 : (double) postings / batches;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerWriterStatistics{" +
+                "batches=" + batches +
+                ", postings=" + postings +
+                ", averageBatchSize=" + String.format("%.2f", getAverageBatchSize()) +
+                ", maxBatchSize=" + maxBatchSize +
+                ", rejected=" + rejected +
+                ", fallbackBatches=" + fallbackBatches +
+                ", queued=" + queued +
+                '}';
+    }
+}
@@ -0,0 +1,151 @@
+package com.bankapp.service;
+
+import com.bankapp.model.TablePartition;
+import com.bankapp.repository.PartitionRepository;
+import com.bankapp.utils.TransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Обслуживание помесячных секций журнала транзакций: заранее создает секции на следующие месяцы
+// и, если задан срок хранения, отсоединяет старые. Отсоединенная секция остается обычной таблицей,
+// ее архивирование или удаление выполняется вручную.
+public class PartitionMaintenanceJob {
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    private static final String TABLE = "transactions";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Создание и отсоединение секции ждут блокировку родительской таблицы (например, за курсором выгрузки);
+    // дольше ждать нельзя, за ней встанут все переводы
+    private static final long LOCK_TIMEOUT_MS = 5_000;
+
+    private final PartitionRepository partitionRepository;
+    private final TransactionManager transactionManager;
+    private final Clock clock;
+    private final int monthsAhead;
+    // 0 - старые секции не отсоединяются
+    private final int detachAfterMonths;
+
+    private ScheduledExecutorService scheduler;
+
+    public PartitionMaintenanceJob(PartitionRepository partitionRepository, TransactionManager transactionManager,
+                                   Clock clock, int monthsAhead, int detachAfterMonths) {
+        this.partitionRepository = partitionRepository;
+        this.transactionManager = transactionManager;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.detachAfterMonths = detachAfterMonths;
+    }
+
+    public synchronized void start(long intervalHours) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, intervalHours, TimeUnit.HOURS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void run() throws SQLException {
+        LocalDateTime currentMonth = LocalDateTime.now(clock).truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        List<TablePartition> partitions = partitionRepository.findPartitions(TABLE);
+        if (partitions.isEmpty()) {
+            logger.warn("Таблица {} не секционирована, обслуживание секций пропущено", TABLE);
+            return;
+        }
+
+        createFuturePartitions(partitions, currentMonth);
+        if (detachAfterMonths > 0) {
+            detachExpiredPartitions(partitions, currentMonth.minusMonths(detachAfterMonths));
+        }
+        checkDefaultPartition(partitions);
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Ошибка при обслуживании секций таблицы {}", TABLE, e);
+        }
+    }
+
+    // Секции создаются от верхней границы последней секции, пропусков между секциями не бывает
+    private void createFuturePartitions(List<TablePartition> partitions, LocalDateTime currentMonth)
+            throws SQLException {
+        LocalDateTime coveredUntil = partitions.stream()
+                .map(TablePartition::getTo)
+                .filter(to -> to != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(currentMonth);
+        LocalDateTime target = currentMonth.plusMonths(monthsAhead + 1L);
+
+        for (LocalDateTime from = coveredUntil; from.isBefore(target); from = from.plusMonths(1)) {
+            String name = PARTITION_PREFIX + from.format(PARTITION_SUFFIX);
+            try {
+                transactionManager.beginTransaction();
+                partitionRepository.createPartition(TABLE, name, from, from.plusMonths(1), LOCK_TIMEOUT_MS);
+                transactionManager.commitTransaction();
+                logger.info("Создана секция {} с {}", name, from.toLocalDate());
+            } catch (SQLException e) {
+                transactionManager.rollbackTransaction();
+                // Не дождались блокировки - повторим при следующем запуске; следующие месяцы без этой
+                // секции не создаются, иначе между секциями останется пропуск
+                logger.warn("Не удалось создать секцию {}: {}", name, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void detachExpiredPartitions(List<TablePartition> partitions, LocalDateTime retainFrom)
+            throws SQLException {
+        for (TablePartition partition : partitions) {
+            if (partition.isDefaultPartition() || partition.getTo() == null || partition.getTo().isAfter(retainFrom)) {
+                continue;
+            }
+            try {
+                transactionManager.beginTransaction();
+                partitionRepository.detachPartition(TABLE, partition.getName(), LOCK_TIMEOUT_MS);
+                transactionManager.commitTransaction();
+                logger.info("Секция {} отсоединена от таблицы {}", partition.getName(), TABLE);
+            } catch (SQLException e) {
+                transactionManager.rollbackTransaction();
+                // Не дождались блокировки - повторим при следующем запуске
+                logger.warn("Не удалось отсоединить секцию {}: {}", partition.getName(), e.getMessage());
+            }
+        }
+    }
+
+    // Строки в секции по умолчанию означают, что секция на их месяц не была создана вовремя.
+    // Создать такую секцию позже нельзя, пока строки не перенесены из секции по умолчанию.
+    private void checkDefaultPartition(List<TablePartition> partitions) throws SQLException {
+        for (TablePartition partition : partitions) {
+            if (!partition.isDefaultPartition()) {
+                continue;
+            }
+            long rows = partitionRepository.countRows(partition.getName());
+            if (rows > 0) {
+                logger.warn("В секции по умолчанию {} находится строк: {}", partition.getName(), rows);
+            }
+        }
+    }
+}
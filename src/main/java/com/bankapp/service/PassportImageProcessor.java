@@ -0,0 +1,153 @@
+package com.bankapp.service;
+
+import com.bankapp.storage.DocumentStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Приведение загруженных сканов паспортов к единому виду в фоновых потоках: изображение уменьшается
+// до normalizedSize пикселей по большей стороне и пережимается в JPEG, отдельно сохраняется миниатюра.
+// Пул и очередь ограничены: при переполнении новая загрузка отклоняется, а не копится в памяти.
+public class PassportImageProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(PassportImageProcessor.class);
+
+    private static final float JPEG_QUALITY = 0.85f;
+    // Защита от изображений, которые при небольшом размере файла распаковываются в гигабайты
+    private static final long MAX_SOURCE_PIXELS = 200_000_000L;
+
+    private final DocumentStore documentStore;
+    private final int normalizedSize;
+    private final int thumbnailSize;
+    private final ThreadPoolExecutor executor;
+
+    public PassportImageProcessor(DocumentStore documentStore, int threads, int queueCapacity,
+                                  int normalizedSize, int thumbnailSize) {
+        this.documentStore = documentStore;
+        this.normalizedSize = normalizedSize;
+        this.thumbnailSize = thumbnailSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "passport-image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Загруженный файл удаляется после обработки. RejectedExecutionException - очередь заполнена
+    public CompletableFuture<ProcessedPassportScan> process(Path upload) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return store(upload);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deleteUpload(upload);
+            }
+        }, executor);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private ProcessedPassportScan store(Path upload) throws IOException {
+        BufferedImage normalized = scaleToFit(read(upload), normalizedSize);
+        BufferedImage thumbnail = scaleToFit(normalized, thumbnailSize);
+        ProcessedPassportScan scan = new ProcessedPassportScan(
+                documentStore.put(new ByteArrayInputStream(encodeJpeg(normalized))),
+                documentStore.put(new ByteArrayInputStream(encodeJpeg(thumbnail))));
+        logger.info("Скан паспорта обработан: {}x{}, {}", normalized.getWidth(), normalized.getHeight(), scan);
+        return scan;
+    }
+
+    // Большие снимки читаются с прореживанием строк и столбцов: полноразмерное изображение в памяти
+    // не появляется, а по большей стороне остается не меньше 2 * normalizedSize пикселей для уменьшения
+    private BufferedImage read(Path upload) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(upload.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Формат изображения не поддерживается");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Слишком большое изображение: " + width + "x" + height);
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (normalizedSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Прозрачность PNG отбрасывается на белом фоне, результат всегда RGB для JPEG
+    private static BufferedImage scaleToFit(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            logger.warn("Не удалось удалить загруженный файл {}", upload, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bankapp.service;
+
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.storage.DocumentStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Перенос сканов паспортов из колонки BYTEA в хранилище документов порциями по batchSize клиентов,
+// в памяти одновременно не больше одного скана.
+// Файл сначала записывается в хранилище, затем одной командой на порцию в БД сохраняется ссылка
+// и очищается BYTEA: при сбое между шагами в хранилище остается лишний файл, но скан не теряется.
+// Место, освобожденное в таблице, возвращается обычной очисткой (autovacuum).
+public class PassportScanMigrationJob {
+    private static final Logger logger = LoggerFactory.getLogger(PassportScanMigrationJob.class);
+
+    private final ClientRepositoryImpl clientRepositoryImpl;
+    private final DocumentStore documentStore;
+    private final int batchSize;
+
+    private Thread worker;
+
+    public PassportScanMigrationJob(ClientRepositoryImpl clientRepositoryImpl, DocumentStore documentStore,
+                                    int batchSize) {
+        this.clientRepositoryImpl = clientRepositoryImpl;
+        this.documentStore = documentStore;
+        this.batchSize = batchSize;
+    }
+
+    // Перенос выполняется один раз в фоне; приложение работает со сканами в обоих местах
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::runSafely, "passport-scan-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    // Возвращает число перенесенных сканов
+    public long run() throws SQLException, IOException {
+        long moved = 0;
+        long lastClientId = 0;
+        List<Long> clientIds;
+        // stop() прерывает перенос между порциями
+        while (!Thread.currentThread().isInterrupted()
+                && !(clientIds = clientRepositoryImpl.findLegacyPassportScanIds(lastClientId, batchSize)).isEmpty()) {
+            Map<Long, String> references = new LinkedHashMap<>();
+            for (Long clientId : clientIds) {
+                // Скан передается в хранилище потоком из результата запроса, не копируясь в массив
+                Optional<String> reference = clientRepositoryImpl.readLegacyPassportScan(clientId, documentStore::put);
+                reference.ifPresent(ref -> references.put(clientId, ref));
+                lastClientId = clientId;
+            }
+            moved += clientRepositoryImpl.movePassportScansToStore(references);
+            logger.info("Перенесено сканов паспортов в хранилище документов: {}", moved);
+        }
+        return moved;
+    }
+
+    private void runSafely() {
+        try {
+            long moved = run();
+            if (moved > 0) {
+                logger.info("Перенос сканов паспортов завершен, перенесено {}", moved);
+            }
+        } catch (SQLException | IOException e) {
+            logger.error("Ошибка при переносе сканов паспортов, перенос продолжится при следующем запуске", e);
+        }
+    }
+}
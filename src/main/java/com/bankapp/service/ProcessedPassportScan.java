@@ -0,0 +1,28 @@
+package com.bankapp.service;
+
+// Результат обработки загруженного скана: ссылки на нормализованное изображение и миниатюру в хранилище документов
+public class ProcessedPassportScan {
+    private final String scanRef;
+    private final String thumbnailRef;
+
+    public ProcessedPassportScan(String scanRef, String thumbnailRef) {
+        this.scanRef = scanRef;
+        this.thumbnailRef = thumbnailRef;
+    }
+
+    public String getScanRef() {
+        return scanRef;
+    }
+
+    public String getThumbnailRef() {
+        return thumbnailRef;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessedPassportScan{" +
+                "scanRef='" + scanRef + '\'' +
+                ", thumbnailRef='" + thumbnailRef + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.bankapp.service;
+
+// Число строк таблицы: точное или оценка планировщика для больших таблиц
+public class RowCount {
+    private final long value;
+    private final boolean exact;
+
+    public RowCount(long value, boolean exact) {
+        this.value = value;
+        this.exact = exact;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    // Grid принимает размер только в int
+    public int toInt() {
+        return (int) Math.min(Integer.MAX_VALUE, value);
+    }
+}
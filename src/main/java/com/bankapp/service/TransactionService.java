@@ -1,42 +1,80 @@
 package com.bankapp.service;
 
-import com.bankapp.enums.Currency;
 import com.bankapp.enums.TransactionType;
 import com.bankapp.exception.TransactionException;
+import com.bankapp.model.Money;
 import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.repository.DailyBalanceRepository;
 import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.repository.KeysetCursor;
+import com.bankapp.repository.KeysetPage;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class TransactionService {
 
     private final TransactionRepositoryImpl transactionRepositoryImpl;
+    private final CardinalityService cardinalityService;
+    private final DailyBalanceRepository dailyBalanceRepository;
     private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
+    private static final int FILTERED_COUNT_LIMIT = 10_000;
 
-    public TransactionService(TransactionRepositoryImpl transactionRepositoryImpl) {
+    public TransactionService(TransactionRepositoryImpl transactionRepositoryImpl,
+                              CardinalityService cardinalityService, DailyBalanceRepository dailyBalanceRepository) {
         this.transactionRepositoryImpl = transactionRepositoryImpl;
+        this.cardinalityService = cardinalityService;
+        this.dailyBalanceRepository = dailyBalanceRepository;
     }
 
-    public void createTransaction(Long accountId, Long targetAccountId, TransactionType type, BigDecimal amount, Currency currency) {
+    // Проводки записываются в транзакции вызывающего кода после изменения балансов:
+    // вместе с журналом обновляются обороты и остатки текущего дня
+
+    public void createTransaction(Long accountId, Long targetAccountId, TransactionType type, Money amount) {
         try {
             Transaction transaction = new Transaction();
             transaction.setFromAccount(accountId);
             transaction.setToAccount(targetAccountId);
             transaction.setAmount(amount);
-            transaction.setCurrency(currency);
             transaction.setStatus(type);
             transactionRepositoryImpl.save(transaction);
+            dailyBalanceRepository.addTurnovers(List.of(transaction));
+            cardinalityService.transactionsCreated(1);
         } catch (SQLException e) {
             logger.error("Ошибка при создании транзакции", e);
             throw new TransactionException("Ошибка при создании транзакции", e);
         }
     }
 
+    public void createTransactions(List<Transaction> transactions) {
+        try {
+            transactionRepositoryImpl.saveAll(transactions);
+            dailyBalanceRepository.addTurnovers(transactions);
+            cardinalityService.transactionsCreated(transactions.size());
+        } catch (SQLException e) {
+            logger.error("Ошибка при создании транзакций", e);
+            throw new TransactionException("Ошибка при создании транзакций", e);
+        }
+    }
+
+    // Только журнал, без оборотов текущего дня: в режиме событий строки счетов и дней не изменяются
+    // при проводке, обороты закрытых дней пересчитывает ночное задание
+    public void appendTransactions(List<Transaction> transactions) {
+        try {
+            transactionRepositoryImpl.saveAll(transactions);
+            cardinalityService.transactionsCreated(transactions.size());
+        } catch (SQLException e) {
+            logger.error("Ошибка при создании транзакций", e);
+            throw new TransactionException("Ошибка при создании транзакций", e);
+        }
+    }
+
+    // Весь журнал загружается в память - только для небольших баз; выгрузкам нужен streamAllTransactions
     public List<Transaction> findAllTransactions() {
         try {
             return transactionRepositoryImpl.findAll();
@@ -46,6 +84,16 @@ public class TransactionService {
         }
     }
 
+    // Поток держит соединение с БД до закрытия: вызывающий код закрывает его в try-with-resources
+    public Stream<Transaction> streamAllTransactions() {
+        try {
+            return transactionRepositoryImpl.streamAll();
+        } catch (SQLException e) {
+            logger.error("Ошибка при чтении журнала транзакций", e);
+            throw new TransactionException("Ошибка при получении списка транзакций", e);
+        }
+    }
+
     public List<Transaction> findTransactions(int offset, int limit, List<QuerySortOrder> sortOrders) {
         try {
             return transactionRepositoryImpl.findTransactions(offset, limit, sortOrders);
@@ -55,9 +103,53 @@ public class TransactionService {
         }
     }
 
-    public int countTransactions() {
+    public KeysetPage<Transaction> findTransactionsPage(KeysetCursor after, int offset, int limit,
+                                                        List<QuerySortOrder> sortOrders) {
+        try {
+            return transactionRepositoryImpl.findTransactionsPage(after, offset, limit, sortOrders);
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении списка транзакций по фильтру", e);
+            throw new TransactionException("Ошибка при получении списка транзакций по фильтру", e);
+        }
+    }
+
+    public KeysetPage<Transaction> findTransactionsPage(TransactionFilter filter, KeysetCursor after, int offset,
+                                                        int limit, List<QuerySortOrder> sortOrders) {
+        try {
+            return transactionRepositoryImpl.findTransactionsPage(filter, after, offset, limit, sortOrders);
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении списка транзакций по фильтру {}", filter, e);
+            throw new TransactionException("Ошибка при получении списка транзакций по фильтру", e);
+        }
+    }
+
+    public KeysetPage<Transaction> findAccountHistoryPage(TransactionFilter filter, KeysetCursor after, int offset,
+                                                          int limit) {
+        try {
+            return transactionRepositoryImpl.findAccountHistoryPage(filter, after, offset, limit);
+        } catch (SQLException e) {
+            logger.error("Ошибка при получении истории операций по фильтру {}", filter, e);
+            throw new TransactionException("Ошибка при получении истории операций по счету", e);
+        }
+    }
+
+    // Без фильтра - счетчик таблицы; с фильтром операции считаются до FILTERED_COUNT_LIMIT
+    public RowCount countTransactions(TransactionFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return countTransactions();
+        }
+        try {
+            int count = transactionRepositoryImpl.count(filter, FILTERED_COUNT_LIMIT + 1);
+            return new RowCount(count, count <= FILTERED_COUNT_LIMIT);
+        } catch (SQLException e) {
+            logger.error("Ошибка при подсчёте транзакций по фильтру {}", filter, e);
+            throw new TransactionException("Ошибка при подсчёте транзакций", e);
+        }
+    }
+
+    public RowCount countTransactions() {
         try {
-            return transactionRepositoryImpl.count();
+            return cardinalityService.countTransactions();
         } catch (SQLException e) {
             logger.error("Ошибка при подсчёте транзакций", e);
             throw new TransactionException("Ошибка при подсчёте транзакций", e);
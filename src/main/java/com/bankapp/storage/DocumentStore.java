@@ -0,0 +1,18 @@
+package com.bankapp.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Хранилище файлов клиентов вне БД. Файл адресуется хешем содержимого: одинаковые файлы
+// хранятся один раз, сохраненный файл не меняется, в таблицах хранится только ссылка.
+public interface DocumentStore {
+
+    // Сохраняет содержимое и возвращает ссылку на него
+    String put(InputStream content) throws IOException;
+
+    // Копирует файл в out; false - файла по ссылке нет
+    boolean copyTo(String reference, OutputStream out) throws IOException;
+
+    boolean exists(String reference);
+}
@@ -0,0 +1,108 @@
+package com.bankapp.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// Файлы на локальном диске: root/ab/cd/abcd...(SHA-256 содержимого).
+// Файл пишется во временный каталог того же тома и переносится на место атомарным rename,
+// поэтому читатели никогда не видят недописанный файл.
+public class FileSystemDocumentStore implements DocumentStore {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pattern REFERENCE = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public FileSystemDocumentStore(Path root) throws IOException {
+        this.root = root;
+        this.tempDirectory = root.resolve("tmp");
+        Files.createDirectories(tempDirectory);
+    }
+
+    @Override
+    public String put(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest);
+                content.transferTo(out);
+                out.flush();
+                // Данные должны быть на диске до того, как на файл сошлется запись в БД
+                channel.force(true);
+            }
+
+            String reference = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(reference);
+            if (Files.exists(target)) {
+                // Такой файл уже сохранен
+                return reference;
+            }
+            Files.createDirectories(target.getParent());
+            // Одновременная запись того же содержимого заменит файл таким же
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            // rename записан в каталоге: без его fsync после сбоя питания файла по ссылке может не оказаться
+            forceDirectory(target.getParent());
+            return reference;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // FileChannel.transferTo передает файл без копирования через кучу, если это позволяет канал назначения
+    @Override
+    public boolean copyTo(String reference, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(reference), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean exists(String reference) {
+        return Files.exists(resolve(reference));
+    }
+
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private Path resolve(String reference) {
+        if (reference == null || !REFERENCE.matcher(reference).matches()) {
+            throw new IllegalArgumentException("Некорректная ссылка на документ: " + reference);
+        }
+        return root.resolve(reference.substring(0, 2)).resolve(reference.substring(2, 4)).resolve(reference);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Алгоритм " + DIGEST_ALGORITHM + " недоступен", e);
+        }
+    }
+}
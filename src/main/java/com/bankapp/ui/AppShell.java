@@ -1,20 +1,44 @@
 package com.bankapp.ui;
 
+import com.bankapp.utils.ConnectionPool;
 import com.bankapp.utils.TransactionManager;
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.server.PWA;
 import com.vaadin.flow.theme.Theme;
 import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.BalanceSnapshotRepository;
 import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.DailyBalanceRepository;
+import com.bankapp.repository.DepositImportRepository;
+import com.bankapp.repository.PartitionRepository;
+import com.bankapp.repository.ReconciliationRepository;
 import com.bankapp.repository.TransactionRepositoryImpl;
 import com.bankapp.service.AccountService;
+import com.bankapp.service.BalanceHistoryService;
+import com.bankapp.service.BalanceSnapshotJob;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.ClientSearchIndex;
 import com.bankapp.service.ClientService;
+import com.bankapp.service.DailyBalanceJob;
+import com.bankapp.service.DepositImportService;
+import com.bankapp.service.EventSourcedLedger;
+import com.bankapp.service.ExportService;
+import com.bankapp.service.GroupCommitLedgerWriter;
+import com.bankapp.service.LedgerReconciliationJob;
+import com.bankapp.service.PartitionMaintenanceJob;
+import com.bankapp.service.PassportImageProcessor;
+import com.bankapp.service.PassportScanMigrationJob;
 import com.bankapp.service.TransactionService;
+import com.bankapp.storage.DocumentStore;
+import com.bankapp.storage.FileSystemDocumentStore;
 import com.bankapp.utils.ServiceLocator;
 import com.bankapp.utils.DatabaseUtil;
 
-import java.sql.Connection;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Clock;
 
 /**
  * Use the @PWA annotation make the application installable on phones, tablets
@@ -22,13 +46,17 @@ import java.sql.SQLException;
  */
 @PWA(name = "Project Base for Vaadin", shortName = "Project Base")
 @Theme("my-theme")
+// Push нужен, чтобы показать миниатюру скана, обработанного в фоне
+@Push
 public class AppShell implements AppShellConfigurator {
     static {
         try {
             DatabaseUtil.initializeDatabase();
-            Connection connection = DatabaseUtil.getConnection();
+            ConnectionPool connectionPool = DatabaseUtil.getConnectionPool();
+            ServiceLocator.register(ConnectionPool.class, connectionPool);
+            Runtime.getRuntime().addShutdownHook(new Thread(connectionPool::close, "connection-pool-shutdown"));
 
-            TransactionManager transactionManager = new TransactionManager(connection);
+            TransactionManager transactionManager = new TransactionManager(connectionPool);
             ServiceLocator.register(TransactionManager.class, transactionManager);
 
             ClientRepositoryImpl clientRepositoryImpl = new ClientRepositoryImpl(transactionManager);
@@ -39,16 +67,96 @@ public class AppShell implements AppShellConfigurator {
             ServiceLocator.register(AccountRepositoryImpl.class, accountRepositoryImpl);
             ServiceLocator.register(TransactionRepositoryImpl.class, transactionRepositoryImpl);
 
-            ClientService clientService = new ClientService(clientRepositoryImpl);
-            TransactionService transactionService = new TransactionService(transactionRepositoryImpl);
+            CardinalityService cardinalityService = new CardinalityService(clientRepositoryImpl,
+                    accountRepositoryImpl, transactionRepositoryImpl, transactionManager);
+            ServiceLocator.register(CardinalityService.class, cardinalityService);
+
+            // Сканы документов хранятся на диске в каталоге bankapp.documents.dir
+            DocumentStore documentStore = new FileSystemDocumentStore(Path.of(System.getProperty("bankapp.documents.dir",
+                    Path.of(System.getProperty("user.home"), "bankapp-documents").toString())));
+            ServiceLocator.register(DocumentStore.class, documentStore);
+            PassportScanMigrationJob passportScanMigrationJob = new PassportScanMigrationJob(clientRepositoryImpl,
+                    documentStore, 100);
+            passportScanMigrationJob.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(passportScanMigrationJob::stop, "passport-scan-migration-shutdown"));
+            // Сканы приводятся к 1600 пикселей по большей стороне, миниатюры - к 200
+            PassportImageProcessor imageProcessor = new PassportImageProcessor(documentStore,
+                    Integer.getInteger("bankapp.images.threads", 2), 16, 1600, 200);
+            ServiceLocator.register(PassportImageProcessor.class, imageProcessor);
+            Runtime.getRuntime().addShutdownHook(new Thread(imageProcessor::stop, "passport-image-shutdown"));
+
+            ClientService clientService = new ClientService(clientRepositoryImpl, cardinalityService, documentStore,
+                    new ClientSearchIndex());
+            clientService.rebuildSearchIndex();
+            // Режим событий включается свойством bankapp.eventSourced.enabled: проводки только добавляются
+            // в журнал, балансы выводятся из снимков и журнала
+            boolean eventSourced = Boolean.getBoolean("bankapp.eventSourced.enabled");
+            DailyBalanceRepository dailyBalanceRepository = new DailyBalanceRepository(transactionManager, eventSourced);
+            TransactionService transactionService = new TransactionService(transactionRepositoryImpl,
+                    cardinalityService, dailyBalanceRepository);
+
+            // Снимок счета - после 1000 проводок; полный пересчет балансов по журналу - свойством
+            // bankapp.eventSourced.rebuild при запуске, до первой проводки
+            BalanceSnapshotRepository balanceSnapshotRepository = new BalanceSnapshotRepository(transactionManager);
+            BalanceSnapshotJob balanceSnapshotJob = new BalanceSnapshotJob(balanceSnapshotRepository, transactionManager,
+                    Integer.getInteger("bankapp.eventSourced.eventsPerSnapshot", 1_000), 1_000);
+            ServiceLocator.register(BalanceSnapshotJob.class, balanceSnapshotJob);
+            if (Boolean.getBoolean("bankapp.eventSourced.rebuild")) {
+                balanceSnapshotJob.rebuild(4);
+            }
+            EventSourcedLedger eventSourcedLedger = null;
+            // Групповая фиксация проводок включается свойством bankapp.groupCommit.enabled
+            GroupCommitLedgerWriter ledgerWriter = null;
+            if (eventSourced) {
+                eventSourcedLedger = new EventSourcedLedger(accountRepositoryImpl, balanceSnapshotRepository,
+                        transactionService, transactionManager);
+                ServiceLocator.register(EventSourcedLedger.class, eventSourcedLedger);
+                balanceSnapshotJob.start(60);
+                Runtime.getRuntime().addShutdownHook(new Thread(balanceSnapshotJob::stop, "balance-snapshots-shutdown"));
+            } else if (Boolean.getBoolean("bankapp.groupCommit.enabled")) {
+                ledgerWriter = new GroupCommitLedgerWriter(accountRepositoryImpl, transactionService,
+                        transactionManager, Integer.getInteger("bankapp.groupCommit.maxBatchSize", 64),
+                        Long.getLong("bankapp.groupCommit.lingerMicros", 200));
+                ledgerWriter.start();
+                ServiceLocator.register(GroupCommitLedgerWriter.class, ledgerWriter);
+                Runtime.getRuntime().addShutdownHook(new Thread(ledgerWriter::stop, "ledger-group-commit-shutdown"));
+            }
             AccountService accountService = new AccountService(accountRepositoryImpl, transactionManager,
-                    transactionService);
+                    transactionService, cardinalityService, ledgerWriter, eventSourcedLedger);
 
             ServiceLocator.register(ClientService.class, clientService);
             ServiceLocator.register(AccountService.class, accountService);
             ServiceLocator.register(TransactionService.class, transactionService);
+            ServiceLocator.register(ExportService.class, new ExportService(accountRepositoryImpl,
+                    transactionRepositoryImpl, clientRepositoryImpl, dailyBalanceRepository));
+            ServiceLocator.register(BalanceHistoryService.class, new BalanceHistoryService(dailyBalanceRepository));
+            ServiceLocator.register(DepositImportService.class, new DepositImportService(connectionPool,
+                    new DepositImportRepository(eventSourced), cardinalityService));
+
+            // Секции журнала на 3 месяца вперед; срок хранения в месяцах задается свойством, по умолчанию секции не отсоединяются
+            PartitionRepository partitionRepository = new PartitionRepository(transactionManager);
+            PartitionMaintenanceJob partitionMaintenanceJob = new PartitionMaintenanceJob(
+                    partitionRepository, transactionManager, Clock.systemDefaultZone(),
+                    3, Integer.getInteger("bankapp.partitions.detachAfterMonths", 0));
+            ServiceLocator.register(PartitionMaintenanceJob.class, partitionMaintenanceJob);
+            partitionMaintenanceJob.start(24);
+            Runtime.getRuntime().addShutdownHook(new Thread(partitionMaintenanceJob::stop, "partition-maintenance-shutdown"));
+
+            // Ночной пересчет дневных оборотов за два последних закрытых дня
+            DailyBalanceJob dailyBalanceJob = new DailyBalanceJob(dailyBalanceRepository, Clock.systemDefaultZone(), 2);
+            ServiceLocator.register(DailyBalanceJob.class, dailyBalanceJob);
+            dailyBalanceJob.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(dailyBalanceJob::stop, "daily-balances-shutdown"));
+
+            // Ночная сверка балансов с журналом диапазонами по 1000 счетов в 4 потока
+            LedgerReconciliationJob reconciliationJob = new LedgerReconciliationJob(
+                    new ReconciliationRepository(transactionManager, eventSourced), partitionRepository, transactionManager,
+                    Clock.systemDefaultZone(), 1_000, 4);
+            ServiceLocator.register(LedgerReconciliationJob.class, reconciliationJob);
+            reconciliationJob.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(reconciliationJob::stop, "ledger-reconciliation-shutdown"));
 
-        } catch (SQLException e) {
+        } catch (SQLException | IOException e) {
             System.err.println("Ошибка при инициализации: " + e.getMessage());
         }
     }
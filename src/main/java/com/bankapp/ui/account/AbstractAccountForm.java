@@ -1,9 +1,8 @@
 package com.bankapp.ui.account;
 
 import com.bankapp.enums.Currency;
-import com.bankapp.exception.DataAccessException;
 import com.bankapp.model.Account;
-import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
 import com.bankapp.service.AccountService;
 import com.bankapp.service.ClientService;
 import com.bankapp.ui.components.StyledParagraph;
@@ -12,7 +11,6 @@ import com.bankapp.utils.ServiceLocator;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.formlayout.FormLayout;
-import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
@@ -31,7 +29,7 @@ public abstract class AbstractAccountForm extends VerticalLayout {
     protected final TextField accountNumber = new TextField(MessageProvider.getMessage("account.number"));
     protected final ComboBox<Currency> currency = new ComboBox<>(MessageProvider.getMessage("account.currency"));
     protected final TextField bik = new TextField(MessageProvider.getMessage("account.bik"));
-    protected final ComboBox<Client> client = new ComboBox<>(MessageProvider.getMessage("account.client"));
+    protected final ComboBox<ClientSummary> client = new ComboBox<>(MessageProvider.getMessage("account.client"));
 
     protected static final String BUTTON_WIDTH = "200px";
 
@@ -74,12 +72,10 @@ public abstract class AbstractAccountForm extends VerticalLayout {
     }
 
     protected void initFields() {
-        try {
-            client.setItems(clientService.findAllClients());
-            client.setItemLabelGenerator(Client::getFullName);
-        } catch (DataAccessException e) {
-            Notification.show(e.getMessage());
-        }
+        // Клиенты ищутся по мере ввода ФИО, телефона или ИНН
+        client.setItems(query -> clientService.searchClients(query.getFilter().orElse(null), query.getOffset(),
+                query.getLimit()).stream());
+        client.setItemLabelGenerator(ClientSummary::getFullName);
         currency.setItems(Currency.values());
         currency.setItemLabelGenerator(Currency::getDescription);
     }
@@ -1,38 +1,121 @@
 package com.bankapp.ui.account;
 
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
 import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.AccountFilter;
+import com.bankapp.model.ClientSummary;
+import com.bankapp.service.ClientService;
+import com.bankapp.service.ExportService;
+import com.bankapp.ui.components.DownloadLink;
+import com.bankapp.ui.components.KeysetPager;
 import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.provider.DataProvider;
-import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Route;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.bankapp.model.Account;
 import com.bankapp.service.AccountService;
+import com.bankapp.service.RowCount;
 
-import java.util.List;
 import java.util.stream.Stream;
 
 @Route("account-list")
 public class AccountListView extends VerticalLayout {
 
+    // Запрос уходит через столько миллисекунд после последнего нажатия клавиши в поле фильтра
+    private static final int FILTER_DEBOUNCE_MS = 500;
+
     private final AccountService accountService;
+    private final ClientService clientService;
+    private final ExportService exportService;
+    private final DownloadLink exportLink = new DownloadLink(MessageProvider.getMessage("button.exportCsv"));
     private final Grid<Account> accountGrid = new Grid<>(Account.class);
 
+    private final ComboBox<AccountStatus> statusFilter = new ComboBox<>(MessageProvider.getMessage("field.status"));
+    private final ComboBox<Currency> currencyFilter = new ComboBox<>(MessageProvider.getMessage("account.currency"));
+    private final ComboBox<ClientSummary> clientFilter = new ComboBox<>(MessageProvider.getMessage("account.client"));
+    private final TextField bikFilter = new TextField(MessageProvider.getMessage("account.bik"));
+    private final BigDecimalField minBalanceFilter = new BigDecimalField(MessageProvider.getMessage("filter.minBalance"));
+    private final BigDecimalField maxBalanceFilter = new BigDecimalField(MessageProvider.getMessage("filter.maxBalance"));
+    private final TextField numberFilter = new TextField(MessageProvider.getMessage("filter.accountNumber"));
+
+    private AccountFilter filter = new AccountFilter();
+    private KeysetPager<Account> pager;
+
     public AccountListView() {
         this.accountService = ServiceLocator.get(AccountService.class);
+        this.clientService = ServiceLocator.get(ClientService.class);
+        this.exportService = ServiceLocator.get(ExportService.class);
         setSizeFull();
+        initFilters();
         initAccountGrid();
 
         Button backButton = new Button(MessageProvider.getMessage("button.back"), event -> getUI().ifPresent(ui -> ui.navigate("")));
-        add(backButton, accountGrid);
+        HorizontalLayout filters = new HorizontalLayout(numberFilter, statusFilter, currencyFilter, clientFilter,
+                bikFilter, minBalanceFilter, maxBalanceFilter);
+        filters.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
+        filters.setWrap(true);
+        add(new HorizontalLayout(backButton, exportLink), filters, accountGrid);
+    }
+
+    private void initFilters() {
+        statusFilter.setItems(AccountStatus.values());
+        statusFilter.setItemLabelGenerator(AccountStatus::getDescription);
+        currencyFilter.setItems(Currency.values());
+        currencyFilter.setItemLabelGenerator(Currency::getDescription);
+        // Клиенты ищутся по мере ввода ФИО, телефона или ИНН
+        clientFilter.setItems(query -> clientService.searchClients(query.getFilter().orElse(null),
+                query.getOffset(), query.getLimit()).stream());
+        clientFilter.setItemLabelGenerator(ClientSummary::getFullName);
+
+        statusFilter.setClearButtonVisible(true);
+        currencyFilter.setClearButtonVisible(true);
+        clientFilter.setClearButtonVisible(true);
+        debounce(bikFilter);
+        debounce(minBalanceFilter);
+        debounce(maxBalanceFilter);
+        debounce(numberFilter);
+
+        statusFilter.addValueChangeListener(event -> applyFilter());
+        currencyFilter.addValueChangeListener(event -> applyFilter());
+        clientFilter.addValueChangeListener(event -> applyFilter());
+        bikFilter.addValueChangeListener(event -> applyFilter());
+        minBalanceFilter.addValueChangeListener(event -> applyFilter());
+        maxBalanceFilter.addValueChangeListener(event -> applyFilter());
+        numberFilter.addValueChangeListener(event -> applyFilter());
+    }
+
+    private static void debounce(HasValueChangeMode field) {
+        field.setValueChangeMode(ValueChangeMode.LAZY);
+        field.setValueChangeTimeout(FILTER_DEBOUNCE_MS);
+    }
+
+    private void applyFilter() {
+        AccountFilter changed = new AccountFilter();
+        changed.setStatus(statusFilter.getValue());
+        changed.setCurrency(currencyFilter.getValue());
+        changed.setClientId(clientFilter.getValue() == null ? null : clientFilter.getValue().getId());
+        changed.setBik(bikFilter.getValue());
+        changed.setMinBalance(minBalanceFilter.getValue());
+        changed.setMaxBalance(maxBalanceFilter.getValue());
+        changed.setAccountNumberPrefix(numberFilter.getValue());
+        filter = changed;
+        configureDataProvider();
     }
 
     private void initAccountGrid() {
@@ -52,32 +135,42 @@ public class AccountListView extends VerticalLayout {
         accountGrid.addComponentColumn(account ->
                 new Button(MessageProvider.getMessage("button.edit"), new Icon(VaadinIcon.EDIT), event ->
                         getUI().ifPresent(ui -> ui.navigate("edit-account/" + account.getId()))));
+        accountGrid.addComponentColumn(account ->
+                new Button(MessageProvider.getMessage("button.history"), new Icon(VaadinIcon.TIME_BACKWARD), event ->
+                        getUI().ifPresent(ui -> ui.navigate("account-history/" + account.getId()))));
     }
 
+    // Курсоры страниц относятся к конкретному фильтру, поэтому на каждый фильтр создается свой pager
     private void configureDataProvider() {
-        DataProvider<Account, Void> dataProvider = DataProvider.fromCallbacks(
-                query -> {
-                    try {
-                        int offset = query.getOffset();
-                        int limit = query.getLimit();
-
-                        List<QuerySortOrder> sortOrders = query.getSortOrders();
-                        return accountService.findAccounts(offset, limit, sortOrders).stream();
-                    } catch (DataAccessException e) {
-                        Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
-                        return Stream.empty();
-                    }
-                },
-                query -> {
-                    try {
-                        return accountService.countAccounts();
-                    } catch (DataAccessException e) {
-                        Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
-                        return 0;
-                    }
-                }
-        );
-
-        accountGrid.setDataProvider(dataProvider);
+        AccountFilter current = filter;
+        exportLink.setResource("accounts.csv", (out, session) -> exportService.writeAccounts(current, out));
+        pager = new KeysetPager<>((after, offset, limit, sortOrders) ->
+                accountService.findAccountsPage(current, after, offset, limit, sortOrders));
+        KeysetPager<Account> currentPager = pager;
+        CallbackDataProvider.FetchCallback<Account, Void> fetchCallback = query -> {
+            try {
+                return currentPager.fetch(query);
+            } catch (DataAccessException e) {
+                Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
+                return Stream.empty();
+            }
+        };
+
+        RowCount rowCount = countAccounts();
+        if (rowCount.isExact()) {
+            accountGrid.setItems(fetchCallback, query -> countAccounts().toInt());
+        } else {
+            // COUNT(*) по большой таблице дороже самой страницы: размер уточняется при прокрутке
+            accountGrid.setItems(fetchCallback).setItemCountEstimate(rowCount.toInt());
+        }
+    }
+
+    private RowCount countAccounts() {
+        try {
+            return accountService.countAccounts(filter);
+        } catch (DataAccessException e) {
+            Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
+            return new RowCount(0, true);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.bankapp.ui.account;
 
 import com.bankapp.exception.DataAccessException;
+import com.bankapp.ui.components.AccountPicker;
 import com.bankapp.ui.components.StyledParagraph;
 import com.bankapp.utils.MessageProvider;
 import com.vaadin.flow.component.textfield.BigDecimalField;
@@ -8,7 +9,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.bankapp.utils.ServiceLocator;
 import com.bankapp.model.Account;
-import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
+import com.bankapp.model.Money;
 import com.bankapp.service.AccountService;
 import com.bankapp.service.ClientService;
 import com.vaadin.flow.component.button.Button;
@@ -28,7 +30,7 @@ public class CloseAccountForm extends VerticalLayout {
     private final ClientService clientService;
     private static final Logger logger = LoggerFactory.getLogger(CloseAccountForm.class);
 
-    private final ComboBox<Client> clientComboBox = new ComboBox<>(MessageProvider.getMessage("account.client"));
+    private final ComboBox<ClientSummary> clientComboBox = new ComboBox<>(MessageProvider.getMessage("account.client"));
     private final ComboBox<Account> accountComboBox = new ComboBox<>(MessageProvider.getMessage("account.number"));
 
     public CloseAccountForm() {
@@ -62,13 +64,11 @@ public class CloseAccountForm extends VerticalLayout {
     }
 
     private void configureClientComboBox() {
-        try {
-            clientComboBox.setItems(clientService.findAllClients());
-        } catch (DataAccessException e) {
-            Notification.show(MessageProvider.getMessage("error.loadClients"));
-        }
+        // Клиенты ищутся по мере ввода ФИО, телефона или ИНН
+        clientComboBox.setItems(query -> clientService.searchClients(query.getFilter().orElse(null),
+                query.getOffset(), query.getLimit()).stream());
 
-        clientComboBox.setItemLabelGenerator(Client::getFullName);
+        clientComboBox.setItemLabelGenerator(ClientSummary::getFullName);
         clientComboBox.setWidth("300px");
     }
 
@@ -76,7 +76,7 @@ public class CloseAccountForm extends VerticalLayout {
         accountComboBox.setWidth("300px");
 
         clientComboBox.addValueChangeListener(event -> {
-            Client selectedClient = event.getValue();
+            ClientSummary selectedClient = event.getValue();
             if (selectedClient != null) {
                 try {
                     accountComboBox.setItems(accountService.findAccountsByClientId(selectedClient.getId()));
@@ -92,14 +92,17 @@ public class CloseAccountForm extends VerticalLayout {
         Account selectedAccount = accountComboBox.getValue();
         if (selectedAccount != null) {
             try {
-                BigDecimal balance = selectedAccount.getBalance();
-                if (balance.compareTo(BigDecimal.ZERO) > 0) {
+                // Остаток в списке мог устареть: решение принимается по счету, прочитанному заново
+                selectedAccount = accountService.findAccountById(selectedAccount.getId());
+                if (selectedAccount.getBalance().isPositive()) {
                     showTransferDialog(selectedAccount);
                 } else {
                     accountService.closeAccount(selectedAccount.getId());
                     Notification.show(MessageProvider.getMessage("notification.accountClosed"));
                     getUI().ifPresent(ui -> ui.navigate(""));
                 }
+            } catch (IllegalStateException e) {
+                Notification.show(MessageProvider.getMessage("notification.accountBalanceChanged"));
             } catch (DataAccessException e) {
                 Notification.show(MessageProvider.getMessage("notification.transferError"));
             }
@@ -113,7 +116,7 @@ public class CloseAccountForm extends VerticalLayout {
         dialog.setHeaderTitle(MessageProvider.getMessage("dialog.transferTitle"));
 
         BigDecimalField amountField = new BigDecimalField(MessageProvider.getMessage("dialog.transferAmount"));
-        amountField.setValue(account.getBalance());
+        amountField.setValue(account.getBalance().toBigDecimal());
         amountField.setReadOnly(true);
 
         ComboBox<Account> targetAccountComboBox = new ComboBox<>(MessageProvider.getMessage("dialog.transferTargetAccount"));
@@ -123,15 +126,13 @@ public class CloseAccountForm extends VerticalLayout {
                     account.getId(), account.getClientId());
 
             if (clientAccounts.isEmpty()) {
-                List<Account> allAccounts = accountService.findAccountsByCurrencyAndNotSenderId(account.getCurrency().toString(),
-                        account.getId());
-
-                if (allAccounts.isEmpty()) {
+                if (!AccountPicker.hasAccounts(accountService, account.getCurrency(), account.getId())) {
                     Notification.show(MessageProvider.getMessage("notification.noAccountsForTransfer"));
                     return;
                 }
 
-                targetAccountComboBox.setItems(allAccounts);
+                // Счета других клиентов подгружаются страницами по мере прокрутки и ввода номера
+                AccountPicker.bind(targetAccountComboBox, accountService, account.getCurrency(), account.getId());
                 Notification.show(MessageProvider.getMessage("notification.noAccountsForTransfer"));
             } else {
                 targetAccountComboBox.setItems(clientAccounts);
@@ -149,7 +150,12 @@ public class CloseAccountForm extends VerticalLayout {
             Account targetAccount = targetAccountComboBox.getValue();
             if (targetAccount != null) {
                 try {
-                    accountService.transferFunds(account.getId(), targetAccount.getId(), account.getBalance(), account.getCurrency());
+                    // Переводится остаток на момент перевода, а не на момент открытия окна
+                    Money balance = accountService.findAccountById(account.getId()).getBalance();
+                    if (balance.isPositive()) {
+                        accountService.transferFunds(account.getId(), targetAccount.getId(), balance.toBigDecimal(),
+                                account.getCurrency());
+                    }
                     accountService.closeAccount(account.getId());
 
                     logger.info("Cчет закрыт");
@@ -157,6 +163,8 @@ public class CloseAccountForm extends VerticalLayout {
 
                     dialog.close();
                     getUI().ifPresent(ui -> ui.navigate(""));
+                } catch (IllegalStateException e) {
+                    Notification.show(MessageProvider.getMessage("notification.accountBalanceChanged"));
                 } catch (DataAccessException e) {
                     Notification.show(MessageProvider.getMessage("notification.transferError"));
                 }
@@ -5,7 +5,12 @@ import com.bankapp.exception.AccountExistException;
 import com.bankapp.exception.DataAccessException;
 import com.bankapp.model.Account;
 import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
+import com.bankapp.service.BalanceHistoryService;
+import com.bankapp.ui.components.BalanceChart;
+import com.bankapp.ui.components.StyledParagraph;
 import com.bankapp.utils.MessageProvider;
+import com.bankapp.utils.ServiceLocator;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.notification.Notification;
@@ -15,11 +20,15 @@ import com.vaadin.flow.router.BeforeEvent;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.Route;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Route("edit-account")
 public class EditAccountForm extends AbstractAccountForm implements HasUrlParameter<Long> {
 
+    // График за последний год, не больше одной точки на 4 пикселя ширины
+    private static final int CHART_DAYS = 365;
+    private static final int CHART_POINTS = 150;
+
     private TextField idField;
     private TextField balanceField;
     private TextField statusField;
@@ -31,6 +40,7 @@ public class EditAccountForm extends AbstractAccountForm implements HasUrlParame
     private String buttonText = MessageProvider.getMessage("button.toggleEdit.disable");
 
     private Button editButton;
+    private BalanceChart balanceChart;
 
     public EditAccountForm() {
         super();
@@ -66,6 +76,9 @@ public class EditAccountForm extends AbstractAccountForm implements HasUrlParame
             buttonsLayout.addComponentAsFirst(editButton);
         }
 
+        balanceChart = new BalanceChart();
+        add(new StyledParagraph(MessageProvider.getMessage("form.title.balanceChart")), balanceChart);
+
         toggleEditingMode();
     }
 
@@ -117,12 +130,16 @@ public class EditAccountForm extends AbstractAccountForm implements HasUrlParame
                 createdAtField.setValue(account.getCreatedAt().toString());
                 updatedAtField.setValue(account.getUpdatedAt().toString());
 
-                if (account.getBalance().compareTo(BigDecimal.ZERO) > 0) {
+                if (account.getBalance().isPositive()) {
                     currency.setReadOnly(true);
                 }
 
                 Client currentClient = clientService.findClientById(account.getClientId());
-                client.setValue(currentClient);
+                client.setValue(ClientSummary.of(currentClient));
+
+                LocalDate today = LocalDate.now();
+                balanceChart.setBalances(ServiceLocator.get(BalanceHistoryService.class)
+                        .findBalanceChart(account.getId(), today.minusDays(CHART_DAYS - 1), today, CHART_POINTS));
             } catch (DataAccessException e) {
                 Notification.show(MessageProvider.getMessage("error.loadAccount"));
             }
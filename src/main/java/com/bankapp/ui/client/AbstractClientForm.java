@@ -2,9 +2,13 @@ package com.bankapp.ui.client;
 
 import com.bankapp.model.Client;
 import com.bankapp.service.ClientService;
+import com.bankapp.service.PassportImageProcessor;
+import com.bankapp.service.ProcessedPassportScan;
 import com.bankapp.ui.components.StyledParagraph;
+import com.bankapp.ui.components.TempFileReceiver;
 import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.html.Image;
@@ -13,17 +17,18 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.server.StreamResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 public abstract class AbstractClientForm extends VerticalLayout {
 
     protected final ClientService clientService;
+    protected final PassportImageProcessor imageProcessor;
     protected final Binder<Client> binder = new Binder<>(Client.class);
     protected static final Logger logger = LoggerFactory.getLogger(AbstractClientForm.class);
 
@@ -32,9 +37,13 @@ public abstract class AbstractClientForm extends VerticalLayout {
     protected final TextField inn = new TextField(MessageProvider.getMessage("field.inn"));
     protected final TextField address = new TextField(MessageProvider.getMessage("field.address"));
 
-    protected final MemoryBuffer buffer = new MemoryBuffer();
-    protected final Upload upload = new Upload(buffer);
-    protected byte[] uploadedFile;
+    // Ограничение размера скана в мегабайтах задается свойством bankapp.upload.maxMegabytes
+    protected static final long MAX_UPLOAD_BYTES = Long.getLong("bankapp.upload.maxMegabytes", 10) * 1024 * 1024;
+
+    protected final TempFileReceiver receiver = new TempFileReceiver(MAX_UPLOAD_BYTES);
+    protected final Upload upload = new Upload(receiver);
+    // Обработка загруженного скана в фоне; null - новый скан не загружался
+    protected CompletableFuture<ProcessedPassportScan> uploadedScan;
     protected Image uploadedImage;
 
     protected static final String IMAGE_MAX_WIDTH = "300px";
@@ -43,6 +52,7 @@ public abstract class AbstractClientForm extends VerticalLayout {
 
     public AbstractClientForm() {
         this.clientService = ServiceLocator.get(ClientService.class);
+        this.imageProcessor = ServiceLocator.get(PassportImageProcessor.class);
         setAlignItems(Alignment.CENTER);
         initForm();
     }
@@ -84,20 +94,21 @@ public abstract class AbstractClientForm extends VerticalLayout {
 
     protected void initUpload() {
         upload.setAcceptedFileTypes(MessageProvider.getMessage("upload.image.types").split(", "));
-        upload.addSucceededListener(event -> {
-            try {
-                uploadedFile = buffer.getInputStream().readAllBytes();
-                showUploadedImage(uploadedFile);
-            } catch (IOException e) {
-                logger.error(MessageProvider.getMessage("upload.image.error"), e);
-                Notification.show(MessageProvider.getMessage("upload.image.error") + ": " + e.getMessage());
-            }
+        upload.setMaxFiles(1);
+        upload.setMaxFileSize((int) MAX_UPLOAD_BYTES);
+        upload.addSucceededListener(event -> processUpload());
+        upload.addFailedListener(event -> {
+            receiver.discard();
+            logger.warn(MessageProvider.getMessage("upload.image.error"), event.getReason());
+            Notification.show(MessageProvider.getMessage("upload.image.error") + ": " + event.getReason().getMessage());
         });
+        upload.addFileRejectedListener(event -> Notification.show(MessageProvider.getMessage("upload.image.tooLarge")));
 
         upload.addFileRemovedListener(event -> {
-            uploadedFile = null;
+            uploadedScan = null;
             uploadedImage.setVisible(false);
         });
+        addDetachListener(event -> receiver.discard());
 
         uploadedImage = new Image();
         uploadedImage.setMaxWidth(IMAGE_MAX_WIDTH);
@@ -106,9 +117,65 @@ public abstract class AbstractClientForm extends VerticalLayout {
         uploadedImage.setVisible(false);
     }
 
-    protected void showUploadedImage(byte[] imageData) {
+    // Файл передается фоновой обработке; миниатюра показывается, когда она готова (через @Push)
+    private void processUpload() {
+        UI ui = UI.getCurrent();
+        CompletableFuture<ProcessedPassportScan> scan;
+        try {
+            scan = imageProcessor.process(receiver.takeFile());
+        } catch (RejectedExecutionException e) {
+            Notification.show(MessageProvider.getMessage("upload.image.busy"));
+            return;
+        }
+        uploadedScan = scan;
+        scan.whenComplete((processed, error) -> ui.access(() -> {
+            if (uploadedScan != scan) {
+                // Файл уже заменен или удален из формы
+                return;
+            }
+            if (error != null) {
+                uploadedScan = null;
+                logger.error(MessageProvider.getMessage("upload.image.error"), error);
+                Notification.show(MessageProvider.getMessage("upload.image.error"));
+            } else {
+                showUploadedImage(processed);
+            }
+        }));
+    }
+
+    // Переносит в клиента ссылки на обработанный скан; false - обработка еще не завершена или завершилась ошибкой
+    protected boolean applyUploadedScan(Client client) {
+        if (uploadedScan == null) {
+            return true;
+        }
+        if (!uploadedScan.isDone()) {
+            Notification.show(MessageProvider.getMessage("upload.image.processing"));
+            return false;
+        }
+        if (uploadedScan.isCompletedExceptionally()) {
+            Notification.show(MessageProvider.getMessage("upload.image.error"));
+            return false;
+        }
+        ProcessedPassportScan scan = uploadedScan.join();
+        client.setPassportScanRef(scan.getScanRef());
+        client.setPassportThumbnailRef(scan.getThumbnailRef());
+        return true;
+    }
+
+    protected void showUploadedImage(ProcessedPassportScan scan) {
+        if (uploadedImage != null) {
+            StreamResource resource = new StreamResource("passport_thumbnail_" + scan.getThumbnailRef(),
+                    (out, session) -> clientService.writeDocument(scan.getThumbnailRef(), out));
+            uploadedImage.setSrc(resource);
+            uploadedImage.setVisible(true);
+        }
+    }
+
+    // Миниатюра сохраненного скана читается потоком только когда браузер запрашивает изображение
+    protected void showStoredImage(Long clientId) {
         if (uploadedImage != null) {
-            StreamResource resource = new StreamResource("uploaded_image", () -> new java.io.ByteArrayInputStream(imageData));
+            StreamResource resource = new StreamResource("passport_thumbnail_" + clientId,
+                    (out, session) -> clientService.writePassportThumbnail(clientId, out));
             uploadedImage.setSrc(resource);
             uploadedImage.setVisible(true);
         }
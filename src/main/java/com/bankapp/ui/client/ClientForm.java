@@ -24,8 +24,8 @@ public class ClientForm extends AbstractClientForm {
         Client client = new Client();
         if (binder.writeBeanIfValid(client)) {
             logger.info("Форма валидна. Начинаем сохранение клиента...");
-            if (uploadedFile != null) {
-                client.setPassportScanCopy(uploadedFile);
+            if (!applyUploadedScan(client)) {
+                return;
             }
             try {
                 clientService.createClient(client);
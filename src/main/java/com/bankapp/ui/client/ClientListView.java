@@ -1,6 +1,9 @@
 package com.bankapp.ui.client;
 
 import com.bankapp.exception.DataAccessException;
+import com.bankapp.service.ExportService;
+import com.bankapp.ui.components.DownloadLink;
+import com.bankapp.ui.components.KeysetPager;
 import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
 import com.vaadin.flow.component.button.Button;
@@ -8,34 +11,61 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.provider.DataProvider;
-import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Route;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
 import com.bankapp.service.ClientService;
+import com.bankapp.service.RowCount;
 
-import java.util.List;
 import java.util.stream.Stream;
 
 @Route("client-list")
 public class ClientListView extends VerticalLayout {
 
     private final ClientService clientService;
-    private final Grid<Client> clientGrid = new Grid<>(Client.class);
+    private final KeysetPager<ClientSummary> pager;
+    private final Grid<ClientSummary> clientGrid = new Grid<>(ClientSummary.class);
+    private final TextField filter = new TextField();
 
     public ClientListView() {
         this.clientService = ServiceLocator.get(ClientService.class);
+        this.pager = new KeysetPager<>(clientService::findClientsPage);
 
         setSizeFull();
 
         initClientGrid();
+        initFilter();
 
         Button backButton = new Button(MessageProvider.getMessage("button.back"), event -> getUI().ifPresent(ui -> ui.navigate("")));
+        // Выгружаются все клиенты, фильтр поиска на выгрузку не влияет
+        ExportService exportService = ServiceLocator.get(ExportService.class);
+        DownloadLink exportLink = new DownloadLink(MessageProvider.getMessage("button.exportCsv"));
+        exportLink.setResource("clients.csv", (out, session) -> exportService.writeClients(out));
 
-        add(backButton, clientGrid);
+        add(new HorizontalLayout(backButton, exportLink), filter, clientGrid);
+    }
+
+    // Поиск идет по индексу в памяти; без фильтра список читается из БД страницами
+    private void initFilter() {
+        filter.setPlaceholder(MessageProvider.getMessage("client.search.placeholder"));
+        filter.setClearButtonVisible(true);
+        filter.setWidth("400px");
+        filter.setValueChangeMode(ValueChangeMode.LAZY);
+        filter.addValueChangeListener(event -> {
+            String query = event.getValue();
+            if (query == null || query.isBlank()) {
+                setDatabaseItems();
+            } else {
+                // Размер результата не считается, сетка дочитывает страницы при прокрутке
+                clientGrid.setItems(fetch -> clientService.searchClients(query, fetch.getOffset(), fetch.getLimit()).stream());
+            }
+        });
     }
 
     private void initClientGrid() {
@@ -49,31 +79,37 @@ public class ClientListView extends VerticalLayout {
                 new Button(MessageProvider.getMessage("button.edit"), new Icon(VaadinIcon.EDIT), event ->
                         getUI().ifPresent(ui -> ui.navigate("edit-client/" + client.getId()))));
 
-        DataProvider<Client, Void> dataProvider = DataProvider.fromCallbacks(
-                query -> {
-                    try {
-                        int offset = query.getOffset();
-                        int limit = query.getLimit();
-                        List<QuerySortOrder> sortOrders = query.getSortOrders();
-                        return clientService.findClients(offset, limit, sortOrders).stream();
-                    } catch (DataAccessException e) {
-                        Notification.show(MessageProvider.getMessage("error.loadClients"));
-                        return Stream.empty();
-                    }
-                },
-                query -> {
-                    try {
-                        return clientService.countClients();
-                    } catch (DataAccessException e) {
-                        Notification.show(MessageProvider.getMessage("error.loadClients"));
-                        return 0;
-                    }
-                }
-        );
-
-        clientGrid.setDataProvider(dataProvider);
+        setDatabaseItems();
 
         clientGrid.setHeightFull();
         clientGrid.setPageSize(5);
     }
+
+    private void setDatabaseItems() {
+        CallbackDataProvider.FetchCallback<ClientSummary, Void> fetchCallback = query -> {
+            try {
+                return pager.fetch(query);
+            } catch (DataAccessException e) {
+                Notification.show(MessageProvider.getMessage("error.loadClients"));
+                return Stream.empty();
+            }
+        };
+
+        RowCount rowCount = countClients();
+        if (rowCount.isExact()) {
+            clientGrid.setItems(fetchCallback, query -> countClients().toInt());
+        } else {
+            // COUNT(*) по большой таблице дороже самой страницы: размер уточняется при прокрутке
+            clientGrid.setItems(fetchCallback).setItemCountEstimate(rowCount.toInt());
+        }
+    }
+
+    private RowCount countClients() {
+        try {
+            return clientService.countClients();
+        } catch (DataAccessException e) {
+            Notification.show(MessageProvider.getMessage("error.loadClients"));
+            return new RowCount(0, true);
+        }
+    }
 }
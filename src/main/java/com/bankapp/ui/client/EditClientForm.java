@@ -64,8 +64,8 @@ public class EditClientForm extends AbstractClientForm implements HasUrlParamete
     @Override
     protected void saveClient() {
         if (binder.writeBeanIfValid(client)) {
-            if (uploadedFile != null) {
-                client.setPassportScanCopy(uploadedFile);
+            if (!applyUploadedScan(client)) {
+                return;
             }
             try {
                 clientService.updateClient(client);
@@ -106,9 +106,8 @@ public class EditClientForm extends AbstractClientForm implements HasUrlParamete
                 createdAtField.setValue(client.getCreatedAt().toString());
                 updatedAtField.setValue(client.getUpdatedAt().toString());
 
-                if (client.getPassportScanCopy() != null) {
-                    uploadedFile = client.getPassportScanCopy();
-                    showUploadedImage(uploadedFile);
+                if (client.isPassportScanPresent()) {
+                    showStoredImage(client.getId());
                 }
             } catch (DataAccessException e) {
                 Notification.show(MessageProvider.getMessage("error.loadClients"));
@@ -0,0 +1,38 @@
+package com.bankapp.ui.components;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.Account;
+import com.bankapp.service.AccountService;
+import com.bankapp.utils.MessageProvider;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.notification.Notification;
+
+import java.util.stream.Stream;
+
+// Ленивый источник данных для выбора открытого счета: ComboBox запрашивает страницы по мере прокрутки,
+// введенный текст ищется по началу номера счета на сервере
+public final class AccountPicker {
+
+    private AccountPicker() {
+    }
+
+    // currency и excludedAccountId необязательны
+    public static void bind(ComboBox<Account> comboBox, AccountService accountService, Currency currency,
+                            Long excludedAccountId) {
+        comboBox.setItems(query -> {
+            try {
+                return accountService.searchOpenAccounts(query.getFilter().orElse(null), currency, excludedAccountId,
+                        query.getOffset(), query.getLimit()).stream();
+            } catch (DataAccessException e) {
+                Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
+                return Stream.empty();
+            }
+        });
+    }
+
+    // Есть ли хотя бы один подходящий счет - без загрузки списка
+    public static boolean hasAccounts(AccountService accountService, Currency currency, Long excludedAccountId) {
+        return !accountService.searchOpenAccounts(null, currency, excludedAccountId, 0, 1).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bankapp.ui.components;
+
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.vaadin.flow.component.Svg;
+import com.vaadin.flow.component.html.Div;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+// График остатка по дням: ломаная в SVG, построенная на сервере. Точек приходит не больше, чем
+// помещается по ширине графика (их прореживает BalanceHistoryService), поэтому разметка остается небольшой
+public class BalanceChart extends Div {
+
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 200;
+    private static final int PADDING = 20;
+
+    private final Svg svg = new Svg();
+
+    public BalanceChart() {
+        setWidth(WIDTH + "px");
+        add(svg);
+    }
+
+    public void setBalances(List<DailyBalance> balances) {
+        StringBuilder markup = new StringBuilder()
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ").append(WIDTH).append(' ')
+                .append(HEIGHT).append("\" width=\"").append(WIDTH).append("\" height=\"").append(HEIGHT).append("\">");
+        if (!balances.isEmpty()) {
+            long firstDay = balances.get(0).getDay().toEpochDay();
+            long days = Math.max(balances.get(balances.size() - 1).getDay().toEpochDay() - firstDay, 1);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (DailyBalance balance : balances) {
+                min = Math.min(min, balance.getClosingBalance().getMinorUnits());
+                max = Math.max(max, balance.getClosingBalance().getMinorUnits());
+            }
+            double range = Math.max(max - min, 1);
+
+            markup.append("<polyline fill=\"none\" stroke=\"var(--lumo-primary-color, #1676f3)\" stroke-width=\"2\" points=\"");
+            for (DailyBalance balance : balances) {
+                double x = PADDING + (WIDTH - 2.0 * PADDING) * (balance.getDay().toEpochDay() - firstDay) / days;
+                double y = HEIGHT - PADDING - (HEIGHT - 2.0 * PADDING) * (balance.getClosingBalance().getMinorUnits() - min) / range;
+                markup.append(String.format(Locale.ROOT, "%.1f,%.1f ", x, y));
+            }
+            markup.append("\"/>");
+
+            DailyBalance first = balances.get(0);
+            DailyBalance last = balances.get(balances.size() - 1);
+            text(markup, PADDING, 14, "start", "max " + last.getClosingBalance().getCurrency().name() + " " + format(max));
+            text(markup, PADDING, HEIGHT - 4, "start", first.getDay() + "  min " + format(min));
+            text(markup, WIDTH - PADDING, HEIGHT - 4, "end", last.getDay().toString());
+        }
+        svg.setSvg(markup.append("</svg>").toString());
+    }
+
+    // Подписи состоят только из дат, чисел и кода валюты, экранирование не требуется
+    private static void text(StringBuilder markup, int x, int y, String anchor, String value) {
+        markup.append("<text x=\"").append(x).append("\" y=\"").append(y).append("\" text-anchor=\"").append(anchor)
+                .append("\" font-size=\"12\" fill=\"currentColor\">").append(value).append("</text>");
+    }
+
+    private static String format(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, Money.SCALE).toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.bankapp.ui.components;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.StreamResourceWriter;
+
+// Кнопка скачивания файла. Содержимое пишется в ответ при запросе браузера, вне блокировки сессии,
+// поэтому длинная выгрузка не задерживает интерфейс
+public class DownloadLink extends Anchor {
+
+    public DownloadLink(String label) {
+        getElement().setAttribute("download", true);
+        add(new Button(label, new Icon(VaadinIcon.DOWNLOAD)));
+    }
+
+    // Вызывается заново при смене фильтра: файл строится по условиям на момент вызова
+    public void setResource(String fileName, StreamResourceWriter writer) {
+        StreamResource resource = new StreamResource(fileName, writer);
+        resource.setContentType("text/csv; charset=UTF-8");
+        setHref(resource);
+    }
+}
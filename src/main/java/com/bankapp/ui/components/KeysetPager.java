@@ -0,0 +1,77 @@
+package com.bankapp.ui.components;
+
+import com.bankapp.repository.KeysetCursor;
+import com.bankapp.repository.KeysetPage;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Переводит offset/limit из Grid в продолжение от ближайшего известного курсора,
+// поэтому прокрутка вглубь не заставляет БД каждый раз пропускать все предыдущие строки.
+public class KeysetPager<T> {
+
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        KeysetPage<T> load(KeysetCursor after, int offset, int limit, List<QuerySortOrder> sortOrders);
+    }
+
+    private static final int MAX_ANCHORS = 200;
+
+    private final PageLoader<T> loader;
+    // Позиция строки, следующей за курсором -> курсор
+    private final TreeMap<Integer, KeysetCursor> anchors = new TreeMap<>();
+    private String sortKey = "";
+
+    public KeysetPager(PageLoader<T> loader) {
+        this.loader = loader;
+    }
+
+    public synchronized Stream<T> fetch(Query<T, ?> query) {
+        List<QuerySortOrder> sortOrders = query.getSortOrders();
+        String key = describe(sortOrders);
+        if (!key.equals(sortKey)) {
+            anchors.clear();
+            sortKey = key;
+        }
+
+        int offset = query.getOffset();
+        Map.Entry<Integer, KeysetCursor> anchor = anchors.floorEntry(offset);
+        KeysetCursor after = anchor == null ? null : anchor.getValue();
+        int skip = anchor == null ? offset : offset - anchor.getKey();
+
+        KeysetPage<T> page = loader.load(after, skip, query.getLimit(), sortOrders);
+        if (page.getLast() != null) {
+            remember(offset + page.getItems().size(), page.getLast(), offset);
+        }
+        return page.getItems().stream();
+    }
+
+    // Вызывается при обновлении данных: сохраненные позиции могли сместиться
+    public synchronized void reset() {
+        anchors.clear();
+    }
+
+    private void remember(int position, KeysetCursor cursor, int currentOffset) {
+        anchors.put(position, cursor);
+        if (anchors.size() > MAX_ANCHORS) {
+            // Выбрасываем курсор, наиболее удаленный от текущего места прокрутки
+            if (currentOffset - anchors.firstKey() > anchors.lastKey() - currentOffset) {
+                anchors.pollFirstEntry();
+            } else {
+                anchors.pollLastEntry();
+            }
+        }
+    }
+
+    private String describe(List<QuerySortOrder> sortOrders) {
+        StringBuilder key = new StringBuilder();
+        for (QuerySortOrder sortOrder : sortOrders) {
+            key.append(sortOrder.getSorted()).append(':').append(sortOrder.getDirection()).append(',');
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.bankapp.ui.components;
+
+import com.vaadin.flow.component.upload.Receiver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Прием загрузки во временный файл с ограничением размера: содержимое не накапливается в памяти сессии.
+// Ограничение проверяется и на сервере - клиентскую проверку Upload можно обойти.
+public class TempFileReceiver implements Receiver {
+    private static final Logger logger = LoggerFactory.getLogger(TempFileReceiver.class);
+
+    private final long maxBytes;
+    private Path file;
+
+    public TempFileReceiver(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public OutputStream receiveUpload(String fileName, String mimeType) {
+        discard();
+        try {
+            file = Files.createTempFile("bankapp-upload-", ".part");
+            return new LimitedOutputStream(Files.newOutputStream(file), maxBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Забирает принятый файл; дальше за его удаление отвечает вызывающий
+    public Path takeFile() {
+        Path taken = file;
+        file = null;
+        return taken;
+    }
+
+    public void discard() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Не удалось удалить временный файл {}", file, e);
+            }
+            file = null;
+        }
+    }
+
+    private static final class LimitedOutputStream extends FilterOutputStream {
+        private final long maxBytes;
+        private long written;
+
+        LimitedOutputStream(OutputStream out, long maxBytes) {
+            super(out);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureCapacity(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(len);
+            out.write(b, off, len);
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            written += length;
+            if (written > maxBytes) {
+                throw new IOException("Размер файла превышает " + maxBytes + " байт");
+            }
+        }
+    }
+}
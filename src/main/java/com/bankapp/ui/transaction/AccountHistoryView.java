@@ -0,0 +1,121 @@
+package com.bankapp.ui.transaction;
+
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.exception.TransactionException;
+import com.bankapp.model.Account;
+import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.service.AccountService;
+import com.bankapp.service.ExportService;
+import com.bankapp.service.RowCount;
+import com.bankapp.service.TransactionService;
+import com.bankapp.ui.components.DownloadLink;
+import com.bankapp.ui.components.KeysetPager;
+import com.bankapp.ui.components.StyledParagraph;
+import com.bankapp.utils.MessageProvider;
+import com.bankapp.utils.ServiceLocator;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.Route;
+
+import java.util.stream.Stream;
+
+// История операций одного счета, от новых к старым. Порядок фиксирован: страницы читаются
+// продолжением от последней показанной операции по (transaction_date, id)
+@Route("account-history")
+public class AccountHistoryView extends VerticalLayout implements HasUrlParameter<Long> {
+
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final ExportService exportService;
+    // Выписка строится за период из фильтра; сумма, валюта и тип на нее не влияют
+    private final DownloadLink statementLink = new DownloadLink(MessageProvider.getMessage("button.statement"));
+    private final StyledParagraph title = new StyledParagraph("");
+    private final TransactionFilterBar filterBar = new TransactionFilterBar(changed -> applyFilter());
+    private final Grid<Transaction> transactionGrid = new Grid<>(Transaction.class);
+
+    private Long accountId;
+    private TransactionFilter filter;
+
+    public AccountHistoryView() {
+        this.accountService = ServiceLocator.get(AccountService.class);
+        this.transactionService = ServiceLocator.get(TransactionService.class);
+        this.exportService = ServiceLocator.get(ExportService.class);
+        setSizeFull();
+
+        transactionGrid.setColumns("transactionDate", "type", "fromAccount", "toAccount", "amount", "currency");
+        transactionGrid.getColumns().forEach(col -> {
+            col.setAutoWidth(true);
+            col.setSortable(false);
+        });
+        transactionGrid.setHeightFull();
+        transactionGrid.setPageSize(50);
+
+        Button backButton = new Button(MessageProvider.getMessage("button.back"), new Icon(VaadinIcon.ARROW_LEFT),
+                event -> getUI().ifPresent(ui -> ui.navigate("account-list")));
+        add(new HorizontalLayout(backButton, statementLink), title, filterBar, transactionGrid);
+    }
+
+    @Override
+    public void setParameter(BeforeEvent event, Long parameter) {
+        try {
+            Account account = accountService.findAccountById(parameter);
+            accountId = account.getId();
+            title.setText(MessageProvider.getMessage("form.title.accountHistory") + " " + account.getAccountNumber());
+            applyFilter();
+        } catch (AccountNotFoundException | DataAccessException e) {
+            Notification.show(MessageProvider.getMessage("error.loadAccount"));
+        }
+    }
+
+    private void applyFilter() {
+        if (accountId == null) {
+            return;
+        }
+        filter = filterBar.getFilter();
+        filter.setAccountId(accountId);
+        configureDataProvider();
+    }
+
+    // Курсоры страниц относятся к конкретному фильтру, поэтому на каждый фильтр создается свой pager
+    private void configureDataProvider() {
+        TransactionFilter current = filter;
+        statementLink.setResource("statement_" + current.getAccountId() + ".csv", (out, session) ->
+                exportService.writeAccountStatement(current.getAccountId(), current.getDateFrom(), current.getDateTo(), out));
+        KeysetPager<Transaction> pager = new KeysetPager<>((after, offset, limit, sortOrders) ->
+                transactionService.findAccountHistoryPage(current, after, offset, limit));
+        CallbackDataProvider.FetchCallback<Transaction, Void> fetchCallback = query -> {
+            try {
+                return pager.fetch(query);
+            } catch (TransactionException e) {
+                Notification.show(e.getMessage());
+                return Stream.empty();
+            }
+        };
+
+        RowCount rowCount = countTransactions(current);
+        if (rowCount.isExact()) {
+            transactionGrid.setItems(fetchCallback, query -> countTransactions(current).toInt());
+        } else {
+            transactionGrid.setItems(fetchCallback).setItemCountEstimate(rowCount.toInt());
+        }
+    }
+
+    private RowCount countTransactions(TransactionFilter current) {
+        try {
+            return transactionService.countTransactions(current);
+        } catch (TransactionException e) {
+            Notification.show(e.getMessage());
+            return new RowCount(0, true);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bankapp.ui.transaction;
 
 import com.bankapp.service.AccountService;
+import com.bankapp.ui.components.AccountPicker;
 import com.bankapp.ui.components.StyledParagraph;
 import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
@@ -102,13 +103,9 @@ public class DepositForm extends VerticalLayout {
         }
     }
 
+    // Счета подгружаются страницами по мере прокрутки и ввода номера
     private void loadAccounts() {
-        try {
-            account.setItems(accountService.findAllAccounts());
-            account.setItemLabelGenerator(Account::getAccountNumber);
-        } catch (Exception e) {
-            logger.error(MessageProvider.getMessage("notification.loadAccountsError"), e);
-            Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
-        }
+        AccountPicker.bind(account, accountService, null, null);
+        account.setItemLabelGenerator(Account::getAccountNumber);
     }
 }
\ No newline at end of file
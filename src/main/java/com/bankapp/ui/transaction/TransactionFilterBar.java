@@ -0,0 +1,72 @@
+package com.bankapp.ui.transaction;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.utils.MessageProvider;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.data.value.ValueChangeMode;
+
+import java.util.function.Consumer;
+
+// Поля фильтра журнала операций: период, диапазон суммы, валюта и тип. Счет в фильтр
+// не входит - он задается представлением (история счета)
+public class TransactionFilterBar extends HorizontalLayout {
+
+    // Запрос уходит через столько миллисекунд после последнего нажатия клавиши в поле суммы
+    private static final int FILTER_DEBOUNCE_MS = 500;
+
+    private final DatePicker dateFrom = new DatePicker(MessageProvider.getMessage("filter.dateFrom"));
+    private final DatePicker dateTo = new DatePicker(MessageProvider.getMessage("filter.dateTo"));
+    private final BigDecimalField minAmount = new BigDecimalField(MessageProvider.getMessage("filter.minAmount"));
+    private final BigDecimalField maxAmount = new BigDecimalField(MessageProvider.getMessage("filter.maxAmount"));
+    private final ComboBox<Currency> currency = new ComboBox<>(MessageProvider.getMessage("account.currency"));
+    private final ComboBox<TransactionType> type = new ComboBox<>(MessageProvider.getMessage("filter.transactionType"));
+
+    public TransactionFilterBar(Consumer<TransactionFilter> onChange) {
+        currency.setItems(Currency.values());
+        currency.setItemLabelGenerator(Currency::getDescription);
+        type.setItems(TransactionType.values());
+        type.setItemLabelGenerator(TransactionType::getDescription);
+        dateFrom.setClearButtonVisible(true);
+        dateTo.setClearButtonVisible(true);
+        currency.setClearButtonVisible(true);
+        type.setClearButtonVisible(true);
+        minAmount.setValueChangeMode(ValueChangeMode.LAZY);
+        minAmount.setValueChangeTimeout(FILTER_DEBOUNCE_MS);
+        maxAmount.setValueChangeMode(ValueChangeMode.LAZY);
+        maxAmount.setValueChangeTimeout(FILTER_DEBOUNCE_MS);
+
+        dateFrom.addValueChangeListener(event -> {
+            dateTo.setMin(event.getValue());
+            onChange.accept(getFilter());
+        });
+        dateTo.addValueChangeListener(event -> {
+            dateFrom.setMax(event.getValue());
+            onChange.accept(getFilter());
+        });
+        minAmount.addValueChangeListener(event -> onChange.accept(getFilter()));
+        maxAmount.addValueChangeListener(event -> onChange.accept(getFilter()));
+        currency.addValueChangeListener(event -> onChange.accept(getFilter()));
+        type.addValueChangeListener(event -> onChange.accept(getFilter()));
+
+        setDefaultVerticalComponentAlignment(FlexComponent.Alignment.BASELINE);
+        setWrap(true);
+        add(dateFrom, dateTo, minAmount, maxAmount, currency, type);
+    }
+
+    public TransactionFilter getFilter() {
+        TransactionFilter filter = new TransactionFilter();
+        filter.setDateFrom(dateFrom.getValue());
+        filter.setDateTo(dateTo.getValue());
+        filter.setMinAmount(minAmount.getValue());
+        filter.setMaxAmount(maxAmount.getValue());
+        filter.setCurrency(currency.getValue());
+        filter.setType(type.getValue());
+        return filter;
+    }
+}
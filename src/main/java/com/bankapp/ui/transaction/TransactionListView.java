@@ -2,37 +2,53 @@ package com.bankapp.ui.transaction;
 
 import com.bankapp.exception.TransactionException;
 import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.service.ExportService;
 import com.bankapp.service.TransactionService;
+import com.bankapp.ui.components.DownloadLink;
+import com.bankapp.service.RowCount;
+import com.bankapp.ui.components.KeysetPager;
+import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.provider.DataProvider;
-import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
 import com.vaadin.flow.router.Route;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.stream.Stream;
 
 @Route("transaction-list")
 public class TransactionListView extends VerticalLayout {
 
     private final TransactionService transactionService;
+    private final ExportService exportService;
+    private final DownloadLink exportLink = new DownloadLink(MessageProvider.getMessage("button.exportCsv"));
     private final Grid<Transaction> transactionGrid = new Grid<>(Transaction.class);
+    private final TransactionFilterBar filterBar = new TransactionFilterBar(this::applyFilter);
+
+    private TransactionFilter filter = new TransactionFilter();
 
     public TransactionListView() {
         this.transactionService = ServiceLocator.get(TransactionService.class);
+        this.exportService = ServiceLocator.get(ExportService.class);
         setSizeFull();
         initTransactionGrid();
 
         Button backButton = new Button("Назад", new Icon(VaadinIcon.ARROW_LEFT), event ->
                 getUI().ifPresent(ui -> ui.navigate("")));
-        add(backButton, transactionGrid);
+        add(new HorizontalLayout(backButton, exportLink), filterBar, transactionGrid);
+    }
+
+    private void applyFilter(TransactionFilter changed) {
+        filter = changed;
+        configureDataProvider();
     }
 
     private void initTransactionGrid() {
@@ -53,30 +69,36 @@ public class TransactionListView extends VerticalLayout {
         });
     }
 
+    // Курсоры страниц относятся к конкретному фильтру, поэтому на каждый фильтр создается свой pager
     private void configureDataProvider() {
-        DataProvider<Transaction, Void> dataProvider = DataProvider.fromCallbacks(
-                query -> {
-                    try {
-                        int offset = query.getOffset();
-                        int limit = query.getLimit();
+        TransactionFilter current = filter;
+        exportLink.setResource("transactions.csv", (out, session) -> exportService.writeTransactions(current, out));
+        KeysetPager<Transaction> pager = new KeysetPager<>((after, offset, limit, sortOrders) ->
+                transactionService.findTransactionsPage(current, after, offset, limit, sortOrders));
+        CallbackDataProvider.FetchCallback<Transaction, Void> fetchCallback = query -> {
+            try {
+                return pager.fetch(query);
+            } catch (TransactionException e) {
+                Notification.show(e.getMessage());
+                return Stream.empty();
+            }
+        };
 
-                        List<QuerySortOrder> sortOrders = query.getSortOrders();
-                        return transactionService.findTransactions(offset, limit, sortOrders).stream();
-                    } catch (TransactionException e) {
-                        Notification.show(e.getMessage());
-                        return Stream.empty();
-                    }
-                },
-                query -> {
-                    try {
-                        return transactionService.countTransactions();
-                    } catch (TransactionException e) {
-                        Notification.show(e.getMessage());
-                        return 0;
-                    }
-                }
-        );
+        RowCount rowCount = countTransactions(current);
+        if (rowCount.isExact()) {
+            transactionGrid.setItems(fetchCallback, query -> countTransactions(current).toInt());
+        } else {
+            // COUNT(*) по большой таблице дороже самой страницы: размер уточняется при прокрутке
+            transactionGrid.setItems(fetchCallback).setItemCountEstimate(rowCount.toInt());
+        }
+    }
 
-        transactionGrid.setDataProvider(dataProvider);
+    private RowCount countTransactions(TransactionFilter current) {
+        try {
+            return transactionService.countTransactions(current);
+        } catch (TransactionException e) {
+            Notification.show(e.getMessage());
+            return new RowCount(0, true);
+        }
     }
-}
\ No newline at end of file
+}
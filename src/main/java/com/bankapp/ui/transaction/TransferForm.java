@@ -3,6 +3,7 @@ package com.bankapp.ui.transaction;
 import com.bankapp.enums.Currency;
 import com.bankapp.exception.DataAccessException;
 import com.bankapp.service.AccountService;
+import com.bankapp.ui.components.AccountPicker;
 import com.bankapp.ui.components.StyledParagraph;
 import com.bankapp.utils.MessageProvider;
 import com.bankapp.utils.ServiceLocator;
@@ -19,8 +20,6 @@ import org.slf4j.LoggerFactory;
 import com.bankapp.model.Account;
 
 import java.math.BigDecimal;
-import java.sql.SQLException;
-import java.util.List;
 
 @Route("transfer-form")
 public class TransferForm extends VerticalLayout {
@@ -45,14 +44,11 @@ public class TransferForm extends VerticalLayout {
 
         add(title);
 
-        try {
-            fromAccount.setItems(accountService.findAllAccounts());
-            fromAccount.setItemLabelGenerator(Account::getAccountNumber);
-            toAccount.setItems(accountService.findAllAccounts());
-            toAccount.setItemLabelGenerator(Account::getAccountNumber);
-        } catch (DataAccessException e) {
-            Notification.show(MessageProvider.getMessage("notification.loadAccountsError"));
-        }
+        // Счета подгружаются страницами по мере прокрутки и ввода номера
+        AccountPicker.bind(fromAccount, accountService, null, null);
+        fromAccount.setItemLabelGenerator(Account::getAccountNumber);
+        toAccount.setItemLabelGenerator(Account::getAccountNumber);
+        toAccount.setEnabled(false);
 
         fromAccount.setWidth("300px");
         toAccount.setWidth("300px");
@@ -72,11 +68,11 @@ public class TransferForm extends VerticalLayout {
             if (selectedAccount != null) {
                 Currency currency = selectedAccount.getCurrency();
                 currencyField.setValue(currency.toString());
+                toAccount.clear();
+                AccountPicker.bind(toAccount, accountService, currency, selectedAccount.getId());
+                toAccount.setEnabled(true);
                 try {
-                    List<Account> availableAccounts = accountService.findAccountsByCurrencyAndNotSenderId(currency.toString(), selectedAccount.getId());
-                    toAccount.setItems(availableAccounts);
-
-                    if (availableAccounts.isEmpty()) {
+                    if (!AccountPicker.hasAccounts(accountService, currency, selectedAccount.getId())) {
                         Notification.show(MessageProvider.getMessage("notification.noActiveAccounts" + currency));
                     }
                 } catch (DataAccessException e) {
@@ -84,7 +80,8 @@ public class TransferForm extends VerticalLayout {
                 }
             } else {
                 currencyField.clear();
-                toAccount.setItems();
+                toAccount.clear();
+                toAccount.setEnabled(false);
             }
         });
 
@@ -114,7 +111,7 @@ public class TransferForm extends VerticalLayout {
                 return;
             }
 
-            if (transferAmount.compareTo(from.getBalance()) > 0) {
+            if (transferAmount.compareTo(from.getBalance().toBigDecimal()) > 0) {
                 Notification.show(MessageProvider.getMessage("notification.insufficientFunds"));
                 return;
             }
@@ -0,0 +1,389 @@
+package com.bankapp.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConnectionPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+    // Соединение, которое использовали совсем недавно, повторно не проверяем
+    private static final long VALIDATION_SKIP_WINDOW_MS = 500;
+    private static final long RECONNECT_INITIAL_BACKOFF_MS = 100;
+    private static final long RECONNECT_MAX_BACKOFF_MS = 2_000;
+    private static final long HOUSEKEEPING_PERIOD_MS = 5_000;
+
+    private final String url;
+    private final Properties properties;
+    private final int maxSize;
+    private final long connectionTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMs;
+    private final long idleTimeoutMs;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder validationFailureCount = new LongAdder();
+    private final LongAdder connectFailureCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(String url, Properties properties, int maxSize, long connectionTimeoutMs,
+                          int validationTimeoutSeconds, long leakDetectionThresholdMs, long idleTimeoutMs,
+                          int statementCacheSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Размер пула должен быть положительным");
+        }
+        this.url = url;
+        this.properties = properties;
+        this.maxSize = maxSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, HOUSEKEEPING_PERIOD_MS, HOUSEKEEPING_PERIOD_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Пул соединений закрыт");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMs);
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                throw new SQLTransientConnectionException("Не удалось получить соединение из пула за "
+                        + connectionTimeoutMs + " мс, " + getStatistics());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Ожидание соединения прервано", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = createWithRetry(deadline);
+            }
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowSite = leakDetectionThresholdMs > 0 ? new Exception("Соединение получено здесь") : null;
+            pooled.leakReported = false;
+            borrowed.add(pooled);
+
+            borrowCount.increment();
+            long waited = System.nanoTime() - start;
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public PoolStatistics getStatistics() {
+        long borrows = borrowCount.sum();
+        return new PoolStatistics(
+                maxSize,
+                borrowed.size(),
+                idle.size(),
+                waiting.get(),
+                createdCount.sum(),
+                borrows,
+                timeoutCount.sum(),
+                validationFailureCount.sum(),
+                connectFailureCount.sum(),
+                leakCount.sum(),
+                borrows == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum() / borrows),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+                statementCacheHits.sum(),
+                statementCacheMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+        logger.info("Пул соединений закрыт, {}", getStatistics());
+    }
+
+    private PooledConnection takeValidIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isValid(pooled)) {
+                return pooled;
+            }
+            validationFailureCount.increment();
+            logger.warn("Соединение из пула не прошло проверку и будет пересоздано");
+            closePhysical(pooled);
+        }
+        return null;
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastUsedAt < VALIDATION_SKIP_WINDOW_MS) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection createWithRetry(long deadline) throws SQLException {
+        long backoff = RECONNECT_INITIAL_BACKOFF_MS;
+        while (true) {
+            try {
+                Connection physical = DriverManager.getConnection(url, properties);
+                createdCount.increment();
+                return new PooledConnection(physical);
+            } catch (SQLException e) {
+                connectFailureCount.increment();
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (closed || remainingMs <= backoff) {
+                    logger.error("Не удалось установить соединение с базой данных: {}", e.getMessage());
+                    throw e;
+                }
+                logger.warn("Ошибка подключения к базе данных, повтор через {} мс: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Подключение к базе данных прервано", ie);
+                }
+                backoff = Math.min(backoff * 2, RECONNECT_MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+        try {
+            if (pooled.broken || closed) {
+                closePhysical(pooled);
+                return;
+            }
+            if (!resetState(pooled)) {
+                closePhysical(pooled);
+                return;
+            }
+            pooled.lastUsedAt = System.currentTimeMillis();
+            idle.addFirst(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Возвращаем соединение в пул в том же состоянии, в котором его выдали
+    private boolean resetState(PooledConnection pooled) {
+        try {
+            Connection physical = pooled.physical;
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (pooled.readOnlyChanged) {
+                physical.setReadOnly(false);
+                pooled.readOnlyChanged = false;
+            }
+            if (pooled.isolationChanged) {
+                physical.setTransactionIsolation(pooled.defaultIsolation);
+                pooled.isolationChanged = false;
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.warn("Не удалось сбросить состояние соединения, оно будет закрыто: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void closePhysical(PooledConnection pooled) {
+        if (pooled.statementCache != null) {
+            pooled.statementCache.clear();
+        }
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Ошибка при закрытии соединения: {}", e.getMessage());
+        }
+    }
+
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        if (leakDetectionThresholdMs > 0) {
+            for (PooledConnection pooled : borrowed) {
+                if (!pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdMs) {
+                    pooled.leakReported = true;
+                    leakCount.increment();
+                    logger.warn("Возможная утечка соединения: удерживается {} мс", now - pooled.borrowedAt,
+                            pooled.borrowSite);
+                }
+            }
+        }
+
+        if (idleTimeoutMs > 0) {
+            Iterator<PooledConnection> iterator = idle.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection pooled = iterator.next();
+                if (now - pooled.lastUsedAt > idleTimeoutMs && idle.removeFirstOccurrence(pooled)) {
+                    closePhysical(pooled);
+                }
+            }
+        }
+
+        logger.debug("Состояние пула соединений: {}", getStatistics());
+    }
+
+    // Кэшируются только prepareStatement(sql) и prepareStatement(sql, autoGeneratedKeys)
+    private static boolean isCacheable(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        return types.length == 1 || (types.length == 2 && types[1] == int.class);
+    }
+
+    private static boolean isConnectionError(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("08");
+    }
+
+    private final class PooledConnection {
+        private final Connection physical;
+        private final int defaultIsolation;
+        private final StatementCache statementCache;
+        private volatile long lastUsedAt;
+        private volatile long borrowedAt;
+        private volatile Exception borrowSite;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+        private boolean readOnlyChanged;
+        private boolean isolationChanged;
+
+        private PooledConnection(Connection physical) throws SQLException {
+            this.physical = physical;
+            this.defaultIsolation = physical.getTransactionIsolation();
+            this.statementCache = statementCacheSize > 0
+                    ? new StatementCache(physical, statementCacheSize, statementCacheHits, statementCacheMisses)
+                    : null;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new Handle(this));
+        }
+    }
+
+    // Обертка, которую получает вызывающий код: close() возвращает соединение в пул
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        private Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Соединение уже возвращено в пул");
+            }
+            if ("prepareStatement".equals(method.getName()) && pooled.statementCache != null
+                    && isCacheable(method)) {
+                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                return pooled.statementCache.prepare((String) args[0], autoGeneratedKeys, (Connection) proxy);
+            }
+            if ("setReadOnly".equals(method.getName())) {
+                pooled.readOnlyChanged = true;
+            } else if ("setTransactionIsolation".equals(method.getName())) {
+                pooled.isolationChanged = true;
+            }
+
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isConnectionError((SQLException) cause)) {
+                    pooled.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+}
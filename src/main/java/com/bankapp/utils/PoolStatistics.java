@@ -0,0 +1,117 @@
+package com.bankapp.utils;
+
+public class PoolStatistics {
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final int waiting;
+    private final long created;
+    private final long borrowed;
+    private final long timeouts;
+    private final long validationFailures;
+    private final long connectFailures;
+    private final long leaks;
+    private final long averageWaitMicros;
+    private final long maxWaitMicros;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    public PoolStatistics(int maxSize, int active, int idle, int waiting, long created, long borrowed, long timeouts,
+                          long validationFailures, long connectFailures, long leaks, long averageWaitMicros,
+                          long maxWaitMicros, long statementCacheHits, long statementCacheMisses) {
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.waiting = waiting;
+        this.created = created;
+        this.borrowed = borrowed;
+        this.timeouts = timeouts;
+        this.validationFailures = validationFailures;
+        this.connectFailures = connectFailures;
+        this.leaks = leaks;
+        this.averageWaitMicros = averageWaitMicros;
+        this.maxWaitMicros = maxWaitMicros;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return active + idle;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getBorrowed() {
+        return borrowed;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    public long getConnectFailures() {
+        return connectFailures;
+    }
+
+    public long getLeaks() {
+        return leaks;
+    }
+
+    public long getAverageWaitMicros() {
+        return averageWaitMicros;
+    }
+
+    public long getMaxWaitMicros() {
+        return maxWaitMicros;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStatistics{" +
+                "maxSize=" + maxSize +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", waiting=" + waiting +
+                ", created=" + created +
+                ", borrowed=" + borrowed +
+                ", timeouts=" + timeouts +
+                ", validationFailures=" + validationFailures +
+                ", connectFailures=" + connectFailures +
+                ", leaks=" + leaks +
+                ", averageWaitMicros=" + averageWaitMicros +
+                ", maxWaitMicros=" + maxWaitMicros +
+                ", statementCacheHits=" + statementCacheHits +
+                ", statementCacheMisses=" + statementCacheMisses +
+                '}';
+    }
+}
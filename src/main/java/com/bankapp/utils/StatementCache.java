@@ -0,0 +1,137 @@
+package com.bankapp.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Кэш подготовленных выражений одного физического соединения, ключ - текст SQL.
+// Повторное использование одного и того же PreparedStatement позволяет драйверу перейти
+// на серверный prepared statement и не разбирать и не планировать запрос заново.
+public class StatementCache {
+    private final Connection connection;
+    private final int maxSize;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    // Порядок доступа: первым вытесняется давно не использованное выражение
+    private final LinkedHashMap<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    public StatementCache(Connection connection, int maxSize, LongAdder hits, LongAdder misses) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    // owner - соединение, которое получил вызывающий код: его возвращает getConnection() выражения,
+    // чтобы физическое соединение не закрыли в обход пула
+    public PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection owner) throws SQLException {
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? "keys:" + sql : sql;
+
+        // Выражение забирается из кэша на время использования, чтобы один и тот же SQL
+        // можно было безопасно открыть дважды (например, во время чтения курсора)
+        PreparedStatement statement = statements.remove(key);
+        if (statement != null && !statement.isClosed()) {
+            hits.increment();
+        } else {
+            misses.increment();
+            statement = connection.prepareStatement(sql, autoGeneratedKeys);
+        }
+        return wrap(key, statement, owner);
+    }
+
+    public void clear() {
+        for (PreparedStatement statement : statements.values()) {
+            closeQuietly(statement);
+        }
+        statements.clear();
+    }
+
+    private void release(String key, PreparedStatement statement) {
+        try {
+            if (statement.isClosed()) {
+                return;
+            }
+            if (statements.containsKey(key)) {
+                statement.close();
+                return;
+            }
+            // Незакрытый результат держал бы строки в памяти, пока выражение лежит в кэше
+            closeResults(key, statement);
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.setFetchSize(0);
+            statement.setMaxRows(0);
+            statements.put(key, statement);
+            evictOverflow();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+        }
+    }
+
+    private static void closeResults(String key, PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (resultSet != null) {
+            resultSet.close();
+        }
+        if (key.startsWith("keys:")) {
+            statement.getGeneratedKeys().close();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, PreparedStatement>> iterator = statements.entrySet().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            closeQuietly(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    private PreparedStatement wrap(String key, PreparedStatement statement, Connection owner) {
+        boolean[] returned = new boolean[1];
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!returned[0]) {
+                                returned[0] = true;
+                                release(key, statement);
+                            }
+                            return null;
+                        case "isClosed":
+                            return returned[0] || statement.isClosed();
+                        case "getConnection":
+                            return owner;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (returned[0]) {
+                        throw new SQLException("Выражение уже закрыто");
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // выражение все равно будет закрыто вместе с соединением
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankapp.utils;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+// Состояние транзакции текущего потока: собственное соединение из пула и уровень вложенности
+public class TransactionContext {
+    private final Connection connection;
+    private int depth = 1;
+    private boolean rollbackOnly;
+    private final List<Runnable> afterCommitActions = new ArrayList<>();
+
+    public TransactionContext(Connection connection) {
+        this.connection = connection;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public void enter() {
+        depth++;
+    }
+
+    // Возвращает true, если транзакция внешняя и ее пора завершать
+    public boolean exit() {
+        depth--;
+        return depth == 0;
+    }
+
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    public void setRollbackOnly() {
+        this.rollbackOnly = true;
+    }
+
+    public void addAfterCommitAction(Runnable action) {
+        afterCommitActions.add(action);
+    }
+
+    public List<Runnable> getAfterCommitActions() {
+        return afterCommitActions;
+    }
+}
@@ -1,30 +1,131 @@
 package com.bankapp.utils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 
 public class TransactionManager {
-    private final Connection connection;
+    private static final Logger logger = LoggerFactory.getLogger(TransactionManager.class);
+    private final ConnectionPool connectionPool;
+    // Каждый поток (запрос UI, фоновая задача) работает в своей транзакции на своем соединении
+    private final ThreadLocal<TransactionContext> currentContext = new ThreadLocal<>();
 
-    public TransactionManager(Connection connection) {
-        this.connection = connection;
+    public TransactionManager(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
     }
 
     public void beginTransaction() throws SQLException {
-        connection.setAutoCommit(false);
+        TransactionContext context = currentContext.get();
+        if (context != null) {
+            // Вложенный вызов присоединяется к уже открытой транзакции
+            context.enter();
+            return;
+        }
+
+        Connection connection = connectionPool.getConnection();
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        currentContext.set(new TransactionContext(connection));
     }
 
     public void commitTransaction() throws SQLException {
-        connection.commit();
-        connection.setAutoCommit(true);
+        TransactionContext context = currentContext.get();
+        if (context == null) {
+            throw new SQLException("Нет активной транзакции для фиксации");
+        }
+        if (!context.exit()) {
+            return;
+        }
+
+        currentContext.remove();
+        try (Connection connection = context.getConnection()) {
+            if (context.isRollbackOnly()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+                throw new SQLException("Транзакция была помечена для отката во вложенном вызове");
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+        runAfterCommit(context);
     }
 
     public void rollbackTransaction() throws SQLException {
-        connection.rollback();
-        connection.setAutoCommit(true);
+        TransactionContext context = currentContext.get();
+        if (context == null) {
+            return;
+        }
+        if (!context.exit()) {
+            // Откатить может только внешний уровень, здесь лишь запрещаем фиксацию
+            context.setRollbackOnly();
+            return;
+        }
+
+        currentContext.remove();
+        try (Connection connection = context.getConnection()) {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // Действие выполняется только после успешной фиксации; вне транзакции - сразу
+    public void afterCommit(Runnable action) {
+        TransactionContext context = currentContext.get();
+        if (context == null) {
+            action.run();
+        } else {
+            context.addAfterCommitAction(action);
+        }
+    }
+
+    public boolean isTransactionActive() {
+        return currentContext.get() != null;
+    }
+
+    // Внутри транзакции возвращает ее соединение, иначе берет соединение из пула до закрытия
+    public Connection getConnection() throws SQLException {
+        TransactionContext context = currentContext.get();
+        if (context != null) {
+            return nonClosing(context.getConnection());
+        }
+        return connectionPool.getConnection();
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    private void runAfterCommit(TransactionContext context) {
+        for (Runnable action : context.getAfterCommitActions()) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                // Данные уже зафиксированы, сбой побочного действия не должен выглядеть как сбой транзакции
+                logger.warn("Ошибка при выполнении действия после фиксации транзакции", e);
+            }
+        }
     }
 
-    public Connection getConnection() {
-        return connection;
+    // Соединение транзакции закрывается только при commit/rollback
+    private static Connection nonClosing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(TransactionManager.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
     }
-}
\ No newline at end of file
+}
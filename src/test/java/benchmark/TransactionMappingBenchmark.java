@@ -0,0 +1,113 @@
+package benchmark;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.utils.ConnectionPool;
+import com.bankapp.utils.DatabaseUtil;
+import com.bankapp.utils.TransactionManager;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Стоимость разбора страницы журнала из 10 000 строк: поиск колонок по имени (как было)
+// против маппера по номерам колонок. Строки читаются из БД один раз и разбираются повторно
+// из памяти драйвера, поэтому замер не включает сеть и выполнение запроса.
+// Запуск (нужна БД из DatabaseUtil с заполненным журналом):
+// mvn -q test-compile exec:java -Dexec.mainClass=benchmark.TransactionMappingBenchmark -Dexec.classpathScope=test
+public class TransactionMappingBenchmark {
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    public static void main(String[] args) throws SQLException {
+        ConnectionPool connectionPool = DatabaseUtil.getConnectionPool();
+        TransactionRepositoryImpl repository = new TransactionRepositoryImpl(new TransactionManager(connectionPool));
+
+        // Тот же запрос, что строит findTransactions для сортировки по умолчанию
+        String sql = "SELECT " + TransactionRepositoryImpl.ROW_MAPPER.getColumnList()
+                + " FROM transactions ORDER BY transaction_date DESC, id DESC LIMIT " + PAGE_SIZE;
+        try (Connection connection = connectionPool.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                     ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+             ResultSet resultSet = statement.executeQuery()) {
+            int rows = mapByName(resultSet).size();
+            System.out.printf("Строк на странице: %d%n", rows);
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapByName(resultSet);
+                mapByIndex(sql, resultSet);
+            }
+            long byName = measure(() -> mapByName(resultSet));
+            long byIndex = measure(() -> mapByIndex(sql, resultSet));
+            System.out.printf("По имени колонки:  %,d мкс на страницу%n", byName / 1000);
+            System.out.printf("По номеру колонки: %,d мкс на страницу%n", byIndex / 1000);
+        }
+
+        // Для сравнения - полный вызов репозитория вместе с запросом к БД
+        List<QuerySortOrder> defaultSort = List.of();
+        for (int i = 0; i < WARMUP_ROUNDS / 5; i++) {
+            repository.findTransactions(0, PAGE_SIZE, defaultSort);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS / 5; i++) {
+            repository.findTransactions(0, PAGE_SIZE, defaultSort);
+        }
+        System.out.printf("findTransactions целиком: %,d мкс на страницу%n",
+                (System.nanoTime() - started) / (MEASURED_ROUNDS / 5) / 1000);
+    }
+
+    private interface Round {
+        List<Transaction> run() throws SQLException;
+    }
+
+    private static long measure(Round round) throws SQLException {
+        long checksum = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            checksum += round.run().size();
+        }
+        long elapsed = System.nanoTime() - started;
+        if (checksum == 0) {
+            System.out.println("Журнал пуст");
+        }
+        return elapsed / MEASURED_ROUNDS;
+    }
+
+    private static List<Transaction> mapByIndex(String sql, ResultSet resultSet) throws SQLException {
+        resultSet.beforeFirst();
+        int[] columns = TransactionRepositoryImpl.ROW_MAPPER.columns(sql, resultSet);
+        List<Transaction> transactions = new ArrayList<>(PAGE_SIZE);
+        while (resultSet.next()) {
+            transactions.add(TransactionRepositoryImpl.ROW_MAPPER.map(resultSet, columns));
+        }
+        return transactions;
+    }
+
+    // Разбор строк в том виде, в каком он был до перехода на номера колонок
+    private static List<Transaction> mapByName(ResultSet resultSet) throws SQLException {
+        resultSet.beforeFirst();
+        List<Transaction> transactions = new ArrayList<>(PAGE_SIZE);
+        while (resultSet.next()) {
+            Transaction transaction = new Transaction();
+            transaction.setId(resultSet.getLong("id"));
+            long from = resultSet.getLong("from_account_id");
+            transaction.setFromAccount(resultSet.wasNull() ? null : from);
+            long to = resultSet.getLong("to_account_id");
+            transaction.setToAccount(resultSet.wasNull() ? null : to);
+            transaction.setAmount(Money.of(resultSet.getBigDecimal("amount"), Currency.valueOf(resultSet.getString("currency"))));
+            transaction.setTransactionDate(resultSet.getTimestamp("transaction_date").toLocalDateTime());
+            transaction.setStatus(TransactionType.valueOf(resultSet.getString("type")));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,42 @@
+package model;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void parse_ReadsDecimalColumnText() {
+        // Act & Assert
+        assertEquals(123450, Money.parse("1234.5", Currency.RUB).getMinorUnits());
+        assertEquals(-5, Money.parse("-0.05", Currency.RUB).getMinorUnits());
+        assertEquals(1000, Money.parse("10", Currency.RUB).getMinorUnits());
+        assertEquals("1234.50", Money.parse("1234.50", Currency.RUB).toString());
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.234", Currency.RUB));
+    }
+
+    @Test
+    void of_RejectsFractionsOfMinorUnit() {
+        // Act & Assert
+        assertEquals(Money.ofMinor(1000, Currency.USD), Money.of(new BigDecimal("10.000"), Currency.USD));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("10.001"), Currency.USD));
+        assertEquals(new BigDecimal("10.00"), Money.ofMinor(1000, Currency.USD).toBigDecimal());
+    }
+
+    @Test
+    void arithmetic_ChecksOverflowAndCurrency() {
+        // Arrange
+        Money max = Money.ofMinor(Long.MAX_VALUE, Currency.RUB);
+
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1, Currency.RUB)));
+        assertThrows(IllegalArgumentException.class, () -> max.minus(Money.ofMinor(1, Currency.USD)));
+        assertTrue(Money.ofMinor(1, Currency.RUB).isLessThan(Money.ofMinor(2, Currency.RUB)));
+        assertTrue(Money.ofMinor(5, Currency.RUB).minus(Money.ofMinor(5, Currency.RUB)).isZero());
+    }
+}
@@ -0,0 +1,97 @@
+package repository;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.model.Money;
+import com.bankapp.repository.DailyBalanceRepository;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyBalanceRepositoryTest {
+
+    private static final LocalDate YESTERDAY = LocalDate.of(2026, 3, 9);
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("RUB");
+        when(resultSet.getString(2)).thenReturn("0.00");
+    }
+
+    private String preparedSql() throws SQLException {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        return sql.getValue();
+    }
+
+    @Test
+    void findClosingBalance_EventSourced_SubtractsJournalAfterDay() throws SQLException {
+        // Arrange
+        DailyBalanceRepository repository = new DailyBalanceRepository(transactionManager, true);
+
+        // Act
+        Optional<Money> balance = repository.findClosingBalance(5L, YESTERDAY);
+
+        // Assert
+        // Строк дней у счета с проводками только за сегодня нет: остаток на вчера - текущий остаток
+        // без сегодняшних проводок, а не текущий остаток целиком
+        String sql = preparedSql();
+        assertTrue(sql.contains("FROM balance_snapshots s"));
+        assertTrue(sql.contains(" - COALESCE((SELECT SUM(CASE WHEN t.to_account_id = a.id THEN t.amount ELSE 0 END"
+                + " - CASE WHEN t.from_account_id = a.id THEN t.amount ELSE 0 END) FROM transactions t"
+                + " WHERE (t.to_account_id = a.id OR t.from_account_id = a.id)"
+                + " AND t.transaction_date >= ?::date + 1), 0))"));
+        assertFalse(sql.contains("d.day <= ?"));
+        verify(statement).setObject(1, YESTERDAY);
+        verify(statement).setObject(2, YESTERDAY);
+        verify(statement).setLong(3, 5L);
+        assertEquals(Optional.of(Money.of(new BigDecimal("0.00"), Currency.RUB)), balance);
+    }
+
+    @Test
+    void findClosingBalance_StoredBalances_FallsBackToAccountBalance() throws SQLException {
+        // Arrange
+        DailyBalanceRepository repository = new DailyBalanceRepository(transactionManager);
+
+        // Act
+        repository.findClosingBalance(5L, YESTERDAY);
+
+        // Assert
+        String sql = preparedSql();
+        assertTrue(sql.contains("d.day <= ?"));
+        assertTrue(sql.endsWith(", a.balance) FROM accounts a WHERE a.id = ?"));
+        assertFalse(sql.contains("FROM transactions t"));
+    }
+}
@@ -0,0 +1,189 @@
+package repository;
+
+import com.bankapp.repository.KeysetCursor;
+import com.bankapp.repository.KeysetQuery;
+import com.bankapp.repository.SortSpec;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetQueryTest {
+
+    private static final String SELECT = "SELECT * FROM accounts";
+
+    @Mock
+    private PreparedStatement statement;
+
+    private static SortSpec sort(QuerySortOrder... sortOrders) {
+        return SortSpec.of(List.of(sortOrders), UnaryOperator.identity(), "account_number", true);
+    }
+
+    private static QuerySortOrder asc(String column) {
+        return new QuerySortOrder(column, SortDirection.ASCENDING);
+    }
+
+    private static QuerySortOrder desc(String column) {
+        return new QuerySortOrder(column, SortDirection.DESCENDING);
+    }
+
+    private static KeysetCursor cursor(SortSpec sort, Object... values) {
+        return new KeysetCursor(sort.getKey(), values);
+    }
+
+    @Test
+    void of_DefaultColumnAndTiebreakerInLastDirection() {
+        // Act
+        SortSpec byDefault = sort();
+        SortSpec byBalance = sort(desc("balance"), asc("balance"));
+
+        // Assert
+        assertEquals("account_number:ASC,id:ASC", byDefault.getKey());
+        assertEquals("balance:DESC,id:DESC", byBalance.getKey());
+        assertEquals(" ORDER BY balance DESC, id DESC", byBalance.toOrderByClause());
+    }
+
+    @Test
+    void build_FirstPageHasNoSeekPredicate() {
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, "status = ?", sort(), null, Set.of());
+
+        // Assert
+        assertEquals(SELECT + " WHERE status = ? ORDER BY account_number ASC, id ASC LIMIT ? OFFSET ?",
+                query.getSql());
+    }
+
+    @Test
+    void build_AscendingSortUsesRowComparison() throws SQLException {
+        // Arrange
+        SortSpec sort = sort(asc("account_number"));
+        KeysetCursor after = cursor(sort, "40817810000000000001", 5L);
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, "status = ?", sort, after, Set.of());
+        int next = query.bind(statement, after, 2);
+
+        // Assert
+        assertEquals(SELECT + " WHERE status = ? AND (account_number, id) > (?, ?)"
+                + " ORDER BY account_number ASC, id ASC LIMIT ? OFFSET ?", query.getSql());
+        assertEquals(4, next);
+        verify(statement).setObject(2, "40817810000000000001");
+        verify(statement).setObject(3, 5L);
+    }
+
+    @Test
+    void build_DescendingSortUsesRowComparison() {
+        // Arrange
+        SortSpec sort = sort(desc("balance"));
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, null, sort, cursor(sort, 100, 5L), Set.of());
+
+        // Assert
+        assertEquals(SELECT + " WHERE (balance, id) < (?, ?) ORDER BY balance DESC, id DESC LIMIT ? OFFSET ?",
+                query.getSql());
+    }
+
+    @Test
+    void build_MixedDirectionsExpandIntoTermsWithLeadingBound() throws SQLException {
+        // Arrange
+        SortSpec sort = sort(desc("balance"), asc("id"));
+        KeysetCursor after = cursor(sort, 100, 5L);
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, null, sort, after, Set.of());
+        query.bind(statement, after, 1);
+
+        // Assert
+        assertEquals(SELECT + " WHERE (balance <= ? AND ((balance < ?) OR (balance = ? AND id > ?)))"
+                + " ORDER BY balance DESC, id ASC LIMIT ? OFFSET ?", query.getSql());
+        verify(statement).setObject(1, 100);
+        verify(statement).setObject(2, 100);
+        verify(statement).setObject(3, 100);
+        verify(statement).setObject(4, 5L);
+    }
+
+    @Test
+    void build_NullableAscendingColumnIncludesNullsAfterValue() {
+        // Arrange
+        SortSpec sort = sort(asc("closed_at"));
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, null, sort, cursor(sort, "2026-01-01", 5L),
+                Set.of("closed_at"));
+
+        // Assert
+        // NULL при ASC идут последними, поэтому нижняя граница по первой колонке не добавляется
+        assertEquals(SELECT + " WHERE ((((closed_at > ? OR closed_at IS NULL)) OR (closed_at = ? AND id > ?)))"
+                + " ORDER BY closed_at ASC, id ASC LIMIT ? OFFSET ?", query.getSql());
+    }
+
+    @Test
+    void build_NullCursorValueInAscendingColumnContinuesAmongNulls() throws SQLException {
+        // Arrange
+        SortSpec sort = sort(asc("closed_at"));
+        KeysetCursor after = cursor(sort, null, 5L);
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, null, sort, after, Set.of("closed_at"));
+        int next = query.bind(statement, after, 1);
+
+        // Assert
+        assertEquals(SELECT + " WHERE (((closed_at IS NULL AND id > ?)))"
+                + " ORDER BY closed_at ASC, id ASC LIMIT ? OFFSET ?", query.getSql());
+        assertEquals(2, next);
+        verify(statement).setObject(1, 5L);
+    }
+
+    @Test
+    void build_NullCursorValueInDescendingColumnContinuesWithValues() {
+        // Arrange
+        SortSpec sort = sort(desc("closed_at"));
+
+        // Act
+        KeysetQuery query = KeysetQuery.build(SELECT, null, sort, cursor(sort, null, 5L), Set.of("closed_at"));
+
+        // Assert
+        // NULL при DESC идут первыми: после них - все непустые значения
+        assertEquals(SELECT + " WHERE (((closed_at IS NOT NULL) OR (closed_at IS NULL AND id < ?)))"
+                + " ORDER BY closed_at DESC, id DESC LIMIT ? OFFSET ?", query.getSql());
+    }
+
+    @Test
+    void key_DistinguishesNullCursorValues() {
+        // Arrange
+        SortSpec sort = sort(asc("closed_at"));
+
+        // Act & Assert
+        assertEquals("closed_at:ASC,id:ASC", KeysetQuery.key(sort, null));
+        assertEquals("closed_at:ASC,id:ASC|VV", KeysetQuery.key(sort, cursor(sort, "2026-01-01", 5L)));
+        assertEquals("closed_at:ASC,id:ASC|NV", KeysetQuery.key(sort, cursor(sort, null, 5L)));
+    }
+
+    @Test
+    void usableCursor_CursorOfAnotherSortIsDropped() {
+        // Arrange
+        SortSpec sort = sort(asc("account_number"));
+        KeysetCursor matching = cursor(sort, "40817810000000000001", 5L);
+        KeysetCursor otherSort = new KeysetCursor(sort(desc("balance")).getKey(), new Object[]{100, 5L});
+        KeysetCursor wrongSize = new KeysetCursor(sort.getKey(), new Object[]{5L});
+
+        // Act & Assert
+        assertSame(matching, KeysetQuery.usableCursor(matching, sort));
+        assertNull(KeysetQuery.usableCursor(otherSort, sort));
+        assertNull(KeysetQuery.usableCursor(wrongSize, sort));
+        assertNull(KeysetQuery.usableCursor(null, sort));
+    }
+}
@@ -2,26 +2,44 @@ package service;
 
 import com.bankapp.enums.AccountStatus;
 import com.bankapp.enums.Currency;
+import com.bankapp.enums.PayoutLegStatus;
 import com.bankapp.enums.TransactionType;
 import com.bankapp.exception.AccountNotFoundException;
 import com.bankapp.exception.InsufficientFundsException;
 import com.bankapp.model.Account;
+import com.bankapp.model.AccountFilter;
+import com.bankapp.model.Money;
+import com.bankapp.model.PayoutLeg;
+import com.bankapp.model.PayoutLegResult;
 import com.bankapp.repository.AccountRepositoryImpl;
 import com.bankapp.service.AccountService;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.RowCount;
 import com.bankapp.service.TransactionService;
 import com.bankapp.utils.TransactionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +54,9 @@ class AccountServiceTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private CardinalityService cardinalityService;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -46,40 +67,52 @@ class AccountServiceTest {
     void setUp() {
         fromAccount = new Account();
         fromAccount.setId(1L);
-        fromAccount.setBalance(new BigDecimal("1000.00"));
+        fromAccount.setBalance(Money.of(new BigDecimal("1000.00"), Currency.USD));
         fromAccount.setStatus(AccountStatus.OPEN);
 
         toAccount = new Account();
         toAccount.setId(2L);
-        toAccount.setBalance(new BigDecimal("500.00"));
+        toAccount.setBalance(Money.of(new BigDecimal("500.00"), Currency.USD));
         toAccount.setStatus(AccountStatus.OPEN);
     }
 
     @Test
     void transferFunds_Success() throws SQLException {
         // Arrange
-        fromAccount.setCurrency(Currency.USD);
-        toAccount.setCurrency(Currency.USD);
-        when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.of(fromAccount));
-        when(accountRepositoryImpl.findById(2L)).thenReturn(Optional.of(toAccount));
+        when(accountRepositoryImpl.debit(1L, Money.of(new BigDecimal("200.00"), Currency.USD))).thenReturn(true);
+        when(accountRepositoryImpl.credit(2L, Money.of(new BigDecimal("200.00"), Currency.USD))).thenReturn(true);
 
         // Act
         accountService.transferFunds(1L, 2L, new BigDecimal("200.00"), Currency.USD);
 
         // Assert
-        assertEquals(new BigDecimal("800.00"), fromAccount.getBalance());
-        assertEquals(new BigDecimal("700.00"), toAccount.getBalance());
-        verify(accountRepositoryImpl, times(1)).update(fromAccount);
-        verify(accountRepositoryImpl, times(1)).update(toAccount);
-        verify(transactionService, times(1)).createTransaction(1L, 2L, TransactionType.TRANSFER, new BigDecimal("200.00"), Currency.USD);
+        verify(accountRepositoryImpl, never()).findById(anyLong());
+        verify(accountRepositoryImpl, never()).update(any());
+        verify(transactionService, times(1)).createTransaction(1L, 2L, TransactionType.TRANSFER, Money.of(new BigDecimal("200.00"), Currency.USD));
         verify(transactionManager, times(1)).beginTransaction();
         verify(transactionManager, times(1)).commitTransaction();
         verify(transactionManager, never()).rollbackTransaction();
     }
 
+    @Test
+    void transferFunds_LocksRowsInIdOrder() throws SQLException {
+        // Arrange
+        when(accountRepositoryImpl.credit(1L, Money.of(new BigDecimal("200.00"), Currency.USD))).thenReturn(true);
+        when(accountRepositoryImpl.debit(2L, Money.of(new BigDecimal("200.00"), Currency.USD))).thenReturn(true);
+
+        // Act
+        accountService.transferFunds(2L, 1L, new BigDecimal("200.00"), Currency.USD);
+
+        // Assert
+        InOrder inOrder = inOrder(accountRepositoryImpl);
+        inOrder.verify(accountRepositoryImpl).credit(1L, Money.of(new BigDecimal("200.00"), Currency.USD));
+        inOrder.verify(accountRepositoryImpl).debit(2L, Money.of(new BigDecimal("200.00"), Currency.USD));
+    }
+
     @Test
     void transferFunds_AccountNotFound() throws SQLException {
         // Arrange
+        when(accountRepositoryImpl.debit(1L, Money.of(new BigDecimal("200.00"), Currency.USD))).thenReturn(false);
         when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -93,12 +126,14 @@ class AccountServiceTest {
     @Test
     void transferFunds_InsufficientFunds() throws SQLException {
         // Arrange
+        fromAccount.setCurrency(Currency.USD);
+        when(accountRepositoryImpl.debit(1L, Money.of(new BigDecimal("1500.00"), Currency.USD))).thenReturn(false);
         when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.of(fromAccount));
-        when(accountRepositoryImpl.findById(2L)).thenReturn(Optional.of(toAccount));
 
         // Act & Assert
         assertThrows(InsufficientFundsException.class, () ->
                 accountService.transferFunds(1L, 2L, new BigDecimal("1500.00"), Currency.USD));
+        verify(accountRepositoryImpl, never()).credit(any(), any());
         verify(transactionManager, times(1)).beginTransaction();
         verify(transactionManager, times(1)).rollbackTransaction();
         verify(transactionManager, never()).commitTransaction();
@@ -107,19 +142,20 @@ class AccountServiceTest {
     @Test
     void depositFunds_Success() throws SQLException {
         // Arrange
-        when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.of(fromAccount));
+        when(accountRepositoryImpl.deposit(1L, 20000L)).thenReturn(Optional.of(Currency.RUB));
 
         // Act
         accountService.depositFunds(1L, new BigDecimal("200.00"));
 
         // Assert
-        assertEquals(new BigDecimal("1200.00"), fromAccount.getBalance());
-        verify(accountRepositoryImpl, times(1)).update(fromAccount);
+        verify(transactionService, times(1)).createTransaction(null, 1L, TransactionType.CREDIT, Money.of(new BigDecimal("200.00"), Currency.RUB));
+        verify(transactionManager, times(1)).commitTransaction();
     }
 
     @Test
     void depositFunds_AccountNotFound() throws SQLException {
         // Arrange
+        when(accountRepositoryImpl.deposit(1L, 20000L)).thenReturn(Optional.empty());
         when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -134,19 +170,79 @@ class AccountServiceTest {
                 accountService.depositFunds(1L, new BigDecimal("-100.00")));
     }
 
+    @Test
+    void payout_PaysValidLegsInLockOrderAndRejectsOthers() throws SQLException {
+        // Arrange
+        fromAccount.setId(5L);
+        fromAccount.setCurrency(Currency.RUB);
+        toAccount.setCurrency(Currency.RUB);
+        Account closedAccount = new Account();
+        closedAccount.setId(3L);
+        closedAccount.setStatus(AccountStatus.CLOSED);
+        closedAccount.setCurrency(Currency.RUB);
+        Account highAccount = new Account();
+        highAccount.setId(9L);
+        highAccount.setStatus(AccountStatus.OPEN);
+        highAccount.setCurrency(Currency.RUB);
+        when(accountRepositoryImpl.findByIds(anyCollection()))
+                .thenReturn(List.of(fromAccount, toAccount, closedAccount, highAccount));
+        when(accountRepositoryImpl.debit(5L, Money.of(new BigDecimal("350.00"), Currency.RUB))).thenReturn(true);
+        when(accountRepositoryImpl.creditAll(any(), eq(Currency.RUB))).thenReturn(List.of());
+        List<PayoutLeg> legs = List.of(
+                new PayoutLeg(9L, new BigDecimal("100.00")),
+                new PayoutLeg(2L, new BigDecimal("200.00")),
+                new PayoutLeg(3L, new BigDecimal("10.00")),
+                new PayoutLeg(2L, new BigDecimal("50.00")),
+                new PayoutLeg(7L, new BigDecimal("10.00")));
+
+        // Act
+        List<PayoutLegResult> results = accountService.payout(5L, legs);
+
+        // Assert
+        assertEquals(List.of(PayoutLegStatus.PAID, PayoutLegStatus.PAID, PayoutLegStatus.REJECTED,
+                        PayoutLegStatus.PAID, PayoutLegStatus.REJECTED),
+                results.stream().map(PayoutLegResult::getStatus).toList());
+        InOrder inOrder = inOrder(accountRepositoryImpl);
+        inOrder.verify(accountRepositoryImpl).creditAll(new TreeMap<>(Map.of(2L, 25000L)), Currency.RUB);
+        inOrder.verify(accountRepositoryImpl).debit(5L, Money.of(new BigDecimal("350.00"), Currency.RUB));
+        inOrder.verify(accountRepositoryImpl).creditAll(new TreeMap<>(Map.of(9L, 10000L)), Currency.RUB);
+        verify(transactionService, times(1)).createTransactions(argThat(ledger -> ledger.size() == 3));
+        verify(transactionManager, times(1)).commitTransaction();
+    }
+
+    @Test
+    void payout_InsufficientFunds_RollsBackWholePayout() throws SQLException {
+        // Arrange
+        fromAccount.setCurrency(Currency.RUB);
+        fromAccount.setBalance(Money.of(new BigDecimal("1000.00"), Currency.RUB));
+        toAccount.setCurrency(Currency.RUB);
+        when(accountRepositoryImpl.findByIds(anyCollection())).thenReturn(List.of(fromAccount, toAccount));
+        when(accountRepositoryImpl.debit(1L, Money.of(new BigDecimal("5000.00"), Currency.RUB))).thenReturn(false);
+        when(accountRepositoryImpl.findById(1L)).thenReturn(Optional.of(fromAccount));
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class, () ->
+                accountService.payout(1L, List.of(new PayoutLeg(2L, new BigDecimal("5000.00")))));
+        verify(accountRepositoryImpl, never()).creditAll(any(), any());
+        verify(transactionService, never()).createTransactions(any());
+        verify(transactionManager, times(1)).rollbackTransaction();
+        verify(transactionManager, never()).commitTransaction();
+    }
+
     @Test
     void createAccount_Success() throws SQLException {
         // Arrange
         Account newAccount = new Account();
         newAccount.setAccountNumber("123456789");
         newAccount.setStatus(AccountStatus.OPEN);
-        newAccount.setBalance(BigDecimal.ZERO);
+        newAccount.setCurrency(Currency.RUB);
 
         // Act
         accountService.createAccount(newAccount);
 
         // Assert
         verify(accountRepositoryImpl, times(1)).save(newAccount);
+        assertEquals(Money.zero(Currency.RUB), newAccount.getBalance());
     }
 
     @Test
@@ -160,4 +256,51 @@ class AccountServiceTest {
         // Assert
         verify(accountRepositoryImpl, times(1)).closeAccount(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchOpenAccounts_TrimsPrefixAndBoundsPage() throws SQLException {
+        // Arrange
+        when(accountRepositoryImpl.searchOpenAccounts("4081", Currency.USD, 1L, 0, 100))
+                .thenReturn(Collections.nCopies(100, toAccount));
+        when(accountRepositoryImpl.searchOpenAccounts("4081", Currency.USD, 1L, 100, 100))
+                .thenReturn(Collections.nCopies(100, fromAccount));
+        when(accountRepositoryImpl.searchOpenAccounts("4081", Currency.USD, 1L, 200, 50))
+                .thenReturn(Collections.nCopies(50, toAccount));
+
+        // Act
+        List<Account> accounts = accountService.searchOpenAccounts(" 4081 ", Currency.USD, 1L, 0, 250);
+
+        // Assert
+        assertEquals(250, accounts.size());
+        assertSame(fromAccount, accounts.get(100));
+    }
+
+    @Test
+    void searchOpenAccounts_ShortPageEndsRange() throws SQLException {
+        // Arrange
+        when(accountRepositoryImpl.searchOpenAccounts(null, null, null, 0, 100)).thenReturn(List.of(toAccount));
+
+        // Act
+        List<Account> accounts = accountService.searchOpenAccounts(null, null, null, 0, 10_000);
+
+        // Assert
+        assertEquals(List.of(toAccount), accounts);
+        verify(accountRepositoryImpl, times(1)).searchOpenAccounts(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void countAccounts_FilteredCountIsBounded() throws SQLException {
+        // Arrange
+        AccountFilter filter = new AccountFilter();
+        filter.setStatus(AccountStatus.OPEN);
+        when(accountRepositoryImpl.count(filter, 10_001)).thenReturn(10_001);
+
+        // Act
+        RowCount rowCount = accountService.countAccounts(filter);
+
+        // Assert
+        assertEquals(10_001L, rowCount.getValue());
+        assertFalse(rowCount.isExact());
+        verifyNoInteractions(cardinalityService);
+    }
+}
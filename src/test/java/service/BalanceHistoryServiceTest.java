@@ -0,0 +1,90 @@
+package service;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.exception.AccountNotFoundException;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.repository.DailyBalanceRepository;
+import com.bankapp.service.BalanceHistoryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHistoryServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+
+    @InjectMocks
+    private BalanceHistoryService balanceHistoryService;
+
+    @Test
+    void findBalanceChart_CarriesBalanceOverDaysWithoutMovement() throws SQLException {
+        // Arrange
+        LocalDate to = FROM.plusDays(9);
+        when(dailyBalanceRepository.findClosingBalance(1L, FROM.minusDays(1))).thenReturn(Optional.of(rub(10_000)));
+        when(dailyBalanceRepository.findDailyBalances(1L, FROM, to)).thenReturn(List.of(
+                day(FROM.plusDays(2), 15_000), day(FROM.plusDays(5), 5_000)));
+
+        // Act
+        List<DailyBalance> chart = balanceHistoryService.findBalanceChart(1L, FROM, to, 100);
+
+        // Assert
+        assertEquals(10, chart.size());
+        assertEquals(rub(10_000), chart.get(1).getClosingBalance());
+        assertEquals(rub(15_000), chart.get(4).getClosingBalance());
+        assertTrue(chart.get(4).getCreditTurnover().isZero());
+        assertEquals(rub(5_000), chart.get(9).getClosingBalance());
+    }
+
+    @Test
+    void findBalanceChart_DownsamplingKeepsEndsAndPeaks() throws SQLException {
+        // Arrange
+        LocalDate to = FROM.plusDays(999);
+        when(dailyBalanceRepository.findClosingBalance(1L, FROM.minusDays(1))).thenReturn(Optional.of(rub(10_000)));
+        List<DailyBalance> rows = new ArrayList<>();
+        rows.add(day(FROM.plusDays(500), 1_000_000));
+        rows.add(day(FROM.plusDays(501), 10_000));
+        when(dailyBalanceRepository.findDailyBalances(1L, FROM, to)).thenReturn(rows);
+
+        // Act
+        List<DailyBalance> chart = balanceHistoryService.findBalanceChart(1L, FROM, to, 50);
+
+        // Assert
+        assertEquals(50, chart.size());
+        assertEquals(FROM, chart.get(0).getDay());
+        assertEquals(to, chart.get(49).getDay());
+        assertTrue(chart.stream().anyMatch(point -> point.getClosingBalance().equals(rub(1_000_000))));
+    }
+
+    @Test
+    void findBalanceAt_UnknownAccount() throws SQLException {
+        // Arrange
+        when(dailyBalanceRepository.findClosingBalance(99L, FROM)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class, () -> balanceHistoryService.findBalanceAt(99L, FROM));
+    }
+
+    private static DailyBalance day(LocalDate day, long closingMinorUnits) {
+        return new DailyBalance(1L, day, rub(0), rub(0), rub(closingMinorUnits));
+    }
+
+    private static Money rub(long minorUnits) {
+        return Money.ofMinor(minorUnits, Currency.RUB);
+    }
+}
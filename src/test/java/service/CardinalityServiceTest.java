@@ -0,0 +1,119 @@
+package service;
+
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.RowCount;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardinalityServiceTest {
+
+    @Mock
+    private ClientRepositoryImpl clientRepositoryImpl;
+
+    @Mock
+    private AccountRepositoryImpl accountRepositoryImpl;
+
+    @Mock
+    private TransactionRepositoryImpl transactionRepositoryImpl;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private CardinalityService cardinalityService;
+
+    @BeforeEach
+    void setUp() {
+        cardinalityService = new CardinalityService(clientRepositoryImpl, accountRepositoryImpl,
+                transactionRepositoryImpl, transactionManager);
+    }
+
+    private void runAfterCommitImmediately() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(transactionManager).afterCommit(any(Runnable.class));
+    }
+
+    @Test
+    void countClients_LoadsOnceAndFollowsWrites() throws SQLException {
+        // Arrange
+        runAfterCommitImmediately();
+        when(clientRepositoryImpl.estimateCount()).thenReturn(10L);
+        when(clientRepositoryImpl.count()).thenReturn(12);
+
+        // Act
+        RowCount first = cardinalityService.countClients();
+        cardinalityService.clientCreated();
+        RowCount second = cardinalityService.countClients();
+
+        // Assert
+        assertEquals(12, first.getValue());
+        assertTrue(first.isExact());
+        assertEquals(13, second.getValue());
+        verify(clientRepositoryImpl, times(1)).count();
+    }
+
+    @Test
+    void countTransactions_UsesEstimateForLargeTable() throws SQLException {
+        // Arrange
+        when(transactionRepositoryImpl.estimateCount()).thenReturn(50_000_000L);
+
+        // Act
+        RowCount result = cardinalityService.countTransactions();
+
+        // Assert
+        assertEquals(50_000_000L, result.getValue());
+        assertFalse(result.isExact());
+        assertEquals(Integer.MAX_VALUE, new RowCount(5_000_000_000L, false).toInt());
+        verify(transactionRepositoryImpl, never()).count();
+    }
+
+    @Test
+    void countAccounts_WriteBeforeCommitIsNotCounted() throws SQLException {
+        // Arrange
+        when(accountRepositoryImpl.estimateCount()).thenReturn(-1L);
+        when(accountRepositoryImpl.count()).thenReturn(3);
+
+        // Act
+        cardinalityService.countAccounts();
+        cardinalityService.accountCreated();
+        RowCount result = cardinalityService.countAccounts();
+
+        // Assert
+        assertEquals(3, result.getValue());
+        verify(transactionManager, times(1)).afterCommit(any(Runnable.class));
+    }
+
+    @Test
+    void hasOpenAccounts_CachedUntilAccountClosed() throws SQLException {
+        // Arrange
+        runAfterCommitImmediately();
+        when(accountRepositoryImpl.hasOpenAccounts()).thenReturn(true, false);
+
+        // Act
+        boolean first = cardinalityService.hasOpenAccounts();
+        boolean cached = cardinalityService.hasOpenAccounts();
+        cardinalityService.accountClosed();
+        boolean afterClose = cardinalityService.hasOpenAccounts();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(cached);
+        assertFalse(afterClose);
+        verify(accountRepositoryImpl, times(2)).hasOpenAccounts();
+    }
+}
@@ -0,0 +1,64 @@
+package service;
+
+import com.bankapp.model.ClientSummary;
+import com.bankapp.service.ClientSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSearchIndexTest {
+
+    private ClientSearchIndex index;
+
+    private final ClientSummary petrov = new ClientSummary(1L, "Петров Иван Сергеевич", "+79001112233",
+            "770000000001", "Москва");
+    private final ClientSummary ivanova = new ClientSummary(2L, "Иванова Алёна Петровна", "+79004445566",
+            "770000000002", "Казань");
+    private final ClientSummary sidorov = new ClientSummary(3L, "Сидоров Пётр", "+79007778899",
+            "770000000001", "Тверь");
+
+    @BeforeEach
+    void setUp() {
+        index = new ClientSearchIndex();
+        index.rebuild(List.of(petrov, ivanova, sidorov));
+    }
+
+    @Test
+    void search_ByWordPrefixesInAnyOrder() {
+        // Act & Assert
+        assertEquals(List.of(ivanova, petrov), index.search("иван", 0, 10));
+        assertEquals(List.of(petrov), index.search("иван серг", 0, 10));
+        assertEquals(List.of(ivanova), index.search("Алена", 0, 10));
+        assertEquals(List.of(ivanova, petrov, sidorov), index.search(" ", 0, 10));
+        assertEquals(List.of(petrov), index.search("", 1, 1));
+        assertTrue(index.search("Смирнов", 0, 10).isEmpty());
+    }
+
+    @Test
+    void search_ByExactPhoneOrInn() {
+        // Act & Assert
+        assertEquals(List.of(ivanova), index.search("8 (900) 444-55-66", 0, 10));
+        assertEquals(List.of(petrov, sidorov), index.search("770000000001", 0, 10));
+        assertTrue(index.search("7900111", 0, 10).isEmpty());
+        assertEquals(List.of(sidorov), index.search("770000000001", 1, 10));
+    }
+
+    @Test
+    void put_ReplacesPreviousClientData() {
+        // Arrange
+        ClientSummary renamed = new ClientSummary(1L, "Кузнецов Иван", "+79001110000", "770000000009", "Москва");
+
+        // Act
+        index.put(renamed);
+
+        // Assert
+        assertTrue(index.search("сергеевич", 0, 10).isEmpty());
+        assertTrue(index.search("+79001112233", 0, 10).isEmpty());
+        assertEquals(List.of(sidorov), index.search("770000000001", 0, 10));
+        assertEquals(List.of(renamed), index.search("кузн", 0, 10));
+        assertEquals(3, index.size());
+    }
+}
@@ -1,8 +1,13 @@
 package service;
 
 import com.bankapp.model.Client;
+import com.bankapp.model.ClientSummary;
 import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.ClientSearchIndex;
 import com.bankapp.service.ClientService;
+import com.bankapp.service.RowCount;
+import com.bankapp.storage.DocumentStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,12 +15,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +33,15 @@ class ClientServiceTest {
     @Mock
     private ClientRepositoryImpl clientRepositoryImpl;
 
+    @Mock
+    private CardinalityService cardinalityService;
+
+    @Mock
+    private DocumentStore documentStore;
+
+    @Mock
+    private ClientSearchIndex clientSearchIndex;
+
     @InjectMocks
     private ClientService clientService;
 
@@ -47,59 +65,78 @@ class ClientServiceTest {
 
         // Assert
         verify(clientRepositoryImpl, times(1)).save(client);
+        verify(cardinalityService, times(1)).clientCreated();
+        verify(clientSearchIndex, times(1)).put(ClientSummary.of(client));
+    }
+
+    @Test
+    void createClient_StoresPassportScanOutsideDatabase() throws SQLException, IOException {
+        // Arrange
+        client.setPassportScanCopy(new byte[]{1, 2, 3});
+        when(documentStore.put(any())).thenReturn("a".repeat(64));
+
+        // Act
+        clientService.createClient(client);
+
+        // Assert
+        assertEquals("a".repeat(64), client.getPassportScanRef());
+        assertNull(client.getPassportScanCopy());
+        verify(clientRepositoryImpl, times(1)).save(client);
     }
 
     @Test
     void hasClients_True() throws SQLException {
         // Arrange
-        when(clientRepositoryImpl.hasClients()).thenReturn(true);
+        when(cardinalityService.hasClients()).thenReturn(true);
 
         // Act
         boolean result = clientService.hasClients();
 
         // Assert
         assertTrue(result);
-        verify(clientRepositoryImpl, times(1)).hasClients();
+        verify(cardinalityService, times(1)).hasClients();
     }
 
     @Test
     void hasClients_False() throws SQLException {
         // Arrange
-        when(clientRepositoryImpl.hasClients()).thenReturn(false);
+        when(cardinalityService.hasClients()).thenReturn(false);
 
         // Act
         boolean result = clientService.hasClients();
 
         // Assert
         assertFalse(result);
-        verify(clientRepositoryImpl, times(1)).hasClients();
+        verify(cardinalityService, times(1)).hasClients();
     }
 
     @Test
     void findClients_Success() throws SQLException {
         // Arrange
-        when(clientRepositoryImpl.findClients(0, 10, Collections.emptyList())).thenReturn(List.of(client));
+        ClientSummary summary = ClientSummary.of(client);
+        when(clientRepositoryImpl.findClients(0, 10, Collections.emptyList())).thenReturn(List.of(summary));
 
         // Act
-        List<Client> result = clientService.findClients(0, 10, Collections.emptyList());
+        List<ClientSummary> result = clientService.findClients(0, 10, Collections.emptyList());
 
         // Assert
         assertEquals(1, result.size());
-        assertEquals(client, result.get(0));
+        assertEquals(summary, result.get(0));
         verify(clientRepositoryImpl, times(1)).findClients(0, 10, Collections.emptyList());
     }
 
     @Test
     void countClients_Success() throws SQLException {
         // Arrange
-        when(clientRepositoryImpl.count()).thenReturn(5);
+        when(cardinalityService.countClients()).thenReturn(new RowCount(5, true));
 
         // Act
-        int result = clientService.countClients();
+        RowCount result = clientService.countClients();
 
         // Assert
-        assertEquals(5, result);
-        verify(clientRepositoryImpl, times(1)).count();
+        assertEquals(5, result.getValue());
+        assertTrue(result.isExact());
+        verify(clientRepositoryImpl, never()).count();
     }
 
     @Test
@@ -118,15 +155,33 @@ class ClientServiceTest {
     @Test
     void findAllClients_Success() throws SQLException {
         // Arrange
-        when(clientRepositoryImpl.findAll()).thenReturn(List.of(client));
+        ClientSummary summary = ClientSummary.of(client);
+        when(clientRepositoryImpl.findSummaries()).thenReturn(List.of(summary));
 
         // Act
-        List<Client> result = clientService.findAllClients();
+        List<ClientSummary> result = clientService.findAllClients();
 
         // Assert
         assertEquals(1, result.size());
-        assertEquals(client, result.get(0));
-        verify(clientRepositoryImpl, times(1)).findAll();
+        assertEquals(summary, result.get(0));
+        verify(clientRepositoryImpl, times(1)).findSummaries();
+        verify(clientRepositoryImpl, never()).findAll();
+    }
+
+    @Test
+    void rebuildSearchIndex_StreamsSummariesAndClosesCursor() throws SQLException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<ClientSummary> summaries = Stream.of(ClientSummary.of(client)).onClose(() -> closed.set(true));
+        when(clientRepositoryImpl.streamSummaries()).thenReturn(summaries);
+
+        // Act
+        clientService.rebuildSearchIndex();
+
+        // Assert
+        verify(clientSearchIndex, times(1)).rebuild(summaries);
+        verify(clientRepositoryImpl, never()).findSummaries();
+        assertTrue(closed.get());
     }
 
     @Test
@@ -139,5 +194,6 @@ class ClientServiceTest {
 
         // Assert
         verify(clientRepositoryImpl, times(1)).update(client);
+        verify(clientSearchIndex, times(1)).put(ClientSummary.of(client));
     }
 }
\ No newline at end of file
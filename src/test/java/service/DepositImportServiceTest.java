@@ -0,0 +1,87 @@
+package service;
+
+import com.bankapp.exception.DataAccessException;
+import com.bankapp.model.DepositImportResult;
+import com.bankapp.repository.DepositImportRepository;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.DepositImportService;
+import com.bankapp.utils.ConnectionPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepositImportServiceTest {
+
+    @Mock
+    private ConnectionPool connectionPool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DepositImportRepository depositImportRepository;
+
+    @Mock
+    private CardinalityService cardinalityService;
+
+    private DepositImportService depositImportService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        depositImportService = new DepositImportService(connectionPool, depositImportRepository, cardinalityService, 100);
+        when(connectionPool.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void importDeposits_AppliesChunksAndCountsRejects() throws SQLException, IOException {
+        // Arrange
+        when(depositImportRepository.copyIn(eq(connection), any())).thenReturn(250L);
+        when(depositImportRepository.applyChunk(connection, 1, 101)).thenReturn(100);
+        when(depositImportRepository.applyChunk(connection, 101, 201)).thenReturn(95);
+        when(depositImportRepository.applyChunk(connection, 201, 301)).thenReturn(48);
+
+        // Act
+        DepositImportResult result = depositImportService.importDeposits(
+                new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(250, result.getTotalRows());
+        assertEquals(243, result.getCreditedRows());
+        assertEquals(7, result.getRejectedRows());
+        verify(connection, times(3)).commit();
+        verify(depositImportRepository, times(3)).lockAccounts(eq(connection), anyLong(), anyLong());
+        verify(cardinalityService).transactionsCreated(48);
+        verify(depositImportRepository).dropStage(connection);
+    }
+
+    @Test
+    void importDeposits_ChunkFailure_RollsBackChunkAndDropsStage() throws SQLException, IOException {
+        // Arrange
+        when(depositImportRepository.copyIn(eq(connection), any())).thenReturn(150L);
+        when(depositImportRepository.applyChunk(connection, 1, 101)).thenReturn(100);
+        when(depositImportRepository.applyChunk(connection, 101, 201)).thenThrow(new SQLException("deadlock"));
+
+        // Act & Assert
+        assertThrows(DataAccessException.class, () -> depositImportService.importDeposits(
+                new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream()));
+        verify(connection, times(1)).commit();
+        verify(connection, times(1)).rollback();
+        verify(depositImportRepository, never()).copyRejectsOut(any(), any());
+        verify(depositImportRepository).dropStage(connection);
+    }
+}
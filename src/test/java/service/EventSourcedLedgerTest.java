@@ -0,0 +1,157 @@
+package service;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+import com.bankapp.exception.InsufficientFundsException;
+import com.bankapp.model.Account;
+import com.bankapp.model.LedgerPosting;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.BalanceSnapshotRepository;
+import com.bankapp.service.EventSourcedLedger;
+import com.bankapp.service.TransactionService;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedLedgerTest {
+
+    @Mock
+    private AccountRepositoryImpl accountRepositoryImpl;
+
+    @Mock
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private EventSourcedLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new EventSourcedLedger(accountRepositoryImpl, balanceSnapshotRepository, transactionService,
+                transactionManager);
+    }
+
+    private static Account account(long id) {
+        Account account = new Account();
+        account.setId(id);
+        account.setStatus(AccountStatus.OPEN);
+        account.setCurrency(Currency.RUB);
+        return account;
+    }
+
+    private static Money rub(String amount) {
+        return Money.of(new BigDecimal(amount), Currency.RUB);
+    }
+
+    @Test
+    void post_TransferAppendsToJournalUnderAccountLock() throws Exception {
+        // Arrange
+        when(accountRepositoryImpl.findByIds(anyCollection())).thenReturn(List.of(account(1L), account(2L)));
+        when(balanceSnapshotRepository.findBalance(1L)).thenReturn(Optional.of(rub("100.00")));
+
+        // Act
+        ledger.post(LedgerPosting.transfer(1L, 2L, rub("70.00")));
+
+        // Assert
+        InOrder inOrder = inOrder(transactionManager, balanceSnapshotRepository, transactionService);
+        inOrder.verify(transactionManager).beginTransaction();
+        inOrder.verify(balanceSnapshotRepository).lockAccount(1L);
+        inOrder.verify(balanceSnapshotRepository).holdOpen(Set.of(1L, 2L));
+        inOrder.verify(balanceSnapshotRepository).findBalance(1L);
+        inOrder.verify(transactionService).appendTransactions(argThat(ledger -> ledger.size() == 1
+                && ledger.get(0).getFromAccount().equals(1L)
+                && ledger.get(0).getAmount().equals(rub("70.00"))));
+        inOrder.verify(transactionManager).commitTransaction();
+        verify(accountRepositoryImpl, never()).debit(any(), any());
+        verify(accountRepositoryImpl, never()).credit(any(), any());
+    }
+
+    @Test
+    void post_PayoutOverBalanceRejectedWithoutAppending() throws Exception {
+        // Arrange
+        when(accountRepositoryImpl.findByIds(anyCollection()))
+                .thenReturn(List.of(account(1L), account(2L), account(3L)));
+        when(balanceSnapshotRepository.findBalance(1L)).thenReturn(Optional.of(rub("100.00")));
+        List<Transaction> payout = List.of(
+                new Transaction(1L, 2L, rub("60.00"), null, TransactionType.TRANSFER),
+                new Transaction(1L, 3L, rub("50.00"), null, TransactionType.TRANSFER));
+
+        // Act & Assert
+        assertThrows(InsufficientFundsException.class, () -> ledger.post(1L, payout));
+        verify(transactionService, never()).appendTransactions(any());
+        verify(transactionManager).rollbackTransaction();
+    }
+
+    @Test
+    void post_DepositTakesAccountCurrencyAndSkipsLock() throws Exception {
+        // Arrange
+        Account target = account(2L);
+        target.setCurrency(Currency.USD);
+        when(accountRepositoryImpl.findByIds(anyCollection())).thenReturn(List.of(target));
+
+        // Act
+        ledger.post(LedgerPosting.deposit(2L, 1_500));
+
+        // Assert
+        verify(balanceSnapshotRepository, never()).lockAccount(any());
+        verify(transactionService).appendTransactions(argThat(ledger -> ledger.size() == 1
+                && ledger.get(0).getFromAccount() == null
+                && ledger.get(0).getAmount().equals(Money.ofMinor(1_500, Currency.USD))));
+        verify(transactionManager).commitTransaction();
+    }
+
+    @Test
+    void close_RightAfterDeposit_RefusedByJournalBalance() throws Exception {
+        // Arrange
+        when(accountRepositoryImpl.findByIds(anyCollection())).thenReturn(List.of(account(2L)));
+        ledger.post(LedgerPosting.deposit(2L, 1_500));
+        // accounts.balance еще нулевой, остаток по журналу уже включает зачисление
+        when(balanceSnapshotRepository.findBalance(2L)).thenReturn(Optional.of(rub("15.00")));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> ledger.close(2L));
+        verify(accountRepositoryImpl, never()).closeAccount(any());
+        verify(transactionManager).rollbackTransaction();
+    }
+
+    @Test
+    void close_ZeroBalanceClosedUnderCloseLock() throws Exception {
+        // Arrange
+        when(balanceSnapshotRepository.findBalance(2L)).thenReturn(Optional.of(rub("0.00")));
+
+        // Act
+        ledger.close(2L);
+
+        // Assert
+        InOrder inOrder = inOrder(transactionManager, balanceSnapshotRepository, accountRepositoryImpl);
+        inOrder.verify(transactionManager).beginTransaction();
+        inOrder.verify(balanceSnapshotRepository).lockAccount(2L);
+        inOrder.verify(balanceSnapshotRepository).lockForClose(2L);
+        inOrder.verify(balanceSnapshotRepository).findBalance(2L);
+        inOrder.verify(accountRepositoryImpl).closeAccount(2L);
+        inOrder.verify(transactionManager).commitTransaction();
+    }
+}
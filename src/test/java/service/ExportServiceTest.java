@@ -0,0 +1,113 @@
+package service;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.TransactionType;
+import com.bankapp.model.Account;
+import com.bankapp.model.ClientSummary;
+import com.bankapp.model.Money;
+import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.repository.DailyBalanceRepository;
+import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private AccountRepositoryImpl accountRepositoryImpl;
+
+    @Mock
+    private TransactionRepositoryImpl transactionRepositoryImpl;
+
+    @Mock
+    private ClientRepositoryImpl clientRepositoryImpl;
+
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Test
+    void writeAccountStatement_ClosingBalanceFollowsRows() throws SQLException, IOException {
+        // Arrange
+        Account account = new Account();
+        account.setId(5L);
+        account.setAccountNumber("ACC5");
+        account.setCurrency(Currency.RUB);
+        account.setStatus(AccountStatus.OPEN);
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        when(accountRepositoryImpl.findById(5L)).thenReturn(Optional.of(account));
+        when(dailyBalanceRepository.findClosingBalance(5L, from.minusDays(1)))
+                .thenReturn(Optional.of(Money.of(new BigDecimal("100.00"), Currency.RUB)));
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepositoryImpl.streamAccountHistory(argThat((TransactionFilter filter) ->
+                filter.getAccountId() == 5L && from.equals(filter.getDateFrom()) && to.equals(filter.getDateTo()))))
+                .thenReturn(Stream.of(
+                        transaction(null, 5L, "50.25", TransactionType.CREDIT),
+                        transaction(5L, 7L, "30.00", TransactionType.TRANSFER)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.writeAccountStatement(5L, from, to, out);
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFFВыписка по счету;ACC5;RUB\r\n"));
+        assertTrue(csv.contains("Входящий остаток;100.00\r\n"));
+        assertTrue(csv.contains("2026-03-10 12:00:00;Зачисление;;5;50.25;\r\n"));
+        assertTrue(csv.contains("2026-03-10 12:00:00;Перевод;5;7;;30.00\r\n"));
+        assertTrue(csv.endsWith("Итого приход;50.25\r\nИтого расход;30.00\r\nИсходящий остаток;120.25\r\n"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void writeClients_QuotesSeparatorsAndNeutralizesFormulas() throws SQLException, IOException {
+        // Arrange
+        ClientSummary client = new ClientSummary(1L, "=HYPERLINK(\"x\")", "+79990000000", "7701", "Москва; ул. Ленина");
+        when(clientRepositoryImpl.streamSummaries()).thenReturn(Stream.of(client));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.writeClients(out);
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.endsWith("1;\"'=HYPERLINK(\"\"x\"\")\";'+79990000000;7701;\"Москва; ул. Ленина\"\r\n"));
+    }
+
+    private static Transaction transaction(Long from, Long to, String amount, TransactionType type) {
+        Transaction transaction = new Transaction();
+        transaction.setFromAccount(from);
+        transaction.setToAccount(to);
+        transaction.setAmount(Money.of(new BigDecimal(amount), Currency.RUB));
+        transaction.setTransactionDate(LocalDateTime.of(2026, 3, 10, 12, 0));
+        transaction.setStatus(type);
+        return transaction;
+    }
+}
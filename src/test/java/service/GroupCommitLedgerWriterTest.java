@@ -0,0 +1,121 @@
+package service;
+
+import com.bankapp.enums.AccountStatus;
+import com.bankapp.enums.Currency;
+import com.bankapp.exception.InsufficientFundsException;
+import com.bankapp.model.Account;
+import com.bankapp.model.LedgerPosting;
+import com.bankapp.model.Money;
+import com.bankapp.repository.AccountRepositoryImpl;
+import com.bankapp.service.GroupCommitLedgerWriter;
+import com.bankapp.service.LedgerWriterStatistics;
+import com.bankapp.service.TransactionService;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitLedgerWriterTest {
+
+    @Mock
+    private AccountRepositoryImpl accountRepositoryImpl;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private GroupCommitLedgerWriter ledgerWriter;
+
+    @BeforeEach
+    void setUp() {
+        // Большое ожидание: три проводки теста гарантированно попадают в одну группу
+        ledgerWriter = new GroupCommitLedgerWriter(accountRepositoryImpl, transactionService, transactionManager,
+                3, TimeUnit.SECONDS.toMicros(5));
+        ledgerWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerWriter.stop();
+    }
+
+    private static Account account(long id, String balance) {
+        Account account = new Account();
+        account.setId(id);
+        account.setBalance(Money.of(new BigDecimal(balance), Currency.RUB));
+        account.setStatus(AccountStatus.OPEN);
+        account.setCurrency(Currency.RUB);
+        return account;
+    }
+
+    @Test
+    void submit_WritesGroupInOneTransactionAndRejectsOverdraft() throws Exception {
+        // Arrange
+        when(accountRepositoryImpl.findByIdsForUpdate(anyCollection()))
+                .thenReturn(List.of(account(1L, "100.00"), account(2L, "0.00")));
+
+        // Act
+        CompletableFuture<Void> first = ledgerWriter.submit(LedgerPosting.transfer(1L, 2L, Money.of(new BigDecimal("70.00"), Currency.RUB)));
+        CompletableFuture<Void> second = ledgerWriter.submit(LedgerPosting.transfer(1L, 2L, Money.of(new BigDecimal("40.00"), Currency.RUB)));
+        CompletableFuture<Void> third = ledgerWriter.submit(LedgerPosting.deposit(1L, 500L));
+
+        // Assert
+        assertNull(first.get(5, TimeUnit.SECONDS));
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InsufficientFundsException.class, rejected.getCause());
+        assertNull(third.get(5, TimeUnit.SECONDS));
+
+        verify(transactionManager, times(1)).beginTransaction();
+        verify(transactionManager, times(1)).commitTransaction();
+        verify(accountRepositoryImpl).applyBalanceDeltas(new TreeMap<>(Map.of(
+                1L, -6500L, 2L, 7000L)));
+        verify(transactionService).createTransactions(argThat(ledger -> ledger.size() == 2));
+        LedgerWriterStatistics statistics = ledgerWriter.getStatistics();
+        assertEquals(1, statistics.getBatches());
+        assertEquals(3, statistics.getMaxBatchSize());
+        assertEquals(1, statistics.getRejected());
+    }
+
+    @Test
+    void submit_FailedGroupIsRetriedPostingByPosting() throws Exception {
+        // Arrange
+        when(accountRepositoryImpl.findByIdsForUpdate(anyCollection()))
+                .thenReturn(List.of(account(1L, "100.00"), account(2L, "0.00")));
+        doThrow(new SQLException("serialization failure")).doNothing()
+                .when(accountRepositoryImpl).applyBalanceDeltas(any());
+
+        // Act
+        CompletableFuture<Void> first = ledgerWriter.submit(LedgerPosting.deposit(1L, 100L));
+        CompletableFuture<Void> second = ledgerWriter.submit(LedgerPosting.deposit(2L, 200L));
+        CompletableFuture<Void> third = ledgerWriter.submit(LedgerPosting.deposit(2L, 300L));
+
+        // Assert
+        assertNull(first.get(5, TimeUnit.SECONDS));
+        assertNull(second.get(5, TimeUnit.SECONDS));
+        assertNull(third.get(5, TimeUnit.SECONDS));
+        verify(transactionManager, times(1)).rollbackTransaction();
+        verify(transactionManager, times(3)).commitTransaction();
+        assertEquals(1, ledgerWriter.getStatistics().getFallbackBatches());
+    }
+}
@@ -0,0 +1,169 @@
+package service;
+
+import com.bankapp.enums.Currency;
+import com.bankapp.enums.MismatchType;
+import com.bankapp.model.DailyBalance;
+import com.bankapp.model.Money;
+import com.bankapp.model.ReconciliationReport;
+import com.bankapp.model.TablePartition;
+import com.bankapp.repository.PartitionRepository;
+import com.bankapp.repository.ReconciliationRepository;
+import com.bankapp.service.LedgerReconciliationJob;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerReconciliationJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-10T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate DAY1 = LocalDate.of(2026, 3, 8);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 3, 9);
+
+    @Mock
+    private ReconciliationRepository reconciliationRepository;
+
+    @Mock
+    private PartitionRepository partitionRepository;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Test
+    void run_UnchangedRangeIsNotVerifiedAgainstJournalAgain() throws SQLException {
+        // Arrange
+        LedgerReconciliationJob job = new LedgerReconciliationJob(reconciliationRepository, partitionRepository,
+                transactionManager, CLOCK, 10, 2);
+        when(reconciliationRepository.findMaxAccountId()).thenReturn(3L);
+        when(reconciliationRepository.streamDailyBalances(0, 10)).thenAnswer(invocation -> Stream.of(
+                day(1L, DAY1, 10_000, 0, 10_000), day(1L, DAY2, 5_000, 0, 15_000)));
+        when(reconciliationRepository.findBalanceMismatches(0, 10)).thenReturn(Collections.emptyList());
+        when(reconciliationRepository.findRangeHash(0)).thenReturn(Optional.empty());
+        when(reconciliationRepository.findCheckpoints(0)).thenReturn(Collections.emptyMap());
+        when(reconciliationRepository.findTurnoverMismatches(0, 10, DAY1, DAY2.plusDays(1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ReconciliationReport first = job.run(false);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<LocalDate, byte[]>> leaves = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<byte[]> root = ArgumentCaptor.forClass(byte[].class);
+        verify(reconciliationRepository).saveCheckpoints(eq(0L), eq(10L), leaves.capture(), anyCollection(), root.capture());
+        when(reconciliationRepository.findRangeHash(0)).thenReturn(Optional.of(root.getValue()));
+        ReconciliationReport second = job.run(false);
+
+        // Assert
+        assertEquals(0, first.getMismatchCount());
+        assertEquals(2, first.getVerifiedDays());
+        assertEquals(2, leaves.getValue().size());
+        assertEquals(1, second.getSkippedRanges());
+        assertEquals(first.getRootHash(), second.getRootHash());
+        verify(reconciliationRepository, times(1)).findTurnoverMismatches(anyLong(), anyLong(), any(), any());
+        verify(transactionManager, times(1)).commitTransaction();
+    }
+
+    @Test
+    void run_BrokenClosingBalanceIsReportedAndNotCheckpointed() throws SQLException {
+        // Arrange
+        LedgerReconciliationJob job = new LedgerReconciliationJob(reconciliationRepository, partitionRepository,
+                transactionManager, CLOCK, 10, 2);
+        when(reconciliationRepository.findMaxAccountId()).thenReturn(3L);
+        // Потерянное обновление: приход 50.00 есть в оборотах, но не в остатке
+        when(reconciliationRepository.streamDailyBalances(0, 10)).thenAnswer(invocation -> Stream.of(
+                day(1L, DAY1, 10_000, 0, 10_000), day(1L, DAY2, 5_000, 0, 10_000)));
+        when(reconciliationRepository.findBalanceMismatches(0, 10)).thenReturn(Collections.emptyList());
+        when(reconciliationRepository.findRangeHash(0)).thenReturn(Optional.empty());
+        when(reconciliationRepository.findCheckpoints(0)).thenReturn(Collections.emptyMap());
+        when(reconciliationRepository.findTurnoverMismatches(0, 10, DAY1, DAY2.plusDays(1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ReconciliationReport report = job.run(false);
+
+        // Assert
+        assertEquals(1, report.getMismatchCount());
+        assertEquals(MismatchType.CLOSING_BALANCE, report.getMismatches().get(0).getType());
+        assertEquals(Money.ofMinor(15_000, Currency.RUB), report.getMismatches().get(0).getExpected());
+        verify(reconciliationRepository).saveCheckpoints(eq(0L), eq(10L),
+                argThat(saved -> saved.size() == 1 && saved.containsKey(DAY1)), anyCollection(), any());
+    }
+
+    @Test
+    void run_NonZeroOpeningOfFirstDayIsReported() throws SQLException {
+        // Arrange
+        LedgerReconciliationJob job = new LedgerReconciliationJob(reconciliationRepository, partitionRepository,
+                transactionManager, CLOCK, 10, 2);
+        when(reconciliationRepository.findMaxAccountId()).thenReturn(3L);
+        // Остатки пересчитаны от accounts.balance с потерянным приходом 30.00: цепочка дней сходится,
+        // но первый день начинается не с нуля
+        when(reconciliationRepository.streamDailyBalances(0, 10)).thenAnswer(invocation -> Stream.of(
+                day(1L, DAY1, 10_000, 0, 7_000), day(1L, DAY2, 5_000, 0, 12_000), day(2L, DAY2, 2_000, 0, 2_000)));
+        when(reconciliationRepository.findBalanceMismatches(0, 10)).thenReturn(Collections.emptyList());
+        when(reconciliationRepository.findRangeHash(0)).thenReturn(Optional.empty());
+        when(reconciliationRepository.findCheckpoints(0)).thenReturn(Collections.emptyMap());
+        when(reconciliationRepository.findTurnoverMismatches(0, 10, DAY1, DAY2.plusDays(1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ReconciliationReport report = job.run(false);
+
+        // Assert
+        assertEquals(1, report.getMismatchCount());
+        assertEquals(MismatchType.OPENING_BALANCE, report.getMismatches().get(0).getType());
+        assertEquals(1L, report.getMismatches().get(0).getAccountId());
+        assertEquals(Money.ofMinor(-3_000, Currency.RUB), report.getMismatches().get(0).getActual());
+    }
+
+    @Test
+    void run_FullRunSkipsDaysOfDetachedPartitions() throws SQLException {
+        // Arrange
+        LedgerReconciliationJob job = new LedgerReconciliationJob(reconciliationRepository, partitionRepository,
+                transactionManager, CLOCK, 10, 2);
+        // Секция с проводками DAY1 отсоединена, журнал начинается с DAY2
+        when(partitionRepository.findPartitions("transactions")).thenReturn(List.of(
+                new TablePartition("transactions_default", null, null, true),
+                new TablePartition("transactions_p2026_03_09", DAY2.atStartOfDay(), DAY2.plusDays(1).atStartOfDay(), false)));
+        when(reconciliationRepository.findMaxAccountId()).thenReturn(3L);
+        when(reconciliationRepository.streamDailyBalances(0, 10)).thenAnswer(invocation -> Stream.of(
+                day(1L, DAY1, 10_000, 0, 10_000), day(1L, DAY2, 5_000, 0, 15_000)));
+        when(reconciliationRepository.findBalanceMismatches(0, 10)).thenReturn(Collections.emptyList());
+        when(reconciliationRepository.findRangeHash(0)).thenReturn(Optional.empty());
+        when(reconciliationRepository.findCheckpoints(0)).thenReturn(Map.of(DAY1, new byte[32]));
+        when(reconciliationRepository.findTurnoverMismatches(0, 10, DAY2, DAY2.plusDays(1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ReconciliationReport report = job.run(true);
+
+        // Assert
+        assertEquals(0, report.getMismatchCount());
+        assertEquals(1, report.getVerifiedDays());
+        verify(reconciliationRepository, times(1)).findTurnoverMismatches(anyLong(), anyLong(), any(), any());
+        verify(reconciliationRepository).saveCheckpoints(eq(0L), eq(10L),
+                argThat(saved -> saved.size() == 1 && saved.containsKey(DAY2)),
+                argThat(removed -> removed.isEmpty()), any());
+    }
+
+    private static DailyBalance day(Long accountId, LocalDate day, long credit, long debit, long closing) {
+        return new DailyBalance(accountId, day, Money.ofMinor(credit, Currency.RUB), Money.ofMinor(debit, Currency.RUB),
+                Money.ofMinor(closing, Currency.RUB));
+    }
+}
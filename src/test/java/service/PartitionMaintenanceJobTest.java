@@ -0,0 +1,104 @@
+package service;
+
+import com.bankapp.model.TablePartition;
+import com.bankapp.repository.PartitionRepository;
+import com.bankapp.service.PartitionMaintenanceJob;
+import com.bankapp.utils.TransactionManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private PartitionRepository partitionRepository;
+
+    @Mock
+    private TransactionManager transactionManager;
+
+    private static LocalDateTime month(int year, int month) {
+        return LocalDateTime.of(year, month, 1, 0, 0);
+    }
+
+    @Test
+    void run_CreatesMissingFuturePartitions() throws SQLException {
+        // Arrange
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(partitionRepository, transactionManager, CLOCK, 3, 0);
+        when(partitionRepository.findPartitions("transactions")).thenReturn(List.of(
+                new TablePartition("transactions_legacy", null, month(2025, 3), false),
+                new TablePartition("transactions_p2025_03", month(2025, 3), month(2025, 4), false),
+                new TablePartition("transactions_p2025_04", month(2025, 4), month(2025, 5), false),
+                new TablePartition("transactions_default", null, null, true)));
+
+        // Act
+        job.run();
+
+        // Assert
+        verify(partitionRepository).createPartition(eq("transactions"), eq("transactions_p2025_05"),
+                eq(month(2025, 5)), eq(month(2025, 6)), anyLong());
+        verify(partitionRepository).createPartition(eq("transactions"), eq("transactions_p2025_06"),
+                eq(month(2025, 6)), eq(month(2025, 7)), anyLong());
+        verify(partitionRepository, times(2)).createPartition(anyString(), anyString(), any(), any(), anyLong());
+        verify(transactionManager, times(2)).commitTransaction();
+        verify(partitionRepository, never()).detachPartition(anyString(), anyString(), anyLong());
+        verify(partitionRepository).countRows("transactions_default");
+    }
+
+    @Test
+    void run_DetachesExpiredPartitionsAndKeepsGoingOnLockTimeout() throws SQLException {
+        // Arrange
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(partitionRepository, transactionManager, CLOCK, 0, 2);
+        when(partitionRepository.findPartitions("transactions")).thenReturn(List.of(
+                new TablePartition("transactions_legacy", null, month(2024, 12), false),
+                new TablePartition("transactions_p2024_12", month(2024, 12), month(2025, 1), false),
+                new TablePartition("transactions_p2025_01", month(2025, 1), month(2025, 2), false),
+                new TablePartition("transactions_p2025_02", month(2025, 2), month(2025, 3), false),
+                new TablePartition("transactions_p2025_03", month(2025, 3), month(2025, 4), false)));
+        doThrow(new SQLException("lock timeout"))
+                .when(partitionRepository).detachPartition(eq("transactions"), eq("transactions_legacy"), anyLong());
+
+        // Act
+        job.run();
+
+        // Assert
+        verify(partitionRepository).detachPartition(eq("transactions"), eq("transactions_p2024_12"), anyLong());
+        verify(partitionRepository, never()).detachPartition(eq("transactions"), eq("transactions_p2025_01"), anyLong());
+        verify(transactionManager, times(1)).rollbackTransaction();
+        verify(transactionManager, times(1)).commitTransaction();
+        verify(partitionRepository, never()).createPartition(anyString(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    void run_StopsCreatingPartitionsOnLockTimeout() throws SQLException {
+        // Arrange
+        PartitionMaintenanceJob job = new PartitionMaintenanceJob(partitionRepository, transactionManager, CLOCK, 3, 0);
+        when(partitionRepository.findPartitions("transactions")).thenReturn(List.of(
+                new TablePartition("transactions_legacy", null, month(2025, 3), false),
+                new TablePartition("transactions_p2025_03", month(2025, 3), month(2025, 4), false)));
+        doThrow(new SQLException("lock timeout")).when(partitionRepository)
+                .createPartition(eq("transactions"), eq("transactions_p2025_04"), any(), any(), anyLong());
+
+        // Act
+        job.run();
+
+        // Assert
+        // Без секции за апрель секции следующих месяцев оставили бы пропуск
+        verify(partitionRepository, times(1)).createPartition(anyString(), anyString(), any(), any(), anyLong());
+        verify(transactionManager).rollbackTransaction();
+        verify(transactionManager, never()).commitTransaction();
+    }
+}
@@ -0,0 +1,77 @@
+package service;
+
+import com.bankapp.service.PassportImageProcessor;
+import com.bankapp.service.ProcessedPassportScan;
+import com.bankapp.storage.FileSystemDocumentStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassportImageProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private FileSystemDocumentStore documentStore;
+    private PassportImageProcessor imageProcessor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        documentStore = new FileSystemDocumentStore(directory.resolve("documents"));
+        imageProcessor = new PassportImageProcessor(documentStore, 1, 4, 400, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.stop();
+    }
+
+    @Test
+    void process_DownscalesScanAndStoresThumbnail() throws IOException {
+        // Arrange
+        Path upload = directory.resolve("scan.png");
+        ImageIO.write(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_ARGB), "png", upload.toFile());
+
+        // Act
+        ProcessedPassportScan scan = imageProcessor.process(upload).join();
+
+        // Assert
+        BufferedImage normalized = readStored(scan.getScanRef());
+        BufferedImage thumbnail = readStored(scan.getThumbnailRef());
+        assertEquals(400, normalized.getWidth());
+        assertEquals(267, normalized.getHeight());
+        assertEquals(50, thumbnail.getWidth());
+        assertFalse(Files.exists(upload));
+    }
+
+    @Test
+    void process_NotAnImage_FailsAndRemovesUpload() throws IOException {
+        // Arrange
+        Path upload = directory.resolve("scan.png");
+        Files.writeString(upload, "not an image");
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> imageProcessor.process(upload).join());
+        assertInstanceOf(IOException.class, exception.getCause().getCause());
+        assertFalse(Files.exists(upload));
+    }
+
+    private BufferedImage readStored(String reference) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(documentStore.copyTo(reference, out));
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,90 @@
+package service;
+
+import com.bankapp.repository.ClientRepositoryImpl;
+import com.bankapp.service.PassportScanMigrationJob;
+import com.bankapp.storage.DocumentStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PassportScanMigrationJobTest {
+
+    @Mock
+    private ClientRepositoryImpl clientRepositoryImpl;
+
+    @Mock
+    private DocumentStore documentStore;
+
+    // Заглушка репозитория: передает скан клиента в reader так же, как результат запроса
+    private void stubScan(Long clientId, byte[] scan) throws SQLException, IOException {
+        when(clientRepositoryImpl.readLegacyPassportScan(eq(clientId), any())).thenAnswer(invocation -> {
+            ClientRepositoryImpl.ScanReader<?> reader = invocation.getArgument(1);
+            return Optional.of(reader.read(new ByteArrayInputStream(scan)));
+        });
+    }
+
+    @Test
+    void run_MovesScansInBatchesAfterLastClientId() throws SQLException, IOException {
+        // Arrange
+        when(clientRepositoryImpl.findLegacyPassportScanIds(0L, 2)).thenReturn(List.of(3L, 7L));
+        when(clientRepositoryImpl.findLegacyPassportScanIds(7L, 2)).thenReturn(List.of(9L));
+        when(clientRepositoryImpl.findLegacyPassportScanIds(9L, 2)).thenReturn(List.of());
+        stubScan(3L, new byte[]{1});
+        stubScan(7L, new byte[]{2});
+        stubScan(9L, new byte[]{3});
+        when(documentStore.put(any())).thenReturn("a".repeat(64), "b".repeat(64), "c".repeat(64));
+        when(clientRepositoryImpl.movePassportScansToStore(any())).thenReturn(2, 1);
+
+        // Act
+        long moved = new PassportScanMigrationJob(clientRepositoryImpl, documentStore, 2).run();
+
+        // Assert
+        assertEquals(3, moved);
+        verify(clientRepositoryImpl).movePassportScansToStore(Map.of(3L, "a".repeat(64), 7L, "b".repeat(64)));
+        verify(clientRepositoryImpl).movePassportScansToStore(Map.of(9L, "c".repeat(64)));
+    }
+
+    @Test
+    void run_ScanReplacedMeanwhile_SkippedInBatch() throws SQLException, IOException {
+        // Arrange
+        when(clientRepositoryImpl.findLegacyPassportScanIds(0L, 2)).thenReturn(List.of(3L, 7L));
+        when(clientRepositoryImpl.findLegacyPassportScanIds(7L, 2)).thenReturn(List.of());
+        when(clientRepositoryImpl.readLegacyPassportScan(eq(3L), any())).thenReturn(Optional.empty());
+        stubScan(7L, new byte[]{2});
+        when(documentStore.put(any())).thenReturn("b".repeat(64));
+        when(clientRepositoryImpl.movePassportScansToStore(any())).thenReturn(1);
+
+        // Act
+        long moved = new PassportScanMigrationJob(clientRepositoryImpl, documentStore, 2).run();
+
+        // Assert
+        assertEquals(1, moved);
+        verify(clientRepositoryImpl).movePassportScansToStore(Map.of(7L, "b".repeat(64)));
+    }
+
+    @Test
+    void run_StoreFailure_LeavesBatchInDatabase() throws SQLException, IOException {
+        // Arrange
+        when(clientRepositoryImpl.findLegacyPassportScanIds(0L, 2)).thenReturn(List.of(3L));
+        stubScan(3L, new byte[]{1});
+        when(documentStore.put(any())).thenThrow(new IOException("No space left on device"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> new PassportScanMigrationJob(clientRepositoryImpl, documentStore, 2).run());
+        verify(clientRepositoryImpl, never()).movePassportScansToStore(any());
+    }
+}
@@ -2,8 +2,13 @@ package service;
 
 import com.bankapp.enums.Currency;
 import com.bankapp.enums.TransactionType;
+import com.bankapp.model.Money;
 import com.bankapp.model.Transaction;
+import com.bankapp.model.TransactionFilter;
+import com.bankapp.repository.DailyBalanceRepository;
 import com.bankapp.repository.TransactionRepositoryImpl;
+import com.bankapp.service.CardinalityService;
+import com.bankapp.service.RowCount;
 import com.bankapp.service.TransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +31,12 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepositoryImpl transactionRepositoryImpl;
 
+    @Mock
+    private CardinalityService cardinalityService;
+
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -36,8 +47,7 @@ class TransactionServiceTest {
         transaction = new Transaction();
         transaction.setFromAccount(1L);
         transaction.setToAccount(2L);
-        transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setCurrency(Currency.USD);
+        transaction.setAmount(Money.of(new BigDecimal("100.00"), Currency.USD));
         transaction.setStatus(TransactionType.TRANSFER);
     }
 
@@ -47,10 +57,12 @@ class TransactionServiceTest {
         doNothing().when(transactionRepositoryImpl).save(transaction);
 
         // Act
-        transactionService.createTransaction(1L, 2L, TransactionType.TRANSFER, new BigDecimal("100.00"), Currency.USD);
+        transactionService.createTransaction(1L, 2L, TransactionType.TRANSFER, Money.of(new BigDecimal("100.00"), Currency.USD));
 
         // Assert
         verify(transactionRepositoryImpl, times(1)).save(any(Transaction.class));
+        verify(dailyBalanceRepository, times(1)).addTurnovers(argThat(list -> list.size() == 1));
+        verify(cardinalityService, times(1)).transactionsCreated(1);
     }
 
     @Test
@@ -79,4 +91,32 @@ class TransactionServiceTest {
         assertTrue(result.isEmpty());
         verify(transactionRepositoryImpl, times(1)).findAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    void countTransactions_FilteredCountIsExactBelowLimit() throws SQLException {
+        // Arrange
+        TransactionFilter filter = TransactionFilter.forAccount(7L);
+        when(transactionRepositoryImpl.count(filter, 10_001)).thenReturn(42);
+
+        // Act
+        RowCount rowCount = transactionService.countTransactions(filter);
+
+        // Assert
+        assertEquals(42L, rowCount.getValue());
+        assertTrue(rowCount.isExact());
+        verifyNoInteractions(cardinalityService);
+    }
+
+    @Test
+    void countTransactions_EmptyFilterUsesTableCounter() throws SQLException {
+        // Arrange
+        when(cardinalityService.countTransactions()).thenReturn(new RowCount(1_000_000, false));
+
+        // Act
+        RowCount rowCount = transactionService.countTransactions(new TransactionFilter());
+
+        // Assert
+        assertFalse(rowCount.isExact());
+        verify(transactionRepositoryImpl, never()).count(any(TransactionFilter.class), anyInt());
+    }
+}
@@ -0,0 +1,109 @@
+package storage;
+
+import com.bankapp.storage.FileSystemDocumentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSystemDocumentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private FileSystemDocumentStore documentStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        documentStore = new FileSystemDocumentStore(directory);
+    }
+
+    private static ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void put_SameContentStoredOnce() throws IOException {
+        // Act
+        String first = documentStore.put(content("скан паспорта"));
+        String second = documentStore.put(content("скан паспорта"));
+        String other = documentStore.put(content("другой скан"));
+
+        // Assert
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals(2, storedFiles());
+        assertTrue(Files.exists(directory.resolve(first.substring(0, 2)).resolve(first.substring(2, 4)).resolve(first)));
+    }
+
+    @Test
+    void put_ConcurrentWritersLeaveCompleteFileAndNoTemporaryFiles() throws Exception {
+        // Arrange
+        String text = "x".repeat(1 << 20);
+        List<Callable<String>> writers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            writers.add(() -> documentStore.put(content(text)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<String> references = new ArrayList<>();
+        try {
+            for (Future<String> result : executor.invokeAll(writers)) {
+                references.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, references.stream().distinct().count());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(documentStore.copyTo(references.get(0), out));
+        assertEquals(text, out.toString(StandardCharsets.UTF_8));
+        try (Stream<Path> temporary = Files.list(directory.resolve("tmp"))) {
+            assertEquals(0, temporary.count());
+        }
+    }
+
+    @Test
+    void copyTo_MissingDocumentReturnsFalse() throws IOException {
+        // Arrange
+        String reference = "0".repeat(64);
+
+        // Act & Assert
+        assertFalse(documentStore.exists(reference));
+        assertFalse(documentStore.copyTo(reference, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void resolve_RejectsReferenceOutsideStore() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> documentStore.exists("../" + "0".repeat(61)));
+        assertThrows(IllegalArgumentException.class, () -> documentStore.exists("A".repeat(64)));
+        assertThrows(IllegalArgumentException.class, () -> documentStore.exists(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> documentStore.copyTo("tmp", new ByteArrayOutputStream()));
+    }
+}
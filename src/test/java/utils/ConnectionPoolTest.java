@@ -0,0 +1,207 @@
+package utils;
+
+import com.bankapp.utils.ConnectionPool;
+import com.bankapp.utils.PoolStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolTest {
+
+    private static final String URL = "jdbc:pooltest:bank";
+
+    private TestDriver driver;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        driver = new TestDriver();
+        DriverManager.registerDriver(driver);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (pool != null) {
+            pool.close();
+        }
+        DriverManager.deregisterDriver(driver);
+    }
+
+    private ConnectionPool pool(int maxSize, long connectionTimeoutMs, long leakDetectionThresholdMs) {
+        pool = new ConnectionPool(URL, new Properties(), maxSize, connectionTimeoutMs, 1,
+                leakDetectionThresholdMs, 0, 0);
+        return pool;
+    }
+
+    @Test
+    void getConnection_ReturnedConnectionIsReused() throws SQLException {
+        // Arrange
+        ConnectionPool pool = pool(2, 1_000, 0);
+
+        // Act
+        Connection first = pool.getConnection();
+        first.close();
+        Connection second = pool.getConnection();
+        second.close();
+
+        // Assert
+        assertEquals(1, driver.connections.size());
+        assertEquals(1, pool.getStatistics().getCreated());
+        assertEquals(2, pool.getStatistics().getBorrowed());
+        verify(driver.connections.get(0), never()).close();
+    }
+
+    @Test
+    void getConnection_TimesOutWhenAllConnectionsAreBorrowed() throws SQLException {
+        // Arrange
+        ConnectionPool pool = pool(1, 50, 0);
+        Connection borrowed = pool.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+        assertEquals(1, pool.getStatistics().getTimeouts());
+        borrowed.close();
+        assertDoesNotThrow(() -> pool.getConnection().close());
+    }
+
+    @Test
+    void release_ConnectionWithConnectionErrorIsDiscarded() throws SQLException {
+        // Arrange
+        ConnectionPool pool = pool(1, 1_000, 0);
+        Connection connection = pool.getConnection();
+        Connection physical = driver.connections.get(0);
+        doThrow(new SQLException("Соединение разорвано", "08006")).when(physical).commit();
+
+        // Act
+        assertThrows(SQLException.class, connection::commit);
+        connection.close();
+        pool.getConnection().close();
+
+        // Assert
+        verify(physical).close();
+        assertEquals(2, driver.connections.size());
+        assertEquals(2, pool.getStatistics().getCreated());
+    }
+
+    @Test
+    void release_OtherErrorsKeepConnectionInPool() throws SQLException {
+        // Arrange
+        ConnectionPool pool = pool(1, 1_000, 0);
+        Connection connection = pool.getConnection();
+        Connection physical = driver.connections.get(0);
+        doThrow(new SQLException("Нарушение ограничения", "23505")).when(physical).commit();
+
+        // Act
+        assertThrows(SQLException.class, connection::commit);
+        connection.close();
+        pool.getConnection().close();
+
+        // Assert
+        verify(physical, never()).close();
+        assertEquals(1, driver.connections.size());
+    }
+
+    @Test
+    void release_OpenTransactionIsRolledBackBeforeReuse() throws SQLException {
+        // Arrange
+        ConnectionPool pool = pool(1, 1_000, 0);
+        Connection connection = pool.getConnection();
+        Connection physical = driver.connections.get(0);
+        when(physical.getAutoCommit()).thenReturn(false);
+
+        // Act
+        connection.setAutoCommit(false);
+        connection.close();
+
+        // Assert
+        verify(physical).rollback();
+        verify(physical).setAutoCommit(true);
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+
+    @Test
+    void housekeeping_LeakIsReportedAndConnectionReclaimedOnClose() throws Exception {
+        // Arrange
+        ConnectionPool pool = pool(1, 50, 10);
+        Connection leaked = pool.getConnection();
+
+        // Act
+        // Проверка утечек выполняется раз в несколько секунд
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pool.getStatistics().getLeaks() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        PoolStatistics whileLeaked = pool.getStatistics();
+        leaked.close();
+
+        // Assert
+        assertEquals(1, whileLeaked.getLeaks());
+        assertEquals(1, whileLeaked.getActive());
+        assertDoesNotThrow(() -> pool.getConnection().close());
+        assertEquals(0, pool.getStatistics().getActive());
+        assertEquals(1, driver.connections.size());
+    }
+
+    // Драйвер для URL jdbc:pooltest:, выдающий новые заглушки соединений
+    private static final class TestDriver implements Driver {
+        private final List<Connection> connections = new ArrayList<>();
+
+        @Override
+        public synchronized Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            Connection connection = mock(Connection.class);
+            connections.add(connection);
+            return connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith("jdbc:pooltest:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package utils;
+
+import com.bankapp.utils.StatementCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCacheTest {
+
+    private static final String SELECT_ACCOUNT = "SELECT * FROM accounts WHERE id = ?";
+    private static final String SELECT_CLIENT = "SELECT * FROM clients WHERE id = ?";
+
+    @Mock
+    private Connection physical;
+
+    @Mock
+    private Connection owner;
+
+    @Mock
+    private PreparedStatement accountStatement;
+
+    @Mock
+    private PreparedStatement clientStatement;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private StatementCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StatementCache(physical, 1, hits, misses);
+    }
+
+    @Test
+    void prepare_ReturnedStatementIsReusedForSameSql() throws SQLException {
+        // Arrange
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS)).thenReturn(accountStatement);
+
+        // Act
+        cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner).close();
+        PreparedStatement second = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+        second.setLong(1, 7L);
+
+        // Assert
+        verify(physical, times(1)).prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS);
+        verify(accountStatement).clearParameters();
+        verify(accountStatement).setLong(1, 7L);
+        verify(accountStatement, never()).close();
+        assertEquals(1, hits.sum());
+        assertEquals(1, misses.sum());
+    }
+
+    @Test
+    void prepare_StatementInUseIsNotSharedBetweenCallers() throws SQLException {
+        // Arrange
+        PreparedStatement nested = mock(PreparedStatement.class);
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS))
+                .thenReturn(accountStatement, nested);
+
+        // Act
+        PreparedStatement outer = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+        PreparedStatement inner = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+        inner.close();
+        outer.close();
+
+        // Assert
+        assertEquals(2, misses.sum());
+        // В кэше остается одно выражение на SQL, второе закрывается
+        verify(nested, never()).close();
+        verify(accountStatement).close();
+    }
+
+    @Test
+    void release_LeastRecentlyUsedStatementIsEvictedOverMaxSize() throws SQLException {
+        // Arrange
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS)).thenReturn(accountStatement);
+        when(physical.prepareStatement(SELECT_CLIENT, Statement.NO_GENERATED_KEYS)).thenReturn(clientStatement);
+
+        // Act
+        cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner).close();
+        cache.prepare(SELECT_CLIENT, Statement.NO_GENERATED_KEYS, owner).close();
+
+        // Assert
+        verify(accountStatement).close();
+        verify(clientStatement, never()).close();
+    }
+
+    @Test
+    void release_OpenResultSetIsClosedBeforeCaching() throws SQLException {
+        // Arrange
+        ResultSet resultSet = mock(ResultSet.class);
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS)).thenReturn(accountStatement);
+        when(accountStatement.executeQuery()).thenReturn(resultSet);
+        when(accountStatement.getResultSet()).thenReturn(resultSet);
+
+        // Act
+        PreparedStatement statement = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+        statement.executeQuery();
+        statement.close();
+
+        // Assert
+        verify(resultSet).close();
+        verify(accountStatement, never()).close();
+    }
+
+    @Test
+    void release_GeneratedKeysAreClosedBeforeCaching() throws SQLException {
+        // Arrange
+        ResultSet keys = mock(ResultSet.class);
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.RETURN_GENERATED_KEYS)).thenReturn(accountStatement);
+        when(accountStatement.getGeneratedKeys()).thenReturn(keys);
+
+        // Act
+        cache.prepare(SELECT_ACCOUNT, Statement.RETURN_GENERATED_KEYS, owner).close();
+
+        // Assert
+        verify(keys).close();
+    }
+
+    @Test
+    void getConnection_ReturnsPooledHandleNotPhysicalConnection() throws SQLException {
+        // Arrange
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS)).thenReturn(accountStatement);
+
+        // Act
+        PreparedStatement statement = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+
+        // Assert
+        assertSame(owner, statement.getConnection());
+        verify(accountStatement, never()).getConnection();
+    }
+
+    @Test
+    void close_SecondCloseDoesNotReturnStatementTwice() throws SQLException {
+        // Arrange
+        when(physical.prepareStatement(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS)).thenReturn(accountStatement);
+        PreparedStatement statement = cache.prepare(SELECT_ACCOUNT, Statement.NO_GENERATED_KEYS, owner);
+
+        // Act
+        statement.close();
+        statement.close();
+
+        // Assert
+        assertTrue(statement.isClosed());
+        assertThrows(SQLException.class, statement::executeQuery);
+        verify(accountStatement, times(1)).clearParameters();
+    }
+}